@@ -0,0 +1,28 @@
+package com.api.taskmanager.benchmark;
+
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+
+import java.time.LocalDate;
+
+final class BenchmarkTasks {
+
+    private BenchmarkTasks() {
+    }
+
+    static Task task(Long id, Status status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Prepare quarterly report");
+        task.setDescription("Collect the numbers from every team and summarise them for the board");
+        task.setStatus(status);
+        task.setDueDate(LocalDate.of(2030, 1, 15));
+        task.setVersion(3L);
+        return task;
+    }
+
+    static String text(int length) {
+        String words = "Collect the numbers from every team and summarise them for the board. ";
+        return words.repeat(length / words.length() + 1).substring(0, length);
+    }
+}
@@ -0,0 +1,69 @@
+package com.api.taskmanager.benchmark;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Stands in for Redis so the real RedisCache serialization path runs without a server.
+class InMemoryRedisCacheWriter implements RedisCacheWriter {
+
+    private final Map<ByteBuffer, byte[]> store = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return store.get(ByteBuffer.wrap(key));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return CompletableFuture.completedFuture(get(name, key));
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        store.put(ByteBuffer.wrap(key), value);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        put(name, key, value, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return store.putIfAbsent(ByteBuffer.wrap(key), value);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        store.remove(ByteBuffer.wrap(key));
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        String prefix = new String(pattern, StandardCharsets.UTF_8).replace("*", "");
+        store.keySet().removeIf(key -> StandardCharsets.UTF_8.decode(key.duplicate()).toString().startsWith(prefix));
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return this;
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return CacheStatisticsCollector.none().getCacheStatistics(cacheName);
+    }
+}
@@ -0,0 +1,147 @@
+package com.api.taskmanager.benchmark;
+
+import com.api.taskmanager.cache.TaskPageCache;
+import com.api.taskmanager.config.JpaConfig;
+import com.api.taskmanager.dto.BatchResultDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.service.TaskBatchService;
+import com.api.taskmanager.service.TaskService;
+import com.api.taskmanager.service.impl.TaskBatchServiceImpl;
+import com.api.taskmanager.service.impl.TaskServiceImpl;
+import com.api.taskmanager.state.TaskBulkTransition;
+import com.api.taskmanager.state.TaskStateMachine;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Tasks created per second through one batch createAll against the same tasks created one request at a time.
+// TaskBatchServiceImplJdbcTest pins the statement count, this measures what the fewer round trips are worth.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskBatchCreateBenchmark {
+
+    private static final int BATCH = 100;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskBatchService batchService;
+    private JdbcTemplate jdbc;
+    private List<TaskRequestDTO> dtos;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "spring.datasource.url=jdbc:h2:mem:batch;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=create-drop")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        batchService = context.getBean(TaskBatchService.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        Jwt jwt = Jwt.withTokenValue("benchmark").header("alg", "none")
+                .subject("benchmark").claim("tenant", "benchmark").build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+        LocalDate dueDate = LocalDate.now().plusDays(30);
+        dtos = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            dtos.add(new TaskRequestDTO("Task " + i, BenchmarkTasks.text(64), dueDate));
+        }
+    }
+
+    // both paths only ever insert, so the table is emptied between iterations to keep them comparable
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbc.execute("delete from tasks");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public BatchResultDTO batch() {
+        return batchService.createAll(dtos);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void single(Blackhole blackhole) {
+        for (TaskRequestDTO dto : dtos) {
+            blackhole.consume(taskService.create(dto));
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    @Import({JpaConfig.class, TenantResolver.class, TaskServiceImpl.class, TaskBatchServiceImpl.class,
+            TaskBulkTransition.class, TaskMapper.class, TaskStateMachine.class})
+    static class BenchmarkApplication {
+
+        @Bean
+        TaskPageCache taskPageCache() {
+            return TaskPageCache.disabled();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+    }
+}
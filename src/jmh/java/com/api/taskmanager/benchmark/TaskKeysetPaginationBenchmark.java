@@ -0,0 +1,156 @@
+package com.api.taskmanager.benchmark;
+
+import com.api.taskmanager.config.JpaConfig;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.tenant.TenantResolver;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Page 1 and page 10,000 of one tenant's due-date listing, by keyset and by offset. Query and entity caches are
+// off, and so is H2's command cache, which would otherwise hand back the previous result of an identical query.
+// H2 does not read idx_tasks_tenant_due_date_id in order under a tenant_id equality, so every page sorts the
+// rows its predicate matches: the keyset page gets cheaper with depth, the offset page never does. Postgres
+// walks the index in order and keeps keyset pages flat.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskKeysetPaginationBenchmark {
+
+    private static final String TENANT = "benchmark";
+    private static final int PAGE_SIZE = 20;
+    private static final int ROWS = 10_000 * PAGE_SIZE + PAGE_SIZE;
+    private static final Status[] STATUSES = Status.values();
+
+    @Param({"1", "10000"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository repository;
+    private EntityManager entityManager;
+    private LocalDate afterDueDate;
+    private long afterId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "spring.datasource.url=jdbc:h2:mem:keyset;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;QUERY_CACHE_SIZE=0",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false")
+                .run();
+        repository = context.getBean(TaskRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        insert(jdbc);
+
+        // run as the tenant, so both queries lead with tenant_id and can walk idx_tasks_tenant_due_date_id
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        Jwt jwt = Jwt.withTokenValue("benchmark").header("alg", "none")
+                .subject("benchmark").claim("tenant", TENANT).build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+        // the cursor is the last row of the page before, page 1 starts before every row
+        if (page == 1) {
+            afterDueDate = LocalDate.of(1970, 1, 1);
+            afterId = 0;
+        } else {
+            Map<String, Object> last = jdbc.queryForMap(
+                    "select due_date, id from tasks order by due_date, id offset ? rows fetch next 1 row only",
+                    (page - 1) * PAGE_SIZE - 1);
+            afterDueDate = ((Date) last.get("DUE_DATE")).toLocalDate();
+            afterId = ((Number) last.get("ID")).longValue();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public List<Task> keyset() {
+        return repository.findPageAfterDueDate(afterDueDate, afterId, Limit.of(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Task> offset() {
+        return entityManager.createQuery("select t from Task t order by t.dueDate, t.id", Task.class)
+                .setFirstResult((page - 1) * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+
+    // plain JDBC batches, two hundred thousand rows through the entity manager would dominate the trial
+    private static void insert(JdbcTemplate jdbc) {
+        LocalDate start = LocalDate.of(2030, 1, 1);
+        List<Object[]> rows = new ArrayList<>(10_000);
+        for (long id = 1; id <= ROWS; id++) {
+            rows.add(new Object[]{id, TENANT, "Task " + id, Date.valueOf(start.plusDays(id % 365)),
+                    STATUSES[(int) (id % STATUSES.length)].name(), id});
+            if (rows.size() == 10_000 || id == ROWS) {
+                jdbc.batchUpdate("""
+                        insert into tasks (id, tenant_id, title, due_date, status, version, change_seq)
+                        values (?, ?, ?, ?, ?, 0, ?)
+                        """, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    @Import({JpaConfig.class, TenantResolver.class})
+    static class BenchmarkApplication {
+    }
+}
@@ -0,0 +1,125 @@
+package com.api.taskmanager.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against a running instance: every connection keeps exactly one request in flight
+ * for the whole run, alternating task reads and first-page listings.
+ * <p>
+ * Start the app once on platform threads and once with {@code spring.threads.virtual.enabled=true}
+ * (built with {@code -Pjava21}), and run this against each to compare throughput and p99.
+ * <p>
+ * Arguments: base url, bearer token, comma separated connection counts, duration per step (ISO-8601).
+ */
+public final class TaskLoadTest {
+
+    private static final int KNOWN_IDS = 100;
+
+    private TaskLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args[0];
+        String token = args[1];
+        int[] steps = Arrays.stream(args[2].split(",")).mapToInt(step -> Integer.parseInt(step.trim())).toArray();
+        Duration duration = Duration.parse(args[3]);
+
+        System.out.printf("%-12s %12s %12s %10s %10s %8s%n", "connections", "requests", "req/s", "p50 ms", "p99 ms", "errors");
+        for (int connections : steps) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            Result result = new Step(client, baseUrl, token, connections, duration).run();
+            System.out.printf("%-12d %12d %12.0f %10.1f %10.1f %8d%n", connections, result.requests(),
+                    result.requests() / (double) duration.toSeconds(),
+                    result.percentile(0.50), result.percentile(0.99), result.errors());
+        }
+    }
+
+    private record Result(long[] latencies, long requests, long errors) {
+
+        double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private static final class Step {
+
+        private final HttpClient client;
+        private final String baseUrl;
+        private final String token;
+        private final int connections;
+        private final Duration duration;
+        private final AtomicLong errors = new AtomicLong();
+        private volatile boolean running = true;
+
+        private Step(HttpClient client, String baseUrl, String token, int connections, Duration duration) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.token = token;
+            this.connections = connections;
+            this.duration = duration;
+        }
+
+        Result run() throws Exception {
+            List<List<Long>> latencies = new ArrayList<>(connections);
+            List<CompletableFuture<Void>> loops = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                List<Long> samples = new ArrayList<>();
+                latencies.add(samples);
+                loops.add(next(samples));
+            }
+            Thread.sleep(duration.toMillis());
+            running = false;
+            CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+
+            long[] all = latencies.stream().flatMap(List::stream).mapToLong(Long::longValue).sorted().toArray();
+            return new Result(all, all.length, errors.get());
+        }
+
+        // each sample list is only touched by the callbacks of its own loop, one at a time
+        private CompletableFuture<Void> next(List<Long> samples) {
+            if (!running) {
+                return CompletableFuture.completedFuture(null);
+            }
+            long start = System.nanoTime();
+            return client.sendAsync(request(), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        if (failure != null || response.statusCode() >= 500) {
+                            errors.incrementAndGet();
+                        } else {
+                            samples.add(System.nanoTime() - start);
+                        }
+                        return samples;
+                    })
+                    .thenCompose(this::next);
+        }
+
+        private HttpRequest request() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String path = random.nextBoolean()
+                    ? "/api/tasks/" + (random.nextInt(KNOWN_IDS) + 1)
+                    : "/api/tasks?page=0&size=20";
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+        }
+    }
+}
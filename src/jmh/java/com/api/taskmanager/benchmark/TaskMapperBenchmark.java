@@ -0,0 +1,49 @@
+package com.api.taskmanager.benchmark;
+
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    private final TaskMapper mapper = new TaskMapper();
+
+    private Task task;
+    private TaskRequestDTO request;
+
+    @Setup
+    public void setup() {
+        task = BenchmarkTasks.task(1L, Status.IN_PROGRESS);
+        request = new TaskRequestDTO(task.getTitle(), task.getDescription(), task.getDueDate());
+    }
+
+    @Benchmark
+    public TaskResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(task);
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return mapper.toEntity(request);
+    }
+}
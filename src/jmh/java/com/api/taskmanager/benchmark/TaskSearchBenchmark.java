@@ -0,0 +1,129 @@
+package com.api.taskmanager.benchmark;
+
+import com.api.taskmanager.pagination.SearchCursor;
+import com.api.taskmanager.search.PostgresTaskSearchIndex;
+import com.api.taskmanager.search.TaskSearchHit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranked, highlighted search over a few million tasks in Postgres, through the GIN index on search_vector.
+ * <p>
+ * Needs a running Postgres: {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.user} and
+ * {@code -Dbenchmark.jdbc.password}. Rows are generated in a schema of their own with generate_series and
+ * kept between runs, a second run with the same row count skips the load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    private static final String SCHEMA = "search_benchmark";
+    private static final int TENANTS = 100;
+    private static final int PAGE = 21;
+
+    @Param({"1000000", "3000000"})
+    public int rows;
+
+    private SingleConnectionDataSource dataSource;
+    private PostgresTaskSearchIndex index;
+    private SearchCursor secondPage;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/taskmanager"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"),
+                true);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create schema if not exists " + SCHEMA);
+        jdbc.execute("set search_path to " + SCHEMA);
+        load(jdbc);
+        index = new PostgresTaskSearchIndex(new NamedParameterJdbcTemplate(jdbc));
+        List<TaskSearchHit> first = index.search("tenant-7", "report budget", null, PAGE);
+        secondPage = SearchCursor.after(first.get(first.size() - 2));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<TaskSearchHit> tenantFirstPage() {
+        return index.search("tenant-7", "report budget", null, PAGE);
+    }
+
+    @Benchmark
+    public List<TaskSearchHit> tenantSecondPage() {
+        return index.search("tenant-7", "report budget", secondPage, PAGE);
+    }
+
+    @Benchmark
+    public List<TaskSearchHit> tenantSelectiveTerm() {
+        return index.search("tenant-7", "invoice audit supplier", null, PAGE);
+    }
+
+    // every tenant's partition is searched, the common term matches a large share of all rows
+    @Benchmark
+    public List<TaskSearchHit> allTenantsCommonTerm() {
+        return index.search(null, "report", null, PAGE);
+    }
+
+    private void load(JdbcTemplate jdbc) throws SQLException {
+        boolean exists = Boolean.TRUE.equals(jdbc.queryForObject(
+                "select to_regclass('" + SCHEMA + ".tasks') is not null", Boolean.class));
+        if (exists && jdbc.queryForObject("select count(*) from tasks", Integer.class) == rows) {
+            return;
+        }
+        jdbc.execute("drop table if exists tasks, task_outbox, task_tombstones cascade");
+        jdbc.execute("drop sequence if exists tasks_seq, task_change_seq, task_outbox_seq");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/postgres/tasks_partitioned.sql"));
+        }
+        // titles and descriptions drawn from small vocabularies, so term frequencies look like real task text
+        jdbc.update("""
+                insert into tasks (id, tenant_id, title, description, due_date, status, version, change_seq)
+                select g,
+                       'tenant-' || (g % ?),
+                       w[1 + (g * 7) % 24] || ' ' || w[1 + (g * 13) % 24] || ' ' || w[1 + (g * 31) % 24],
+                       w[1 + (g * 17) % 24] || ' the ' || w[1 + (g * 3) % 24] || ' for the ' || w[1 + (g * 11) % 24]
+                           || ' and ' || w[1 + (g * 29) % 24] || ' before ' || w[1 + (g * 37) % 24],
+                       date '2030-01-01' + (g % 365),
+                       (array['PENDING', 'IN_PROGRESS', 'DONE', 'CANCELED'])[1 + g % 4],
+                       0,
+                       g
+                from generate_series(1, ?) g,
+                     (select array['report', 'budget', 'meeting', 'review', 'invoice', 'deploy', 'release',
+                                   'customer', 'audit', 'supplier', 'contract', 'hiring', 'roadmap', 'design',
+                                   'migration', 'backup', 'security', 'training', 'quarterly', 'forecast',
+                                   'support', 'onboarding', 'renewal', 'survey'] as w) words
+                """, TENANTS, rows);
+        jdbc.execute("analyze tasks");
+    }
+}
@@ -0,0 +1,87 @@
+package com.api.taskmanager.benchmark;
+
+import com.api.taskmanager.cache.CacheValueFormat;
+import com.api.taskmanager.config.RedisConfig;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+// Uses the serializer RedisConfig installs for the taskById cache, once per value format.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    @Param({"JSON", "BINARY"})
+    public CacheValueFormat format;
+
+    @Param({"70", "2000"})
+    public int descriptionLength;
+
+    private RedisSerializationContext.SerializationPair<Object> serializer;
+    private TaskResponseDTO dto;
+    private ByteBuffer serialized;
+
+    @Setup
+    public void setup() {
+        serializer = RedisConfig.cacheConfigurations(RedisConfig.cacheDefaults(format, 512))
+                .get("taskById")
+                .getValueSerializationPair();
+        Task task = BenchmarkTasks.task(1L, Status.PENDING);
+        task.setDescription(BenchmarkTasks.text(descriptionLength));
+        dto = new TaskMapper().toResponseDTO(task);
+        serialized = serializer.write(dto);
+    }
+
+    @Benchmark
+    public ByteBuffer serialize() {
+        return serializer.write(dto);
+    }
+
+    // A single shot, so the size counter is reported once rather than summed over iterations.
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public ByteBuffer entrySize(EntrySize size) {
+        ByteBuffer bytes = serializer.write(dto);
+        size.bytes = bytes.remaining();
+        return bytes;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.read(serialized.duplicate());
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EntrySize {
+
+        int bytes;
+
+        public int bytesPerEntry() {
+            return bytes;
+        }
+    }
+}
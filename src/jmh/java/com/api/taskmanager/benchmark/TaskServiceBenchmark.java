@@ -0,0 +1,136 @@
+package com.api.taskmanager.benchmark;
+
+import com.api.taskmanager.cache.InMemoryCacheInvalidationBus;
+import com.api.taskmanager.cache.TaskPageCache;
+import com.api.taskmanager.cache.TwoTierCacheManager;
+import com.api.taskmanager.config.JpaConfig;
+import com.api.taskmanager.config.RedisConfig;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.service.TaskService;
+import com.api.taskmanager.service.impl.TaskServiceImpl;
+import com.api.taskmanager.state.TaskStateMachine;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// End-to-end findById through the caching proxy, backed by H2 and an in-memory Redis cache writer.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TaskService service;
+    private Cache cache;
+    private Long id;
+    private String key;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=create-drop")
+                .run();
+        service = context.getBean(TaskService.class);
+        cache = context.getBean(TwoTierCacheManager.class).getCache("taskById");
+
+        Task task = BenchmarkTasks.task(null, Status.PENDING);
+        task.setVersion(null);
+        id = context.getBean(TaskRepository.class).save(task).getId();
+        // runs as root, so the key carries the root tenant
+        key = context.getBean(TenantResolver.class).cacheKey(id);
+        service.findById(id);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponseDTO findByIdCacheHit() {
+        return service.findById(id);
+    }
+
+    @Benchmark
+    public TaskResponseDTO findByIdCacheMiss() {
+        // the eviction is part of the measured time, it is cheap next to the query it forces
+        cache.evict(key);
+        return service.findById(id);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class
+    })
+    @EnableCaching
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    @Import({JpaConfig.class, TaskServiceImpl.class, TaskMapper.class, TaskStateMachine.class})
+    static class BenchmarkApplication {
+
+        @Bean
+        TwoTierCacheManager cacheManager() {
+            RedisCacheConfiguration defaults = RedisConfig.cacheDefaults();
+            RedisCacheManager remote = new RedisCacheManager(new InMemoryRedisCacheWriter(), defaults,
+                    RedisConfig.cacheConfigurations(defaults));
+            remote.afterPropertiesSet();
+            return new TwoTierCacheManager(remote, new InMemoryCacheInvalidationBus(),
+                    Set.of("taskById"), 10_000, Duration.ofSeconds(30));
+        }
+
+        // by name, the taskById keys refer to @tenantResolver
+        @Bean
+        TenantResolver tenantResolver() {
+            return new TenantResolver("tenant");
+        }
+
+        @Bean
+        TaskPageCache taskPageCache() {
+            return TaskPageCache.disabled();
+        }
+    }
+}
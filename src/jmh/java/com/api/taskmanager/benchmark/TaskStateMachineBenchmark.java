@@ -0,0 +1,68 @@
+package com.api.taskmanager.benchmark;
+
+import com.api.taskmanager.exception.InvalidTaskStateException;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.state.TaskStateMachine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskStateMachineBenchmark {
+
+    private final TaskStateMachine state = new TaskStateMachine();
+
+    private Task task;
+
+    @Setup
+    public void setup() {
+        task = BenchmarkTasks.task(1L, Status.PENDING);
+    }
+
+    @Benchmark
+    public Status startThenDone() {
+        task.setStatus(Status.PENDING);
+        state.start(task);
+        state.done(task);
+        return task.getStatus();
+    }
+
+    @Benchmark
+    public Status cancel() {
+        task.setStatus(Status.IN_PROGRESS);
+        state.cancel(task);
+        return task.getStatus();
+    }
+
+    @Benchmark
+    public Object rejectedTransition() {
+        task.setStatus(Status.DONE);
+        try {
+            state.start(task);
+            return task;
+        } catch (InvalidTaskStateException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Set<Status> sourcesOf() {
+        return state.sourcesOf(Status.CANCELED);
+    }
+}
@@ -0,0 +1,152 @@
+package com.api.taskmanager.benchmark;
+
+import com.api.taskmanager.cache.TaskPageCache;
+import com.api.taskmanager.config.JpaConfig;
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.pagination.CursorOrder;
+import com.api.taskmanager.repository.StatusCount;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.service.TaskService;
+import com.api.taskmanager.service.impl.TaskServiceImpl;
+import com.api.taskmanager.state.TaskStateMachine;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// One tenant's first page and status counts while the number of tenants, and with it the total row count,
+// grows a hundredfold. Every query leads with tenant_id, so the time should stay flat across the params;
+// on Postgres the same queries are additionally pruned to the tenant's partition (db/postgres/tasks_partitioned.sql).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskTenantListingBenchmark {
+
+    private static final int ROWS_PER_TENANT = 200;
+    private static final Status[] STATUSES = Status.values();
+    private static final TaskFilterDTO OPEN = new TaskFilterDTO(List.copyOf(Status.open()), null, null, null, null);
+
+    @Param({"10", "100", "1000"})
+    public int tenants;
+
+    private ConfigurableApplicationContext context;
+    private TaskService service;
+    private TaskRepository repository;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "spring.datasource.url=jdbc:h2:mem:tenants;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=create-drop")
+                .run();
+        service = context.getBean(TaskService.class);
+        repository = context.getBean(TaskRepository.class);
+        insert(context.getBean(JdbcTemplate.class));
+
+        // the benchmark threads are not the setup thread, so the tenant has to be visible to all of them
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        Jwt jwt = Jwt.withTokenValue("benchmark").header("alg", "none")
+                .subject("benchmark").claim("tenant", tenant(tenants / 2)).build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPageDTO<TaskResponseDTO> firstOpenPageByDueDate() {
+        return service.findAll(OPEN, null, 20, CursorOrder.DUE_DATE, false);
+    }
+
+    @Benchmark
+    public List<StatusCount> countByStatus() {
+        return repository.countByStatus();
+    }
+
+    // plain JDBC batches, a hundred thousand rows through the entity manager would dominate the trial
+    private void insert(JdbcTemplate jdbc) {
+        LocalDate start = LocalDate.of(2030, 1, 1);
+        List<Object[]> rows = new ArrayList<>(ROWS_PER_TENANT);
+        long id = 0;
+        for (int tenant = 0; tenant < tenants; tenant++) {
+            for (int row = 0; row < ROWS_PER_TENANT; row++) {
+                id++;
+                rows.add(new Object[]{id, tenant(tenant), "Task " + id, Date.valueOf(start.plusDays(row % 90)),
+                        STATUSES[row % STATUSES.length].name(), id});
+            }
+            jdbc.batchUpdate("""
+                    insert into tasks (id, tenant_id, title, due_date, status, version, change_seq)
+                    values (?, ?, ?, ?, ?, 0, ?)
+                    """, rows);
+            rows.clear();
+        }
+    }
+
+    private static String tenant(int index) {
+        return "tenant-" + index;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    @Import({JpaConfig.class, TenantResolver.class, TaskServiceImpl.class, TaskMapper.class, TaskStateMachine.class})
+    static class BenchmarkApplication {
+
+        @Bean
+        TaskPageCache taskPageCache() {
+            return TaskPageCache.disabled();
+        }
+    }
+}
@@ -3,13 +3,21 @@ package com.api.taskmanager;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class TaskmanagerApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(TaskmanagerApplication.class, args);
+		SpringApplication application = new SpringApplication(TaskmanagerApplication.class);
+		application.setDefaultProperties(Map.of(
+				"management.endpoints.web.exposure.include", "health,prometheus"
+		));
+		application.run(args);
 	}
 
 }
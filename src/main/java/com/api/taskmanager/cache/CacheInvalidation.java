@@ -0,0 +1,12 @@
+package com.api.taskmanager.cache;
+
+public record CacheInvalidation(
+        String origin,
+        String cacheName,
+        String key
+){
+
+    public boolean isClear(){
+        return key == null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.api.taskmanager.cache;
+
+public interface CacheLoadLock {
+
+    CacheLoadLock NONE = new CacheLoadLock() {
+        @Override
+        public String tryLock(String cacheName, String key) {
+            return "";
+        }
+
+        @Override
+        public void unlock(String cacheName, String key, String token) {
+        }
+    };
+
+    // Returns a token to unlock with, or null when another node is already loading the key.
+    String tryLock(String cacheName, String key);
+
+    void unlock(String cacheName, String key, String token);
+}
@@ -0,0 +1,6 @@
+package com.api.taskmanager.cache;
+
+public enum CacheValueFormat {
+    JSON,
+    BINARY
+}
@@ -0,0 +1,38 @@
+package com.api.taskmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Collection;
+
+// Holds each scope's generation locally for a short ttl, so a page hit is one cache lookup instead of a
+// generation read followed by the lookup. Bumps made on this instance are seen at once, bumps made on
+// another instance once the local copy expires.
+public class CachedGenerationCounter implements GenerationCounter {
+
+    private final GenerationCounter delegate;
+    private final Cache<String, Long> generations;
+
+    public CachedGenerationCounter(GenerationCounter delegate, Duration ttl, long maxScopes) {
+        this.delegate = delegate;
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxScopes)
+                .build();
+    }
+
+    @Override
+    public long current(String scope) {
+        return generations.get(scope, delegate::current);
+    }
+
+    @Override
+    public void increment(Collection<String> scopes) {
+        try {
+            delegate.increment(scopes);
+        } finally {
+            generations.invalidateAll(scopes);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.api.taskmanager.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// Skips the remote cache while the breaker is open. Writes that could not reach it are remembered as
+// evictions and replayed once it is back, so entries written before the outage cannot come back stale.
+public class CircuitBreakingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheCircuitBreaker breaker;
+    private final int maxPendingEvictions;
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingClear = new AtomicBoolean();
+
+    public CircuitBreakingCache(Cache delegate, CacheCircuitBreaker breaker, int maxPendingEvictions) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.maxPendingEvictions = maxPendingEvictions;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (!breaker.tryAcquire()) {
+            return null;
+        }
+        return call(() -> delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        if (!breaker.tryAcquire()) {
+            return null;
+        }
+        return call(() -> delegate.get(key, type));
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (!breaker.tryAcquire()) {
+            try {
+                return valueLoader.call();
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+        }
+        return call(() -> delegate.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        write(key, () -> delegate.put(key, value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        write(key, () -> delegate.evict(key));
+    }
+
+    @Override
+    public void clear() {
+        if (!breaker.tryAcquire()) {
+            pendingClear.set(true);
+            return;
+        }
+        try {
+            call(() -> {
+                delegate.clear();
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            pendingClear.set(true);
+            throw ex;
+        }
+    }
+
+    void replayPending() {
+        try {
+            if (pendingClear.getAndSet(false)) {
+                pendingEvictions.clear();
+                delegate.clear();
+                return;
+            }
+            for (Object key : pendingEvictions) {
+                delegate.evict(key);
+                pendingEvictions.remove(key);
+            }
+        } catch (RuntimeException ex) {
+            breaker.onFailure();
+        }
+    }
+
+    int pendingEvictions() {
+        return pendingClear.get() ? -1 : pendingEvictions.size();
+    }
+
+    private void write(Object key, Runnable operation) {
+        if (!breaker.tryAcquire()) {
+            remember(key);
+            return;
+        }
+        try {
+            call(() -> {
+                operation.run();
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            remember(key);
+            throw ex;
+        }
+    }
+
+    private void remember(Object key) {
+        if (pendingEvictions.size() >= maxPendingEvictions) {
+            pendingClear.set(true);
+        } else {
+            pendingEvictions.add(key);
+        }
+    }
+
+    private <T> T call(Supplier<T> operation) {
+        try {
+            T result = operation.get();
+            breaker.onSuccess();
+            return result;
+        } catch (ValueRetrievalException ex) {
+            // the loader failed, not the remote cache, which answered the lookup and may close a probing breaker
+            breaker.onSuccess();
+            throw ex;
+        } catch (RuntimeException ex) {
+            breaker.onFailure();
+            throw ex;
+        }
+    }
+}
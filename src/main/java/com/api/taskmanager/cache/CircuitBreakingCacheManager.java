@@ -0,0 +1,41 @@
+package com.api.taskmanager.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CircuitBreakingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheCircuitBreaker breaker;
+    private final int maxPendingEvictions;
+    private final Map<String, CircuitBreakingCache> caches = new ConcurrentHashMap<>();
+
+    public CircuitBreakingCacheManager(CacheManager delegate, CacheCircuitBreaker breaker, int maxPendingEvictions) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.maxPendingEvictions = maxPendingEvictions;
+        breaker.onClose(() -> caches.values().forEach(CircuitBreakingCache::replayPending));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        CircuitBreakingCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new CircuitBreakingCache(target, breaker, maxPendingEvictions));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,50 @@
+package com.api.taskmanager.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+
+// A broken cache must never fail a request: log, count, and let the call go on to the database.
+@Slf4j
+public class FailOpenCacheErrorHandler implements CacheErrorHandler, MeterBinder {
+
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+        handle(cache, "get", key, exception);
+    }
+
+    @Override
+    public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+        handle(cache, "put", key, exception);
+    }
+
+    @Override
+    public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+        handle(cache, "evict", key, exception);
+    }
+
+    @Override
+    public void handleCacheClearError(RuntimeException exception, Cache cache) {
+        handle(cache, "clear", null, exception);
+    }
+
+    private void handle(Cache cache, String operation, Object key, RuntimeException exception) {
+        log.warn("Cache {} failed on {} for key {}: {}", cache.getName(), operation, key, exception.toString());
+        MeterRegistry current = registry;
+        if (current != null) {
+            current.counter("cache.errors",
+                    "cache", cache.getName(),
+                    "operation", operation,
+                    "exception", exception.getClass().getSimpleName()).increment();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.api.taskmanager.cache;
+
+import java.util.Collection;
+
+public interface GenerationCounter {
+
+    long current(String scope);
+
+    void increment(Collection<String> scopes);
+}
@@ -0,0 +1,22 @@
+package com.api.taskmanager.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InMemoryGenerationCounter implements GenerationCounter {
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public long current(String scope) {
+        AtomicLong generation = generations.get(scope);
+        return generation == null ? 0 : generation.get();
+    }
+
+    @Override
+    public void increment(Collection<String> scopes) {
+        scopes.forEach(scope -> generations.computeIfAbsent(scope, key -> new AtomicLong()).incrementAndGet());
+    }
+}
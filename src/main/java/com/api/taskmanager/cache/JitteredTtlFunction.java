@@ -0,0 +1,26 @@
+package com.api.taskmanager.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Spreads expiries over [ttl, ttl * (1 + jitter)) so entries written together do not all expire together.
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final long baseMillis;
+    private final long spreadMillis;
+
+    public JitteredTtlFunction(Duration ttl, double jitter) {
+        this.baseMillis = ttl.toMillis();
+        this.spreadMillis = (long) (baseMillis * Math.max(0, jitter));
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        if (spreadMillis == 0) {
+            return Duration.ofMillis(baseMillis);
+        }
+        return Duration.ofMillis(baseMillis + ThreadLocalRandom.current().nextLong(spreadMillis));
+    }
+}
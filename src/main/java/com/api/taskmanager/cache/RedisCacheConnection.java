@@ -0,0 +1,100 @@
+package com.api.taskmanager.cache;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// A second Lettuce connection, to the same server as the shared one, that only cache traffic uses. Cache reads
+// give up quickly because the database answers anyway; writes get a little more room. Streams, leases and
+// counters stay on the shared connection and its default timeout.
+public class RedisCacheConnection implements DisposableBean {
+
+    private static final Set<CommandType> READ_COMMANDS =
+            EnumSet.of(CommandType.GET, CommandType.MGET, CommandType.EXISTS, CommandType.HGETALL);
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisCacheConnection(LettuceConnectionFactory shared, Duration readTimeout, Duration writeTimeout) {
+        connectionFactory = new LettuceConnectionFactory(serverOf(shared),
+                withTimeouts(shared.getClientConfiguration(), readTimeout, writeTimeout));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    public RedisConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+
+    public StringRedisTemplate redisTemplate() {
+        return redisTemplate;
+    }
+
+    @Override
+    public void destroy() {
+        connectionFactory.destroy();
+    }
+
+    private static RedisConfiguration serverOf(LettuceConnectionFactory shared) {
+        if (shared.isClusterAware()) {
+            return shared.getClusterConfiguration();
+        }
+        if (shared.isRedisSentinelAware()) {
+            return shared.getSentinelConfiguration();
+        }
+        return shared.getStandaloneConfiguration();
+    }
+
+    private static LettuceClientConfiguration withTimeouts(LettuceClientConfiguration shared,
+                                                           Duration readTimeout, Duration writeTimeout) {
+        TimeoutOptions.TimeoutSource timeouts = new TimeoutOptions.TimeoutSource() {
+            @Override
+            public long getTimeout(RedisCommand<?, ?, ?> command) {
+                boolean read = command.getType() instanceof CommandType type && READ_COMMANDS.contains(type);
+                return (read ? readTimeout : writeTimeout).toMillis();
+            }
+
+            @Override
+            public TimeUnit getTimeUnit() {
+                return TimeUnit.MILLISECONDS;
+            }
+        };
+        ClientOptions options = shared.getClientOptions().orElseGet(ClientOptions::create);
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder();
+        if (shared.isUseSsl()) {
+            LettuceClientConfiguration.LettuceSslClientConfigurationBuilder ssl = builder.useSsl();
+            if (!shared.isVerifyPeer()) {
+                ssl.disablePeerVerification();
+            }
+            if (shared.isStartTls()) {
+                ssl.startTls();
+            }
+        }
+        shared.getClientResources().ifPresent(builder::clientResources);
+        shared.getClientName().ifPresent(builder::clientName);
+        shared.getReadFrom().ifPresent(builder::readFrom);
+        shared.getRedisCredentialsProviderFactory().ifPresent(builder::redisCredentialsProviderFactory);
+        return builder
+                .clientOptions(options.mutate()
+                        .timeoutOptions(TimeoutOptions.builder().timeoutSource(timeouts).build())
+                        .build())
+                .commandTimeout(shared.getCommandTimeout())
+                .shutdownTimeout(shared.getShutdownTimeout())
+                .shutdownQuietPeriod(shared.getShutdownQuietPeriod())
+                .build();
+    }
+}
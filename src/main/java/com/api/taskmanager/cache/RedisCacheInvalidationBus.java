@@ -0,0 +1,65 @@
+package com.api.taskmanager.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer container;
+    private final ChannelTopic topic;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                     RedisMessageListenerContainer container,
+                                     String channel) {
+        this.redisTemplate = redisTemplate;
+        this.container = container;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), encode(invalidation));
+        } catch (RuntimeException ex) {
+            // remote near caches fall back to their TTL when a message is lost
+            log.warn("Could not publish cache invalidation for {}::{}", invalidation.cacheName(), invalidation.key(), ex);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        container.addMessageListener((message, pattern) -> {
+            CacheInvalidation invalidation = decode(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (invalidation != null) {
+                listener.accept(invalidation);
+            }
+        }, topic);
+    }
+
+    public static String encode(CacheInvalidation invalidation) {
+        String type = invalidation.isClear() ? CLEAR : EVICT;
+        String key = invalidation.isClear() ? "" : invalidation.key();
+        return String.join(SEPARATOR, type, invalidation.origin(), invalidation.cacheName(), key);
+    }
+
+    static CacheInvalidation decode(String payload) {
+        String[] parts = payload.split("\\" + SEPARATOR, 4);
+        if (parts.length != 4) {
+            log.warn("Ignoring malformed cache invalidation message: {}", payload);
+            return null;
+        }
+        String key = CLEAR.equals(parts[0]) ? null : parts[3];
+        return new CacheInvalidation(parts[1], parts[2], key);
+    }
+}
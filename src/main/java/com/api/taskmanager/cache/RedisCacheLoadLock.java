@@ -0,0 +1,62 @@
+package com.api.taskmanager.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// SET NX with a short expiry; the lock only narrows the stampede, it never blocks a load for long. While the
+// cache breaker is open Redis is known to be down, so every load goes ahead without asking it.
+@Slf4j
+public class RedisCacheLoadLock implements CacheLoadLock {
+
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheCircuitBreaker breaker;
+    private final Duration ttl;
+
+    public RedisCacheLoadLock(StringRedisTemplate redisTemplate, CacheCircuitBreaker breaker, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.breaker = breaker;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String tryLock(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        if (breaker.state() == CacheCircuitBreaker.State.OPEN) {
+            return token;
+        }
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, ttl);
+            return Boolean.FALSE.equals(acquired) ? null : token;
+        } catch (RuntimeException ex) {
+            breaker.onFailure();
+            log.debug("Could not take load lock for {}::{}, loading without it", cacheName, key, ex);
+            return token;
+        }
+    }
+
+    @Override
+    public void unlock(String cacheName, String key, String token) {
+        if (breaker.state() == CacheCircuitBreaker.State.OPEN) {
+            return;
+        }
+        try {
+            redisTemplate.execute(UNLOCK, List.of(lockKey(cacheName, key)), token);
+        } catch (RuntimeException ex) {
+            log.debug("Could not release load lock for {}::{}, it expires on its own", cacheName, key, ex);
+        }
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return cacheName + "::lock::" + key;
+    }
+}
@@ -0,0 +1,42 @@
+package com.api.taskmanager.cache;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+
+// one counter per scope under keyPrefix:<scope>
+public class RedisGenerationCounter implements GenerationCounter {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisGenerationCounter(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public long current(String scope) {
+        String value = redisTemplate.opsForValue().get(key(scope));
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    @Override
+    public void increment(Collection<String> scopes) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                scopes.forEach(scope -> operations.opsForValue().increment(key(scope)));
+                return null;
+            }
+        });
+    }
+
+    private String key(String scope) {
+        return keyPrefix + ":" + scope;
+    }
+}
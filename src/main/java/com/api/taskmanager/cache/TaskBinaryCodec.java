@@ -0,0 +1,202 @@
+package com.api.taskmanager.cache;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.model.Status;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Layout v1: version, flags, then only the fields the flags announce. Numbers are varints, the due date is
+// a zig-zag epoch day and the status its ordinal, so Status constants may only ever be appended.
+public final class TaskBinaryCodec {
+
+    public static final byte VERSION_1 = 1;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_TITLE = 1 << 1;
+    private static final int HAS_DESCRIPTION = 1 << 2;
+    private static final int HAS_STATUS = 1 << 3;
+    private static final int HAS_DUE_DATE = 1 << 4;
+    private static final int HAS_VERSION = 1 << 5;
+    private static final int DESCRIPTION_DEFLATED = 1 << 6;
+
+    private static final Status[] STATUSES = Status.values();
+
+    // native zlib streams are expensive to set up, so a few are shared and reset between uses. A pool rather
+    // than a ThreadLocal: on virtual threads every request would otherwise allocate (and leak until GC) its own.
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private TaskBinaryCodec() {
+    }
+
+    public static byte[] encode(TaskResponseDTO task, int compressThreshold) {
+        byte[] title = utf8(task.title());
+        byte[] description = utf8(task.description());
+        int flags = flag(task.id() != null, HAS_ID)
+                | flag(title != null, HAS_TITLE)
+                | flag(description != null, HAS_DESCRIPTION)
+                | flag(task.status() != null, HAS_STATUS)
+                | flag(task.dueDate() != null, HAS_DUE_DATE)
+                | flag(task.version() != null, HAS_VERSION);
+
+        if (description != null && description.length >= compressThreshold) {
+            byte[] deflated = deflate(description);
+            if (deflated.length < description.length) {
+                description = deflated;
+                flags |= DESCRIPTION_DEFLATED;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + length(title) + length(description));
+        out.write(VERSION_1);
+        out.write(flags);
+        if (task.id() != null) {
+            writeVarLong(out, task.id());
+        }
+        if (title != null) {
+            writeBytes(out, title);
+        }
+        if (description != null) {
+            writeBytes(out, description);
+        }
+        if (task.status() != null) {
+            out.write(task.status().ordinal());
+        }
+        if (task.dueDate() != null) {
+            long epochDay = task.dueDate().toEpochDay();
+            writeVarLong(out, (epochDay << 1) ^ (epochDay >> 63));
+        }
+        if (task.version() != null) {
+            writeVarLong(out, task.version());
+        }
+        return out.toByteArray();
+    }
+
+    public static TaskResponseDTO decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        byte version = in.get();
+        if (version != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported task encoding version: " + version);
+        }
+        int flags = in.get();
+        Long id = (flags & HAS_ID) != 0 ? readVarLong(in) : null;
+        String title = (flags & HAS_TITLE) != 0 ? string(readBytes(in)) : null;
+        String description = null;
+        if ((flags & HAS_DESCRIPTION) != 0) {
+            byte[] raw = readBytes(in);
+            description = string((flags & DESCRIPTION_DEFLATED) != 0 ? inflate(raw) : raw);
+        }
+        Status status = (flags & HAS_STATUS) != 0 ? STATUSES[in.get()] : null;
+        LocalDate dueDate = null;
+        if ((flags & HAS_DUE_DATE) != 0) {
+            long zigZag = readVarLong(in);
+            dueDate = LocalDate.ofEpochDay((zigZag >>> 1) ^ -(zigZag & 1));
+        }
+        Long taskVersion = (flags & HAS_VERSION) != 0 ? readVarLong(in) : null;
+        return new TaskResponseDTO(id, title, description, status, dueDate, taskVersion);
+    }
+
+    private static int flag(boolean present, int flag) {
+        return present ? flag : 0;
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, byte[] bytes) {
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        byte[] bytes = new byte[Math.toIntExact(readVarLong(in))];
+        in.get(bytes);
+        return bytes;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in task encoding");
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = DEFLATERS.poll();
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.BEST_SPEED, true);
+        }
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            byte[] buffer = new byte[bytes.length + 64];
+            int length = deflater.deflate(buffer);
+            // did not fit: the text does not compress, keep it as it is
+            return deflater.finished() ? Arrays.copyOf(buffer, length) : bytes;
+        } finally {
+            deflater.reset();
+            if (!DEFLATERS.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        Inflater inflater = INFLATERS.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        try {
+            inflater.setInput(bytes);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException ex) {
+            throw new IllegalArgumentException("Corrupt compressed description", ex);
+        } finally {
+            inflater.reset();
+            if (!INFLATERS.offer(inflater)) {
+                inflater.end();
+            }
+        }
+    }
+}
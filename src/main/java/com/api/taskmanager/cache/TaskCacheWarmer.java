@@ -0,0 +1,96 @@
+package com.api.taskmanager.cache;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.tenant.TenantResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Preloads the tasks most likely to be read after a deploy or a Redis flush: open tasks due soon, then the newest.
+@Slf4j
+public class TaskCacheWarmer implements ApplicationRunner {
+
+    private static final String CACHE = "taskById";
+
+    private final TaskRepository repository;
+    private final TaskMapper mapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCacheConfiguration cacheConfiguration;
+    private final int maxEntries;
+    private final int batchSize;
+    private final Duration dueWithin;
+
+    public TaskCacheWarmer(TaskRepository repository, TaskMapper mapper, StringRedisTemplate redisTemplate,
+                           RedisCacheConfiguration cacheConfiguration, int maxEntries, int batchSize, Duration dueWithin) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.redisTemplate = redisTemplate;
+        this.cacheConfiguration = cacheConfiguration;
+        this.maxEntries = maxEntries;
+        this.batchSize = batchSize;
+        this.dueWithin = dueWithin;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int written = warm();
+            log.info("Warmed {} entries into {}", written, CACHE);
+        } catch (RuntimeException ex) {
+            log.warn("Cache warm-up failed, entries will be loaded on demand", ex);
+        }
+    }
+
+    public int warm() {
+        LocalDate today = LocalDate.now();
+        Set<Long> ids = new LinkedHashSet<>(repository.findIdsDueBetween(Status.open(), today,
+                today.plusDays(dueWithin.toDays()), Limit.of(maxEntries)));
+        if (ids.size() < maxEntries) {
+            ids.addAll(repository.findLatestIds(Limit.of(maxEntries - ids.size())));
+        }
+
+        List<Long> ordered = new ArrayList<>(ids);
+        int written = 0;
+        for (int from = 0; from < ordered.size(); from += batchSize) {
+            List<Long> batch = ordered.subList(from, Math.min(from + batchSize, ordered.size()));
+            written += write(repository.findAllById(batch));
+        }
+        return written;
+    }
+
+    private int write(List<Task> tasks) {
+        String prefix = cacheConfiguration.getKeyPrefixFor(CACHE);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Task task : tasks) {
+                TaskResponseDTO dto = mapper.toResponseDTO(task);
+                String cacheKey = prefix + TenantResolver.cacheKey(task.getTenantId(), task.getId());
+                byte[] key = ByteUtils.getBytes(cacheConfiguration.getKeySerializationPair().write(cacheKey));
+                byte[] value = ByteUtils.getBytes(cacheConfiguration.getValueSerializationPair().write(dto));
+                Duration ttl = cacheConfiguration.getTtlFunction().getTimeToLive(task.getId(), dto);
+                // never overwrite an entry a request wrote while we were warming
+                connection.stringCommands().set(key, value, Expiration.from(ttl),
+                        RedisStringCommands.SetOption.ifAbsent());
+            }
+            return null;
+        });
+        return tasks.size();
+    }
+}
@@ -0,0 +1,103 @@
+package com.api.taskmanager.cache;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.event.TasksTransitionedEvent;
+import com.api.taskmanager.tenant.TenantResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Listing pages are keyed by their tenant's task generation. Every committed write bumps the generation of the
+// tenant it touched, which makes that tenant's older pages unreachable at once; they are never looked up again
+// and simply expire. Root pages span every tenant, so root has its own generation that every write bumps.
+@Slf4j
+public class TaskPageCache {
+
+    private static final String ROOT_SCOPE = "*";
+
+    private final Cache cache;
+    private final GenerationCounter generations;
+    private final TenantResolver tenants;
+
+    public TaskPageCache(Cache cache, GenerationCounter generations, TenantResolver tenants) {
+        this.cache = cache;
+        this.generations = generations;
+        this.tenants = tenants;
+    }
+
+    public static TaskPageCache disabled() {
+        return new TaskPageCache(null, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public CursorPageDTO<TaskResponseDTO> get(String query, Supplier<CursorPageDTO<TaskResponseDTO>> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        String scope = scope(tenants.resolveCurrentTenantIdentifier());
+        String key;
+        try {
+            key = TenantResolver.cacheKey(scope, generations.current(scope) + ":" + query);
+            CursorPageDTO<TaskResponseDTO> cached = cache.get(key, CursorPageDTO.class);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (RuntimeException ex) {
+            log.debug("Page cache unavailable, querying directly", ex);
+            return loader.get();
+        }
+        CursorPageDTO<TaskResponseDTO> page = loader.get();
+        try {
+            cache.put(key, page);
+        } catch (RuntimeException ex) {
+            log.debug("Could not cache page {}", key, ex);
+        }
+        return page;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (generations == null) {
+            return;
+        }
+        String tenant = event.tenantId() != null ? event.tenantId() : tenants.resolveCurrentTenantIdentifier();
+        bump(scopes(List.of(tenant)), "task " + event.id());
+    }
+
+    // a whole chunk is one bump per tenant it touched
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        if (generations == null) {
+            return;
+        }
+        bump(scopes(event.tasks().stream().map(TasksTransitionedEvent.Transitioned::tenantId).toList()),
+                event.tasks().size() + " transitioned tasks");
+    }
+
+    private Set<String> scopes(List<String> changedTenants) {
+        Set<String> scopes = new LinkedHashSet<>();
+        changedTenants.forEach(tenant -> scopes.add(scope(tenant)));
+        scopes.add(ROOT_SCOPE);
+        return scopes;
+    }
+
+    private String scope(String tenant) {
+        return tenants.isRoot(tenant) ? ROOT_SCOPE : tenant;
+    }
+
+    private void bump(Set<String> scopes, String change) {
+        try {
+            generations.increment(scopes);
+        } catch (RuntimeException ex) {
+            // pages cached under the old generation stay visible until they expire
+            log.warn("Could not bump task page generation after change to {}", change, ex);
+        }
+    }
+}
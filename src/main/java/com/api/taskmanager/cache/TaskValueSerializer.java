@@ -0,0 +1,49 @@
+package com.api.taskmanager.cache;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+// Reads both formats whatever it writes, so nodes can switch taskmanager.cache.value-format one at a time.
+public class TaskValueSerializer implements RedisSerializer<TaskResponseDTO> {
+
+    private final RedisSerializer<TaskResponseDTO> json;
+    private final CacheValueFormat writeFormat;
+    private final int compressThreshold;
+
+    public TaskValueSerializer(RedisSerializer<TaskResponseDTO> json, CacheValueFormat writeFormat, int compressThreshold) {
+        this.json = json;
+        this.writeFormat = writeFormat;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(TaskResponseDTO value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        return writeFormat == CacheValueFormat.BINARY
+                ? TaskBinaryCodec.encode(value, compressThreshold)
+                : json.serialize(value);
+    }
+
+    @Override
+    public TaskResponseDTO deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == '{') {
+            return json.deserialize(bytes);
+        }
+        try {
+            return TaskBinaryCodec.decode(bytes);
+        } catch (RuntimeException ex) {
+            throw new SerializationException("Could not read cached task", ex);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return TaskResponseDTO.class;
+    }
+}
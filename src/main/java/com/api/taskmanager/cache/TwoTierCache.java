@@ -0,0 +1,253 @@
+package com.api.taskmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final CacheInvalidationBus bus;
+    private final String origin;
+    private final CacheLoadLock loadLock;
+    private final Duration lockWait;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+
+    public TwoTierCache(String name, Cache<String, Object> local, org.springframework.cache.Cache remote,
+                        CacheInvalidationBus bus, String origin) {
+        this(name, local, remote, bus, origin, CacheLoadLock.NONE, Duration.ZERO);
+    }
+
+    public TwoTierCache(String name, Cache<String, Object> local, org.springframework.cache.Cache remote,
+                        CacheInvalidationBus bus, String origin, CacheLoadLock loadLock, Duration lockWait) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.bus = bus;
+        this.origin = origin;
+        this.loadLock = loadLock;
+        this.lockWait = lockWait;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    // Concurrent misses for one key share a single load on this node; the load lock extends that across nodes.
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookupQuietly(key);
+        if (value != null) {
+            return (T) value;
+        }
+        String localKey = localKey(key);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(localKey, load);
+        if (running != null) {
+            return (T) await(key, valueLoader, running);
+        }
+        try {
+            Object loaded = load(key, localKey, valueLoader);
+            load.complete(loaded);
+            return (T) loaded;
+        } catch (Throwable ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(localKey, load);
+        }
+    }
+
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        String token = loadLock.tryLock(name, localKey);
+        if (token == null) {
+            Object loadedElsewhere = awaitRemote(key);
+            if (loadedElsewhere != null) {
+                return loadedElsewhere;
+            }
+        }
+        try {
+            Object value = lookupQuietly(key);
+            if (value != null) {
+                return value;
+            }
+            loads.increment();
+            try {
+                value = valueLoader.call();
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+            if (value != null) {
+                try {
+                    remote.put(key, value);
+                } catch (RuntimeException ex) {
+                    // the value is still good, the remote tier just misses out on it
+                    remoteFailed("put", key, ex);
+                }
+                local.put(localKey, value);
+            }
+            return value;
+        } finally {
+            if (token != null) {
+                loadLock.unlock(name, localKey, token);
+            }
+        }
+    }
+
+    private Object awaitRemote(Object key) {
+        long deadline = System.nanoTime() + lockWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Object value = lookupQuietly(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> running) {
+        try {
+            return running.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        }
+    }
+
+    private Object lookupQuietly(Object key) {
+        try {
+            return lookup(key);
+        } catch (RuntimeException ex) {
+            // a synchronized get has no error handler behind it, treat a broken remote tier as a miss
+            remoteFailed("get", key, ex);
+            return local.getIfPresent(localKey(key));
+        }
+    }
+
+    // the local entry is dropped and peers are told even when the remote write fails, no tier keeps the old value
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        try {
+            remote.put(key, value);
+            if (value != null) {
+                local.put(localKey, value);
+            }
+        } catch (RuntimeException ex) {
+            remoteErrors.increment();
+            throw ex;
+        } finally {
+            bus.publish(new CacheInvalidation(origin, name, localKey));
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.increment();
+        local.invalidate(localKey(key));
+        try {
+            remote.evict(key);
+        } catch (RuntimeException ex) {
+            remoteErrors.increment();
+            throw ex;
+        } finally {
+            bus.publish(new CacheInvalidation(origin, name, localKey(key)));
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictions.increment();
+        local.invalidateAll();
+        try {
+            remote.clear();
+        } catch (RuntimeException ex) {
+            remoteErrors.increment();
+            throw ex;
+        } finally {
+            bus.publish(new CacheInvalidation(origin, name, null));
+        }
+    }
+
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.isClear()) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(invalidation.key());
+        }
+    }
+
+    public TwoTierCacheStats stats() {
+        return new TwoTierCacheStats(localHits.sum(), localMisses.sum(), remoteHits.sum(), remoteMisses.sum(),
+                evictions.sum(), local.stats().evictionCount(), local.estimatedSize(), loads.sum(), remoteErrors.sum());
+    }
+
+    // put, evict and clear rethrow to the cache error handler, which logs them
+    private void remoteFailed(String operation, Object key, RuntimeException ex) {
+        remoteErrors.increment();
+        log.warn("Remote tier of cache {} failed on {} for key {}: {}", name, operation, key, ex.toString());
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,84 @@
+package com.api.taskmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remote;
+    private final CacheInvalidationBus bus;
+    private final Set<String> nearCacheNames;
+    private final long maximumSize;
+    private final Duration ttl;
+    private final CacheLoadLock loadLock;
+    private final Duration lockWait;
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remote, CacheInvalidationBus bus, Set<String> nearCacheNames,
+                               long maximumSize, Duration ttl) {
+        this(remote, bus, nearCacheNames, maximumSize, ttl, CacheLoadLock.NONE, Duration.ZERO);
+    }
+
+    public TwoTierCacheManager(CacheManager remote, CacheInvalidationBus bus, Set<String> nearCacheNames,
+                               long maximumSize, Duration ttl, CacheLoadLock loadLock, Duration lockWait) {
+        this.remote = remote;
+        this.bus = bus;
+        this.nearCacheNames = Set.copyOf(nearCacheNames);
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.loadLock = loadLock;
+        this.lockWait = lockWait;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!nearCacheNames.contains(name)) {
+            return remote.getCache(name);
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    public Set<String> nearCacheNames() {
+        return nearCacheNames;
+    }
+
+    public Map<String, TwoTierCacheStats> stats() {
+        Map<String, TwoTierCacheStats> stats = new ConcurrentHashMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    private TwoTierCache createCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return new TwoTierCache(name, local, remote.getCache(name), bus, origin, loadLock, lockWait);
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (origin.equals(invalidation.origin())) {
+            return;
+        }
+        TwoTierCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.onInvalidation(invalidation);
+        }
+    }
+}
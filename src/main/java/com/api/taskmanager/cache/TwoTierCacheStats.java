@@ -0,0 +1,13 @@
+package com.api.taskmanager.cache;
+
+public record TwoTierCacheStats(
+        long localHits,
+        long localMisses,
+        long remoteHits,
+        long remoteMisses,
+        long evictions,
+        long localEvictions,
+        long localSize,
+        long loads,
+        long remoteErrors
+){}
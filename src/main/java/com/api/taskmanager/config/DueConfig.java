@@ -0,0 +1,41 @@
+package com.api.taskmanager.config;
+
+import com.api.taskmanager.due.InMemorySweepLease;
+import com.api.taskmanager.due.LoggingTaskDueSink;
+import com.api.taskmanager.due.RedisSweepLease;
+import com.api.taskmanager.due.SweepLease;
+import com.api.taskmanager.due.TaskDueSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class DueConfig {
+
+    // the lease must outlive a tick and a batch, or a slow sweep hands it to another node half way
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.due.lease", havingValue = "redis", matchIfMissing = true)
+    public SweepLease redisSweepLease(StringRedisTemplate stringRedisTemplate,
+                                      @Value("${taskmanager.due.lease-key:taskmanager:due:lease}") String key,
+                                      @Value("${taskmanager.due.lease-ttl:PT1M}") Duration ttl) {
+        return new RedisSweepLease(stringRedisTemplate, key, ttl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.due.lease", havingValue = "memory")
+    public SweepLease inMemorySweepLease() {
+        return new InMemorySweepLease();
+    }
+
+    // replaced by declaring any other TaskDueSink bean
+    @Bean
+    @ConditionalOnMissingBean(TaskDueSink.class)
+    public TaskDueSink loggingTaskDueSink() {
+        return new LoggingTaskDueSink();
+    }
+}
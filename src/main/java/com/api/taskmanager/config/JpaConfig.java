@@ -0,0 +1,92 @@
+package com.api.taskmanager.config;
+
+import com.api.taskmanager.model.Task;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${taskmanager.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+
+    // The second-level cache lives on each node's heap and only this node's writes evict from it, so with more
+    // than one node a task read from it can be up to taskmanager.jpa.l2.ttl old. Only single-node setups turn it
+    // on; the taskById cache in Redis is what serves repeated reads across nodes. There is no query cache: its
+    // invalidation is node-local in the same way and would keep serving listings that miss other nodes' writes.
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(ObjectProvider<CacheManager> hibernateCacheManager,
+                                                                    @Value("${taskmanager.jpa.l2.enabled:false}") boolean enabled,
+                                                                    @Value("${taskmanager.jpa.statistics:true}") boolean statistics) {
+        return properties -> {
+            // feeds the hibernate.* meters, including per-region second-level cache hits
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, statistics);
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, false);
+            if (!enabled) {
+                properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                return;
+            }
+            properties.putIfAbsent(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, hibernateCacheManager.getObject());
+            // every region is created below, a name Hibernate asks for that is not there is a mapping mistake
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    // Regions stay on heap and bounded, so the second-level cache cannot grow with the table.
+    // One manager per context: a shared provider-wide manager would clash between application contexts in tests.
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "taskmanager.jpa.l2.enabled", havingValue = "true")
+    public CacheManager hibernateCacheManager(@Value("${taskmanager.jpa.l2.max-entries:10000}") long maxEntries,
+                                              @Value("${taskmanager.jpa.l2.ttl:PT10M}") Duration ttl) {
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("taskmanager-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        manager.createCache(Task.CACHE_REGION, new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maxEntries))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos())));
+        return manager;
+    }
+
+    // lets the Postgres driver fold a JDBC insert batch into multi-row INSERT statements
+    @Bean
+    public static BeanPostProcessor postgresBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:postgresql:")) {
+                    dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
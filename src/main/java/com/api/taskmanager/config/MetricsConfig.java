@@ -0,0 +1,57 @@
+package com.api.taskmanager.config;
+
+import com.api.taskmanager.cache.CacheCircuitBreaker;
+import com.api.taskmanager.cache.TwoTierCacheManager;
+import com.api.taskmanager.metrics.TaskServiceMetrics;
+import com.api.taskmanager.metrics.TwoTierCacheMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TwoTierCacheMetrics twoTierCacheMetrics(TwoTierCacheManager cacheManager) {
+        return new TwoTierCacheMetrics(cacheManager);
+    }
+
+    @Bean
+    public MeterBinder cacheCircuitBreakerMetrics(CacheCircuitBreaker breaker) {
+        return registry -> {
+            Gauge.builder("cache.breaker.open", breaker, b -> b.state() == CacheCircuitBreaker.State.CLOSED ? 0 : 1)
+                    .description("1 while calls to the remote cache are short-circuited")
+                    .register(registry);
+            FunctionCounter.builder("cache.breaker.rejected", breaker, CacheCircuitBreaker::rejectedCalls)
+                    .register(registry);
+        };
+    }
+
+    // taskmanager.metrics.histogram.operations=findById,update or * for every operation
+    @Bean
+    public MeterFilter taskOperationHistograms(@Value("${taskmanager.metrics.histogram.operations:}") Set<String> operations) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!TaskServiceMetrics.OPERATION_TIMER.equals(id.getName())) {
+                    return config;
+                }
+                if (!operations.contains("*") && !operations.contains(id.getTag("operation"))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
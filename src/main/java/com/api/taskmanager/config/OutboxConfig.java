@@ -0,0 +1,29 @@
+package com.api.taskmanager.config;
+
+import com.api.taskmanager.outbox.InMemoryTaskChangeSink;
+import com.api.taskmanager.outbox.RedisStreamTaskChangeSink;
+import com.api.taskmanager.outbox.TaskChangeSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.outbox.sink", havingValue = "redis", matchIfMissing = true)
+    public TaskChangeSink redisStreamTaskChangeSink(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                                    @Value("${taskmanager.outbox.stream-key:taskmanager:task-changes}") String streamKey,
+                                                    @Value("${taskmanager.outbox.max-length:100000}") long maxLength) {
+        return new RedisStreamTaskChangeSink(stringRedisTemplate, objectMapper, streamKey, maxLength);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.outbox.sink", havingValue = "memory")
+    public TaskChangeSink inMemoryTaskChangeSink(@Value("${taskmanager.outbox.max-length:100000}") int maxLength) {
+        return new InMemoryTaskChangeSink(maxLength);
+    }
+}
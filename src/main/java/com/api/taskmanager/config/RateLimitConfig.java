@@ -0,0 +1,48 @@
+package com.api.taskmanager.config;
+
+import com.api.taskmanager.cache.CacheCircuitBreaker;
+import com.api.taskmanager.cache.RedisCacheConnection;
+import com.api.taskmanager.ratelimit.InMemoryRateLimiter;
+import com.api.taskmanager.ratelimit.RateLimit;
+import com.api.taskmanager.ratelimit.RateLimitTier;
+import com.api.taskmanager.ratelimit.RateLimiter;
+import com.api.taskmanager.ratelimit.RedisRateLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+public class RateLimitConfig {
+
+    // memory: every node has its own budget per client; redis: one budget shared by the cluster
+    @Bean
+    public RateLimiter rateLimiter(ObjectProvider<RedisCacheConnection> redisCacheConnection,
+                                   ObjectProvider<CacheCircuitBreaker> cacheCircuitBreaker,
+                                   @Value("${taskmanager.ratelimit.store:memory}") String store,
+                                   @Value("${taskmanager.ratelimit.max-clients:100000}") long maxClients,
+                                   @Value("${taskmanager.ratelimit.redis.key-prefix:taskmanager:ratelimit:}") String keyPrefix,
+                                   @Value("${taskmanager.ratelimit.read.capacity:600}") long readCapacity,
+                                   @Value("${taskmanager.ratelimit.read.period:PT1M}") Duration readPeriod,
+                                   @Value("${taskmanager.ratelimit.write.capacity:120}") long writeCapacity,
+                                   @Value("${taskmanager.ratelimit.write.period:PT1M}") Duration writePeriod,
+                                   @Value("${taskmanager.ratelimit.bulk.capacity:10}") long bulkCapacity,
+                                   @Value("${taskmanager.ratelimit.bulk.period:PT1M}") Duration bulkPeriod) {
+        Map<RateLimitTier, RateLimit> limits = new EnumMap<>(RateLimitTier.class);
+        limits.put(RateLimitTier.READ, new RateLimit(readCapacity, readPeriod));
+        limits.put(RateLimitTier.WRITE, new RateLimit(writeCapacity, writePeriod));
+        limits.put(RateLimitTier.BULK, new RateLimit(bulkCapacity, bulkPeriod));
+
+        RateLimiter local = new InMemoryRateLimiter(limits, maxClients);
+        if (!"redis".equals(store)) {
+            return local;
+        }
+        // the cache connection's short timeouts and breaker keep a slow Redis from holding up every request
+        return new RedisRateLimiter(redisCacheConnection.getObject().redisTemplate(), cacheCircuitBreaker.getObject(),
+                limits, local, keyPrefix);
+    }
+}
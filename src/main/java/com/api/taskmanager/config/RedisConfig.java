@@ -1,58 +1,207 @@
 package com.api.taskmanager.config;
 
+import com.api.taskmanager.cache.CacheCircuitBreaker;
+import com.api.taskmanager.cache.CacheInvalidationBus;
+import com.api.taskmanager.cache.CacheLoadLock;
+import com.api.taskmanager.cache.CacheValueFormat;
+import com.api.taskmanager.cache.CachedGenerationCounter;
+import com.api.taskmanager.cache.CircuitBreakingCacheManager;
+import com.api.taskmanager.cache.FailOpenCacheErrorHandler;
+import com.api.taskmanager.cache.GenerationCounter;
+import com.api.taskmanager.cache.JitteredTtlFunction;
+import com.api.taskmanager.cache.RedisCacheConnection;
+import com.api.taskmanager.cache.RedisCacheInvalidationBus;
+import com.api.taskmanager.cache.RedisCacheLoadLock;
+import com.api.taskmanager.cache.RedisGenerationCounter;
+import com.api.taskmanager.cache.TaskCacheWarmer;
+import com.api.taskmanager.cache.TaskPageCache;
+import com.api.taskmanager.cache.TaskValueSerializer;
+import com.api.taskmanager.cache.TwoTierCacheManager;
+import com.api.taskmanager.dto.CursorPageDTO;
 import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.tenant.TenantResolver;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.interceptor.SimpleCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.*;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
-public class RedisConfig {
+public class RedisConfig implements CachingConfigurer {
+
+    private static final int DEFAULT_COMPRESS_THRESHOLD = 512;
+    private static final double DEFAULT_TTL_JITTER = 0.1;
+
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisCacheConnection redisCacheConnection,
+                                     RedisCacheConfiguration redisCacheDefaults,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     CacheCircuitBreaker cacheCircuitBreaker,
+                                     CacheLoadLock cacheLoadLock,
+                                     @Value("${taskmanager.cache.ttl-jitter:" + DEFAULT_TTL_JITTER + "}") double ttlJitter,
+                                     @Value("${taskmanager.cache.load-lock.wait:200ms}") Duration lockWait,
+                                     @Value("${taskmanager.cache.breaker.max-pending-evictions:10000}") int maxPendingEvictions,
+                                     @Value("${taskmanager.cache.near.maximum-size:10000}") long nearMaximumSize,
+                                     @Value("${taskmanager.cache.near.ttl:30s}") Duration nearTtl) {
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisCacheConnection.connectionFactory())
+                .cacheDefaults(redisCacheDefaults)
+                .withInitialCacheConfigurations(cacheConfigurations(redisCacheDefaults, ttlJitter))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        CircuitBreakingCacheManager remote =
+                new CircuitBreakingCacheManager(redisCacheManager, cacheCircuitBreaker, maxPendingEvictions);
+
+        return new TwoTierCacheManager(remote, cacheInvalidationBus,
+                Set.of("taskById"), nearMaximumSize, nearTtl, cacheLoadLock, lockWait);
+    }
+
+    @Bean
+    public RedisCacheConfiguration redisCacheDefaults(
+            @Value("${taskmanager.cache.value-format:JSON}") CacheValueFormat valueFormat,
+            @Value("${taskmanager.cache.compress-threshold:" + DEFAULT_COMPRESS_THRESHOLD + "}") int compressThreshold,
+            @Value("${taskmanager.cache.ttl-jitter:" + DEFAULT_TTL_JITTER + "}") double ttlJitter) {
+        return cacheDefaults(valueFormat, compressThreshold, ttlJitter);
+    }
+
+    @Bean
+    public CacheLoadLock cacheLoadLock(RedisCacheConnection redisCacheConnection, CacheCircuitBreaker cacheCircuitBreaker,
+                                       @Value("${taskmanager.cache.load-lock.enabled:true}") boolean enabled,
+                                       @Value("${taskmanager.cache.load-lock.ttl:2s}") Duration ttl) {
+        return enabled
+                ? new RedisCacheLoadLock(redisCacheConnection.redisTemplate(), cacheCircuitBreaker, ttl)
+                : CacheLoadLock.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.cache.warmup.enabled", havingValue = "true")
+    public TaskCacheWarmer taskCacheWarmer(TaskRepository taskRepository, TaskMapper taskMapper,
+                                           RedisCacheConnection redisCacheConnection,
+                                           RedisCacheConfiguration redisCacheDefaults,
+                                           @Value("${taskmanager.cache.ttl-jitter:" + DEFAULT_TTL_JITTER + "}") double ttlJitter,
+                                           @Value("${taskmanager.cache.warmup.max-entries:10000}") int maxEntries,
+                                           @Value("${taskmanager.cache.warmup.batch-size:500}") int batchSize,
+                                           @Value("${taskmanager.cache.warmup.due-within:P7D}") Duration dueWithin) {
+        return new TaskCacheWarmer(taskRepository, taskMapper, redisCacheConnection.redisTemplate(),
+                cacheConfigurations(redisCacheDefaults, ttlJitter).get("taskById"),
+                maxEntries, batchSize, dueWithin);
+    }
+
+    @Bean
+    public TaskPageCache taskPageCache(TwoTierCacheManager cacheManager, RedisCacheConnection redisCacheConnection,
+                                       TenantResolver tenants,
+                                       @Value("${taskmanager.cache.pages.enabled:false}") boolean enabled,
+                                       @Value("${taskmanager.cache.pages.generation-key:taskmanager:tasks:generation}") String generationKey,
+                                       @Value("${taskmanager.cache.pages.generation-ttl:0s}") Duration generationTtl,
+                                       @Value("${taskmanager.cache.pages.max-tenants:10000}") long maxTenants) {
+        if (!enabled) {
+            return TaskPageCache.disabled();
+        }
+        GenerationCounter generations = new RedisGenerationCounter(redisCacheConnection.redisTemplate(), generationKey);
+        // a local copy lets other instances serve pages older than their last write for up to the ttl, so opt in
+        if (!generationTtl.isZero()) {
+            generations = new CachedGenerationCounter(generations, generationTtl, maxTenants);
+        }
+        return new TaskPageCache(cacheManager.getCache("taskPages"), generations, tenants);
+    }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheCircuitBreaker cacheCircuitBreaker(@Value("${taskmanager.cache.breaker.failure-threshold:5}") int failureThreshold,
+                                                   @Value("${taskmanager.cache.breaker.open-duration:30s}") Duration openDuration) {
+        return new CacheCircuitBreaker(failureThreshold, openDuration);
+    }
+
+    @Bean
+    public RedisCacheConnection redisCacheConnection(LettuceConnectionFactory redisConnectionFactory,
+                                                     @Value("${taskmanager.redis.read-timeout:100ms}") Duration readTimeout,
+                                                     @Value("${taskmanager.redis.write-timeout:250ms}") Duration writeTimeout) {
+        return new RedisCacheConnection(redisConnectionFactory, readTimeout, writeTimeout);
+    }
+
+    public static RedisCacheConfiguration cacheDefaults() {
+        return cacheDefaults(CacheValueFormat.JSON, DEFAULT_COMPRESS_THRESHOLD);
+    }
+
+    public static RedisCacheConfiguration cacheDefaults(CacheValueFormat valueFormat, int compressThreshold) {
+        return cacheDefaults(valueFormat, compressThreshold, DEFAULT_TTL_JITTER);
+    }
 
+    public static RedisCacheConfiguration cacheDefaults(CacheValueFormat valueFormat, int compressThreshold, double ttlJitter) {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
 
 
-        Jackson2JsonRedisSerializer<TaskResponseDTO> taskSerializer =
+        Jackson2JsonRedisSerializer<TaskResponseDTO> jsonSerializer =
                 new Jackson2JsonRedisSerializer<>(mapper, TaskResponseDTO.class);
+        TaskValueSerializer taskSerializer = new TaskValueSerializer(jsonSerializer, valueFormat, compressThreshold);
 
         RedisSerializationContext.SerializationPair<String> keySerializer =
                 RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer());
 
-        RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30))
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(new JitteredTtlFunction(Duration.ofMinutes(30), ttlJitter))
                 .serializeKeysWith(keySerializer)
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(taskSerializer));
+    }
+
+    public static Map<String, RedisCacheConfiguration> cacheConfigurations(RedisCacheConfiguration defaults) {
+        return cacheConfigurations(defaults, DEFAULT_TTL_JITTER);
+    }
 
+    public static Map<String, RedisCacheConfiguration> cacheConfigurations(RedisCacheConfiguration defaults, double ttlJitter) {
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        cacheConfigurations.put("taskById", defaultCacheConfig
-                .entryTtl(Duration.ofHours(1))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(taskSerializer)));
+        cacheConfigurations.put("taskById", defaults.entryTtl(new JitteredTtlFunction(Duration.ofHours(1), ttlJitter)));
+        // pages of an old generation are never read again, the short TTL only bounds how long they linger
+        cacheConfigurations.put("taskPages", defaults
+                .entryTtl(Duration.ofMinutes(5))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(pageSerializer())));
+        return cacheConfigurations;
+    }
+
+    private static Jackson2JsonRedisSerializer<CursorPageDTO<TaskResponseDTO>> pageSerializer() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        JavaType type = mapper.getTypeFactory().constructParametricType(CursorPageDTO.class, TaskResponseDTO.class);
+        return new Jackson2JsonRedisSerializer<>(mapper, type);
+    }
 
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
 
-        return RedisCacheManager.builder(redisConnectionFactory)
-                .cacheDefaults(defaultCacheConfig)
-                .withInitialCacheConfigurations(cacheConfigurations)
-                .build();
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                                     RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                                     @Value("${taskmanager.cache.near.channel:taskmanager:cache-invalidation}") String channel) {
+        return new RedisCacheInvalidationBus(stringRedisTemplate, cacheInvalidationListenerContainer, channel);
     }
 
     @Bean
-    public SimpleCacheErrorHandler errorHandler() {
-        return new SimpleCacheErrorHandler();
+    @Override
+    public FailOpenCacheErrorHandler errorHandler() {
+        return new FailOpenCacheErrorHandler();
     }
 }
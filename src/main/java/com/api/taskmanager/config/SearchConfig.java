@@ -0,0 +1,35 @@
+package com.api.taskmanager.config;
+
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.search.InMemoryTaskSearchIndex;
+import com.api.taskmanager.search.PostgresTaskSearchIndex;
+import com.api.taskmanager.search.TaskSearchIndex;
+import com.api.taskmanager.search.TaskSearchIndexLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.search.index", havingValue = "postgres", matchIfMissing = true)
+    public TaskSearchIndex postgresTaskSearchIndex(NamedParameterJdbcTemplate jdbc) {
+        return new PostgresTaskSearchIndex(jdbc);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.search.index", havingValue = "memory")
+    public TaskSearchIndex inMemoryTaskSearchIndex() {
+        return new InMemoryTaskSearchIndex();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.search.index", havingValue = "memory")
+    public TaskSearchIndexLoader taskSearchIndexLoader(TaskSearchIndex index, TaskRepository repository,
+                                                       @Value("${taskmanager.search.load-batch-size:1000}") int batchSize) {
+        return new TaskSearchIndexLoader(index, repository, batchSize);
+    }
+}
@@ -0,0 +1,27 @@
+package com.api.taskmanager.config;
+
+import com.api.taskmanager.stats.InMemoryTaskStatsStore;
+import com.api.taskmanager.stats.RedisTaskStatsStore;
+import com.api.taskmanager.stats.TaskStatsStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class StatsConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.stats.store", havingValue = "redis", matchIfMissing = true)
+    public TaskStatsStore redisTaskStatsStore(StringRedisTemplate stringRedisTemplate,
+                                              @Value("${taskmanager.stats.key-prefix:taskmanager:stats}") String keyPrefix) {
+        return new RedisTaskStatsStore(stringRedisTemplate, keyPrefix);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.stats.store", havingValue = "memory")
+    public TaskStatsStore inMemoryTaskStatsStore() {
+        return new InMemoryTaskStatsStore();
+    }
+}
@@ -0,0 +1,45 @@
+package com.api.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Active with spring.threads.virtual.enabled=true on a Java 21 runtime (build with -Pjava21).
+// Request threads stop being the limit, so the connection pool becomes the bound on database concurrency:
+// keep it fixed-size and make waiters give up quickly instead of piling up behind a 30s default.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor virtualThreadHikariSizing(
+            @Value("${taskmanager.virtual-threads.db.max-pool-size:20}") int maxPoolSize,
+            @Value("${taskmanager.virtual-threads.db.connection-timeout:2s}") Duration connectionTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setMaximumPoolSize(maxPoolSize);
+                    dataSource.setMinimumIdle(maxPoolSize);
+                    dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadConnectionLimits(
+            @Value("${taskmanager.virtual-threads.max-connections:20000}") int maxConnections) {
+        return factory -> factory.addConnectorCustomizers(connector ->
+                connector.setProperty("maxConnections", Integer.toString(maxConnections)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.cache.TwoTierCacheManager;
+import com.api.taskmanager.cache.TwoTierCacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/cache")
+public class CacheStatsController {
+
+    private final TwoTierCacheManager cacheManager;
+
+    @GetMapping("/stats")
+    public Map<String, TwoTierCacheStats> stats(){
+        return cacheManager.stats();
+    }
+}
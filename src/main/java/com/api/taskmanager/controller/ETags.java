@@ -0,0 +1,50 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.exception.PreconditionFailedException;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class ETags {
+
+    private ETags(){}
+
+    public static String of(Long version){
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    // the versions an If-Match list names, null when any version will do; If-Match compares strongly, so weak
+    // tags and tags that are not a version never match and a list made only of those fails up front
+    public static Set<Long> parseIfMatch(String header){
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        int i = 0;
+        while (i < header.length()) {
+            char c = header.charAt(i);
+            if (c == ',' || Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            boolean weak = header.startsWith("W/", i);
+            int open = weak ? i + 2 : i;
+            int close = open < header.length() && header.charAt(open) == '"' ? header.indexOf('"', open + 1) : -1;
+            if (close < 0) {
+                throw new PreconditionFailedException("If-Match must be a list of entity tags, got: " + header);
+            }
+            if (!weak) {
+                try {
+                    versions.add(Long.parseLong(header.substring(open + 1, close)));
+                } catch (NumberFormatException ignored) {
+                    // not one of our tags, so it matches no version
+                }
+            }
+            i = close + 1;
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("If-Match does not match any version of this task: " + header);
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,55 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.dto.BatchResultDTO;
+import com.api.taskmanager.dto.BatchTransitionDTO;
+import com.api.taskmanager.dto.BulkTransitionDTO;
+import com.api.taskmanager.dto.BulkTransitionResultDTO;
+import com.api.taskmanager.dto.TaskPatchItemDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.service.TaskBatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tasks/batch")
+public class TaskBatchController {
+
+    private final TaskBatchService service;
+
+    @PostMapping
+    public ResponseEntity<BatchResultDTO> create(@RequestBody List<TaskRequestDTO> dtos){
+        return ResponseEntity.ok(service.createAll(dtos));
+    }
+
+    @PatchMapping
+    public ResponseEntity<BatchResultDTO> update(@RequestBody List<TaskPatchItemDTO> items){
+        return ResponseEntity.ok(service.updateAll(items));
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<BatchResultDTO> start(@RequestBody @Valid BatchTransitionDTO dto){
+        return ResponseEntity.ok(service.transitionAll(dto.ids(), Status.IN_PROGRESS));
+    }
+
+    @PostMapping("/done")
+    public ResponseEntity<BatchResultDTO> done(@RequestBody @Valid BatchTransitionDTO dto){
+        return ResponseEntity.ok(service.transitionAll(dto.ids(), Status.DONE));
+    }
+
+    // moves every task matching the filter, in chunks, and answers with the number of rows that moved
+    @PostMapping("/status")
+    public ResponseEntity<BulkTransitionResultDTO> transitionMatching(@RequestBody @Valid BulkTransitionDTO dto){
+        return ResponseEntity.ok(service.transitionMatching(dto.filter(), dto.status()));
+    }
+
+    @PostMapping("/cancel")
+    public ResponseEntity<BatchResultDTO> cancel(@RequestBody @Valid BatchTransitionDTO dto){
+        return ResponseEntity.ok(service.transitionAll(dto.ids(), Status.CANCELED));
+    }
+}
@@ -0,0 +1,26 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.outbox.TaskChangeBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tasks/changes")
+public class TaskChangeController {
+
+    private final TaskChangeBroadcaster broadcaster;
+
+    // EventSource clients reconnect with Last-Event-ID, which carries the same cursor as ?since=
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(@RequestParam(required = false) String since,
+                              @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId){
+        return broadcaster.subscribe(since != null ? since : lastEventId);
+    }
+}
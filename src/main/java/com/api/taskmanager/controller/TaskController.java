@@ -1,16 +1,23 @@
 package com.api.taskmanager.controller;
 
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
 import com.api.taskmanager.dto.TaskRequestDTO;
 import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.dto.TaskStatusUpdateDTO;
+import com.api.taskmanager.pagination.CursorOrder;
 import com.api.taskmanager.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/tasks")
@@ -19,48 +26,89 @@ public class TaskController {
     private final TaskService service;
 
     @GetMapping
-    public Page<TaskResponseDTO> list(Pageable pageable){
-        return service.findAll(pageable);
+    public Page<TaskResponseDTO> list(TaskFilterDTO filter, Pageable pageable){
+        if (filter.isEmpty()) {
+            return service.findAll(pageable);
+        }
+        return service.findAll(filter, pageable);
+    }
+
+    @GetMapping(params = "cursor")
+    public CursorPageDTO<TaskResponseDTO> listByCursor(TaskFilterDTO filter,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "20") int size,
+                                                       @RequestParam(defaultValue = "ID") CursorOrder orderBy,
+                                                       @RequestParam(defaultValue = "false") boolean withTotal){
+        return service.findAll(filter, cursor, size, orderBy, withTotal);
     }
 
     @PostMapping("/{id}/done")
-    public ResponseEntity<TaskResponseDTO> complete(@PathVariable Long id){
-        var task = service.done(id);
-        return ResponseEntity.status(HttpStatus.OK).body(task);
+    public ResponseEntity<TaskResponseDTO> complete(@PathVariable Long id,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        var task = service.done(id, expectedVersion(id, ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(task.version())).body(task);
     }
 
     @PostMapping("/{id}/start")
-    public ResponseEntity<TaskResponseDTO> start(@PathVariable Long id){
-        var task = service.start(id);
-        return ResponseEntity.status(HttpStatus.OK).body(task);
+    public ResponseEntity<TaskResponseDTO> start(@PathVariable Long id,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        var task = service.start(id, expectedVersion(id, ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(task.version())).body(task);
     }
     @PostMapping("/{id}/cancel")
-    public ResponseEntity<TaskResponseDTO> cancel(@PathVariable Long id){
-        var task = service.cancel(id);
-        return ResponseEntity.status(HttpStatus.OK).body(task);
+    public ResponseEntity<TaskResponseDTO> cancel(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        var task = service.cancel(id, expectedVersion(id, ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(task.version())).body(task);
     }
 
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<TaskResponseDTO> updateStatus(@PathVariable Long id, @RequestBody @Valid TaskStatusUpdateDTO dto,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        var task = service.updateStatus(id, dto.status(), expectedVersion(id, ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(task.version())).body(task);
+    }
+
+    // the ETag lets Spring answer If-None-Match with 304 straight from the cached DTO
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponseDTO> get(@PathVariable Long id){
         var task = service.findById(id);
-        return ResponseEntity.status(HttpStatus.OK).body(task);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(task.version())).body(task);
     }
 
     @PostMapping
     public ResponseEntity<TaskResponseDTO> create(@RequestBody @Valid TaskRequestDTO dto){
         var task = service.create(dto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(task);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ETags.of(task.version())).body(task);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<TaskResponseDTO> update(@PathVariable Long id, @RequestBody @Valid TaskRequestDTO dto){
-        var updatedTask = service.update(id, dto);
-        return ResponseEntity.status(HttpStatus.OK).body(updatedTask);
+    public ResponseEntity<TaskResponseDTO> update(@PathVariable Long id, @RequestBody @Valid TaskRequestDTO dto,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        var updatedTask = service.update(id, dto, expectedVersion(id, ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(updatedTask.version())).body(updatedTask);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id){
-        service.delete(id);
+    public ResponseEntity<Void> delete(@PathVariable Long id,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        service.delete(id, expectedVersion(id, ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    // a single tag goes straight to the guarded write; for a list the one naming the current version does, and
+    // when none does any of them fails the same check
+    private Long expectedVersion(Long id, String ifMatch){
+        Set<Long> versions = ETags.parseIfMatch(ifMatch);
+        if (versions == null) {
+            return null;
+        }
+        if (versions.size() > 1) {
+            Long current = service.findById(id).version();
+            if (versions.contains(current)) {
+                return current;
+            }
+        }
+        return versions.iterator().next();
+    }
 }
@@ -0,0 +1,34 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.export.ExportFormat;
+import com.api.taskmanager.service.TaskExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tasks/export")
+public class TaskExportController {
+
+    private final TaskExportService service;
+
+    @GetMapping
+    public void export(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                       HttpServletResponse response) throws IOException {
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tasks." + format.extension())
+                .build()
+                .toString());
+        service.export(format, response.getOutputStream());
+    }
+}
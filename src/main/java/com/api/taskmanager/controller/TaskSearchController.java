@@ -0,0 +1,25 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskSearchHitDTO;
+import com.api.taskmanager.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tasks/search")
+public class TaskSearchController {
+
+    private final TaskSearchService service;
+
+    @GetMapping
+    public CursorPageDTO<TaskSearchHitDTO> search(@RequestParam(defaultValue = "") String q,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") int size){
+        return service.search(q, cursor, size);
+    }
+}
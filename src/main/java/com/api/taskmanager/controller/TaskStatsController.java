@@ -0,0 +1,21 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.dto.TaskStatsDTO;
+import com.api.taskmanager.service.TaskStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tasks/stats")
+public class TaskStatsController {
+
+    private final TaskStatsService service;
+
+    @GetMapping
+    public TaskStatsDTO stats(){
+        return service.stats();
+    }
+}
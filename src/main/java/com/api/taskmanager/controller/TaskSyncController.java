@@ -0,0 +1,23 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.dto.TaskSyncDTO;
+import com.api.taskmanager.service.TaskSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tasks/sync")
+public class TaskSyncController {
+
+    private final TaskSyncService service;
+
+    @GetMapping
+    public TaskSyncDTO sync(@RequestParam(required = false) String since,
+                            @RequestParam(defaultValue = "500") int limit){
+        return service.changesSince(since, limit);
+    }
+}
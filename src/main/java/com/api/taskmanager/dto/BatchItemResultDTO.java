@@ -0,0 +1,18 @@
+package com.api.taskmanager.dto;
+
+public record BatchItemResultDTO(
+    int index,
+    Long id,
+    boolean success,
+    TaskResponseDTO task,
+    String error
+){
+
+    public static BatchItemResultDTO ok(int index, TaskResponseDTO task){
+        return new BatchItemResultDTO(index, task.id(), true, task, null);
+    }
+
+    public static BatchItemResultDTO failed(int index, Long id, String error){
+        return new BatchItemResultDTO(index, id, false, null, error);
+    }
+}
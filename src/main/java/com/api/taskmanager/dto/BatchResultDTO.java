@@ -0,0 +1,19 @@
+package com.api.taskmanager.dto;
+
+import java.util.Comparator;
+import java.util.List;
+
+public record BatchResultDTO(
+    int succeeded,
+    int failed,
+    List<BatchItemResultDTO> items
+){
+
+    public static BatchResultDTO of(List<BatchItemResultDTO> items){
+        List<BatchItemResultDTO> ordered = items.stream()
+                .sorted(Comparator.comparingInt(BatchItemResultDTO::index))
+                .toList();
+        int succeeded = (int) ordered.stream().filter(BatchItemResultDTO::success).count();
+        return new BatchResultDTO(succeeded, ordered.size() - succeeded, ordered);
+    }
+}
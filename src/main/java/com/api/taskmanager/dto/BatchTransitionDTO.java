@@ -0,0 +1,10 @@
+package com.api.taskmanager.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record BatchTransitionDTO(
+    @NotEmpty(message = "Ids must not be empty")
+    List<Long> ids
+){}
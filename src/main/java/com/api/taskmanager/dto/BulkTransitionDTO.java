@@ -0,0 +1,20 @@
+package com.api.taskmanager.dto;
+
+import com.api.taskmanager.model.Status;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkTransitionDTO(
+    @NotNull(message = "Filter must not be null")
+    TaskFilterDTO filter,
+
+    @NotNull(message = "Status must not be null")
+    Status status
+){
+
+    // an empty filter would move every task the state machine allows
+    @AssertTrue(message = "Filter must not be empty")
+    public boolean isFiltered(){
+        return filter == null || !filter.isEmpty();
+    }
+}
@@ -0,0 +1,8 @@
+package com.api.taskmanager.dto;
+
+import com.api.taskmanager.model.Status;
+
+public record BulkTransitionResultDTO(
+    Status status,
+    long affected
+){}
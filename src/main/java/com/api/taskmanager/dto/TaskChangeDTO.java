@@ -0,0 +1,22 @@
+package com.api.taskmanager.dto;
+
+import com.api.taskmanager.event.ChangeType;
+
+import java.time.Instant;
+
+// cursor is the position in the change stream, assigned when the change is published; eventId lets consumers drop redeliveries;
+// tenantId lets the broadcaster hand each subscriber only its own tenant's changes
+public record TaskChangeDTO(
+    String cursor,
+    Long eventId,
+    ChangeType type,
+    Long taskId,
+    TaskResponseDTO task,
+    Instant occurredAt,
+    String tenantId
+){
+
+    public TaskChangeDTO at(String cursor){
+        return new TaskChangeDTO(cursor, eventId, type, taskId, task, occurredAt, tenantId);
+    }
+}
@@ -0,0 +1,34 @@
+package com.api.taskmanager.dto;
+
+import com.api.taskmanager.model.Status;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TaskFilterDTO(
+    List<Status> status,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate dueFrom,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate dueTo,
+
+    Boolean overdue,
+
+    String titlePrefix
+){
+
+    public static TaskFilterDTO none(){
+        return new TaskFilterDTO(null, null, null, null, null);
+    }
+
+    public boolean isEmpty(){
+        return (status == null || status.isEmpty())
+                && dueFrom == null
+                && dueTo == null
+                && !Boolean.TRUE.equals(overdue)
+                && (titlePrefix == null || titlePrefix.isBlank());
+    }
+}
@@ -0,0 +1,13 @@
+package com.api.taskmanager.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskPatchItemDTO(
+    @NotNull(message = "Id must not be null")
+    Long id,
+
+    @NotNull(message = "Task must not be null")
+    @Valid
+    TaskRequestDTO task
+){}
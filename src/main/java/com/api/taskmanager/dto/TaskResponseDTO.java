@@ -9,5 +9,6 @@ public record TaskResponseDTO(
     String title,
     String description,
     Status status,
-    LocalDate dueDate
+    LocalDate dueDate,
+    Long version
 ){}
@@ -0,0 +1,8 @@
+package com.api.taskmanager.dto;
+
+public record TaskSearchHitDTO(
+    TaskResponseDTO task,
+    double rank,
+    String titleHighlight,
+    String descriptionHighlight
+){}
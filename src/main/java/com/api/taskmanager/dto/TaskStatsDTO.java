@@ -0,0 +1,12 @@
+package com.api.taskmanager.dto;
+
+import com.api.taskmanager.model.Status;
+
+import java.util.Map;
+
+public record TaskStatsDTO(
+    Map<Status, Long> byStatus,
+    long overdue,
+    long dueToday,
+    long dueThisWeek
+){}
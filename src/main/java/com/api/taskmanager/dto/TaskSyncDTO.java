@@ -0,0 +1,10 @@
+package com.api.taskmanager.dto;
+
+import java.util.List;
+
+public record TaskSyncDTO(
+        List<TaskResponseDTO> changed,
+        List<Long> deleted,
+        String nextToken,
+        boolean hasMore
+){}
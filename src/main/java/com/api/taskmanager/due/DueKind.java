@@ -0,0 +1,8 @@
+package com.api.taskmanager.due;
+
+public enum DueKind {
+    // the due date has started
+    DUE_SOON,
+    // the due date has ended
+    OVERDUE
+}
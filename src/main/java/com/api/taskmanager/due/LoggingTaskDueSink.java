@@ -0,0 +1,17 @@
+package com.api.taskmanager.due;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class LoggingTaskDueSink implements TaskDueSink {
+
+    @Override
+    public void publish(List<TaskDueNotification> notifications) {
+        for (TaskDueNotification notification : notifications) {
+            log.info("Task {} of tenant {} is {} (due {}, {})", notification.taskId(), notification.tenantId(),
+                    notification.kind(), notification.dueDate(), notification.status());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.api.taskmanager.due;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// A key holding the owner's token with an expiry. The holder renews it on every tick; if it stops, the
+// lease runs out and another node takes over.
+@Slf4j
+public class RedisSweepLease implements SweepLease {
+
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+            local current = redis.call('get', KEYS[1])
+            if current == ARGV[1] then
+                redis.call('pexpire', KEYS[1], ARGV[2])
+                return 1
+            end
+            if not current then
+                redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final Duration ttl;
+    private final String token = UUID.randomUUID().toString();
+
+    public RedisSweepLease(StringRedisTemplate redisTemplate, String key, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        try {
+            Long acquired = redisTemplate.execute(ACQUIRE, List.of(key), token, String.valueOf(ttl.toMillis()));
+            return acquired != null && acquired == 1;
+        } catch (RuntimeException ex) {
+            // without Redis nobody can tell who holds the lease, pausing is safer than sweeping twice
+            log.warn("Could not take the due sweep lease, skipping this tick", ex);
+            return false;
+        }
+    }
+
+    @Override
+    public void release() {
+        try {
+            redisTemplate.execute(RELEASE, List.of(key), token);
+        } catch (RuntimeException ex) {
+            log.debug("Could not release the due sweep lease, it expires on its own", ex);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.api.taskmanager.due;
+
+// Only the holder sweeps. tryAcquire takes a free lease or extends one this node already holds.
+public interface SweepLease {
+
+    boolean tryAcquire();
+    void release();
+
+}
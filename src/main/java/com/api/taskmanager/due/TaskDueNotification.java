@@ -0,0 +1,15 @@
+package com.api.taskmanager.due;
+
+import com.api.taskmanager.model.Status;
+
+import java.time.LocalDate;
+
+// status is the task's status after the sweep, so an auto-transitioned task already reports its new status
+public record TaskDueNotification(
+        DueKind kind,
+        Long taskId,
+        String tenantId,
+        String title,
+        LocalDate dueDate,
+        Status status
+){}
@@ -0,0 +1,138 @@
+package com.api.taskmanager.due;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Queues one entry per due date and kind, not per task, and sweeps each when its time comes. Only the
+ * {@link SweepLease} holder runs; a new holder first replays the last {@code catch-up}.
+ */
+@Slf4j
+@Component
+public class TaskDueScheduler {
+
+    private final TaskDueSweeper sweeper;
+    private final SweepLease lease;
+    private final ZoneId zone;
+    private final Duration soonLead;
+    private final Duration horizon;
+    private final Duration catchUp;
+    private final Clock clock;
+    private final PriorityQueue<DueBucket> queue = new PriorityQueue<>(Comparator.comparing(DueBucket::fireAt));
+    // the end of what is already queued, null while another node holds the lease
+    private Instant plannedUntil;
+
+    @Autowired
+    public TaskDueScheduler(TaskDueSweeper sweeper, SweepLease lease,
+                            @Value("${taskmanager.due.zone:}") String zone,
+                            @Value("${taskmanager.due.soon-lead:PT24H}") Duration soonLead,
+                            @Value("${taskmanager.due.horizon:PT1H}") Duration horizon,
+                            @Value("${taskmanager.due.catch-up:PT24H}") Duration catchUp) {
+        this(sweeper, lease, soonLead, horizon, catchUp,
+                zone.isBlank() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(zone)));
+    }
+
+    TaskDueScheduler(TaskDueSweeper sweeper, SweepLease lease, Duration soonLead,
+                     Duration horizon, Duration catchUp, Clock clock) {
+        this.sweeper = sweeper;
+        this.lease = lease;
+        this.zone = clock.getZone();
+        this.soonLead = soonLead;
+        this.horizon = horizon;
+        this.catchUp = catchUp;
+        this.clock = clock;
+    }
+
+    @Scheduled(initialDelayString = "${taskmanager.due.initial-delay:PT30S}",
+            fixedDelayString = "${taskmanager.due.tick:PT10S}")
+    public synchronized void tick() {
+        if (!lease.tryAcquire()) {
+            if (plannedUntil != null) {
+                log.info("Lost the due sweep lease, another node sweeps now");
+                queue.clear();
+                plannedUntil = null;
+            }
+            return;
+        }
+        Instant now = clock.instant();
+        Instant from = plannedUntil != null ? plannedUntil : now.minus(catchUp);
+        Instant until = now.plus(horizon);
+        plan(from, until, now);
+        plannedUntil = until;
+
+        while (!queue.isEmpty() && !queue.peek().fireAt().isAfter(now)) {
+            DueBucket bucket = queue.peek();
+            try {
+                if (!sweep(bucket)) {
+                    return;
+                }
+                queue.poll();
+            } catch (RuntimeException ex) {
+                // the bucket stays at the head and is retried from the start on the next tick
+                log.warn("Sweeping {} tasks due {} failed, retrying on the next tick", bucket.kind(), bucket.dueDate(), ex);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lease.release();
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    // a date ends at the start of the next day; it is due soon from soonLead before that
+    private void plan(Instant from, Instant until, Instant now) {
+        LocalDate first = from.atZone(zone).toLocalDate().minusDays(1);
+        LocalDate last = until.plus(soonLead).atZone(zone).toLocalDate();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            Instant overdueAt = date.plusDays(1).atStartOfDay(zone).toInstant();
+            Instant soonAt = overdueAt.minus(soonLead);
+            if (within(overdueAt, from, until)) {
+                queue.add(new DueBucket(DueKind.OVERDUE, date, overdueAt));
+            }
+            // a catch-up never announces a date that has already ended as due soon
+            if (within(soonAt, from, until) && overdueAt.isAfter(now)) {
+                queue.add(new DueBucket(DueKind.DUE_SOON, date, soonAt));
+            }
+        }
+    }
+
+    // false when the lease was lost half way, the new holder repeats the bucket
+    private boolean sweep(DueBucket bucket) {
+        Long afterId = 0L;
+        int batches = 0;
+        while (afterId != null) {
+            if (batches++ > 0 && !lease.tryAcquire()) {
+                log.info("Lost the due sweep lease while sweeping {} tasks due {}", bucket.kind(), bucket.dueDate());
+                queue.clear();
+                plannedUntil = null;
+                return false;
+            }
+            afterId = sweeper.sweepBatch(bucket.kind(), bucket.dueDate(), afterId);
+        }
+        return true;
+    }
+
+    private static boolean within(Instant instant, Instant from, Instant until) {
+        return !instant.isBefore(from) && instant.isBefore(until);
+    }
+
+    private record DueBucket(DueKind kind, LocalDate dueDate, Instant fireAt) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.api.taskmanager.due;
+
+import java.util.List;
+
+// Where due and overdue notifications go. Delivery is at-least-once, a lease handover can repeat a batch.
+public interface TaskDueSink {
+
+    void publish(List<TaskDueNotification> notifications);
+
+}
@@ -0,0 +1,89 @@
+package com.api.taskmanager.due;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.state.TaskBulkTransition;
+import com.api.taskmanager.state.TaskStateMachine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sweeps the open tasks due on one date, one bounded batch per transaction, optionally moving overdue ones
+ * to {@code taskmanager.due.auto-transition}.
+ */
+@Component
+public class TaskDueSweeper {
+
+    private final TaskRepository repository;
+    private final TaskBulkTransition bulkTransition;
+    private final TaskDueSink sink;
+    private final TransactionTemplate tx;
+    private final MeterRegistry registry;
+    private final Status autoTransition;
+    private final Set<Status> autoTransitionSources;
+    private final int batchSize;
+
+    public TaskDueSweeper(TaskRepository repository, TaskBulkTransition bulkTransition, TaskStateMachine state,
+                          TaskDueSink sink,
+                          PlatformTransactionManager transactionManager, MeterRegistry registry,
+                          @Value("${taskmanager.due.auto-transition:#{null}}") Status autoTransition,
+                          @Value("${taskmanager.due.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.bulkTransition = bulkTransition;
+        this.sink = sink;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.registry = registry;
+        this.autoTransition = autoTransition;
+        this.batchSize = batchSize;
+        if (autoTransition == null) {
+            this.autoTransitionSources = Set.of();
+        } else {
+            Set<Status> sources = EnumSet.copyOf(Status.open());
+            sources.retainAll(state.sourcesOf(autoTransition));
+            if (sources.isEmpty()) {
+                throw new IllegalArgumentException("No open task can move to " + autoTransition);
+            }
+            this.autoTransitionSources = sources;
+        }
+    }
+
+    // returns the id to continue after, or null once the date has no more open tasks
+    public Long sweepBatch(DueKind kind, LocalDate dueDate, long afterId) {
+        boolean transition = kind == DueKind.OVERDUE && autoTransition != null;
+        List<TaskDueNotification> notifications = tx.execute(status -> {
+            List<Task> batch = transition
+                    ? repository.findDueOnForUpdate(Status.open(), dueDate, afterId, Limit.of(batchSize))
+                    : repository.findDueOn(Status.open(), dueDate, afterId, Limit.of(batchSize));
+            Set<Long> moved = transition ? transition(batch) : Set.of();
+            return batch.stream()
+                    .map(task -> new TaskDueNotification(kind, task.getId(), task.getTenantId(), task.getTitle(),
+                            task.getDueDate(), moved.contains(task.getId()) ? autoTransition : task.getStatus()))
+                    .toList();
+        });
+        if (notifications.isEmpty()) {
+            return null;
+        }
+        sink.publish(notifications);
+        registry.counter("tasks.due.notified", "kind", kind.name()).increment(notifications.size());
+        return notifications.size() < batchSize ? null : notifications.get(notifications.size() - 1).taskId();
+    }
+
+    // sweeps run as root, the event carries each task's own tenant into the outbox
+    private Set<Long> transition(List<Task> batch) {
+        List<TaskResponseDTO> moved = bulkTransition.transition(batch, autoTransition, autoTransitionSources);
+        registry.counter("tasks.due.transitioned", "status", autoTransition.name()).increment(moved.size());
+        return moved.stream().map(TaskResponseDTO::id).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,10 @@
+package com.api.taskmanager.event;
+
+public enum ChangeType {
+
+    CREATED,
+    UPDATED,
+    TRANSITIONED,
+    DELETED
+
+}
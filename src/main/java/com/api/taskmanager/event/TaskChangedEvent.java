@@ -0,0 +1,33 @@
+package com.api.taskmanager.event;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+
+// tenantId is only set by background jobs, which run as root; request code leaves it to the current tenant
+public record TaskChangedEvent(
+        ChangeType type,
+        Long id,
+        TaskResponseDTO before,
+        TaskResponseDTO after,
+        String tenantId
+){
+
+    public static TaskChangedEvent created(TaskResponseDTO after){
+        return new TaskChangedEvent(ChangeType.CREATED, after.id(), null, after, null);
+    }
+
+    public static TaskChangedEvent updated(TaskResponseDTO before, TaskResponseDTO after){
+        return new TaskChangedEvent(ChangeType.UPDATED, after.id(), before, after, null);
+    }
+
+    public static TaskChangedEvent transitioned(TaskResponseDTO before, TaskResponseDTO after){
+        return new TaskChangedEvent(ChangeType.TRANSITIONED, after.id(), before, after, null);
+    }
+
+    public static TaskChangedEvent deleted(TaskResponseDTO before){
+        return new TaskChangedEvent(ChangeType.DELETED, before.id(), before, null, null);
+    }
+
+    public TaskChangedEvent forTenant(String tenantId){
+        return new TaskChangedEvent(type, id, before, after, tenantId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.api.taskmanager.event;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.model.Status;
+
+import java.util.List;
+
+// One chunk of a bulk transition; listeners apply the whole chunk in one write instead of one per task
+public record TasksTransitionedEvent(
+        Status target,
+        List<Transitioned> tasks
+){
+
+    public record Transitioned(
+            String tenantId,
+            TaskResponseDTO before
+    ){}
+
+    public TaskResponseDTO after(Transitioned task){
+        TaskResponseDTO before = task.before();
+        return new TaskResponseDTO(before.id(), before.title(), before.description(), target, before.dueDate(),
+                before.version() + 1);
+    }
+}
@@ -0,0 +1,11 @@
+package com.api.taskmanager.exception;
+
+public class PreconditionFailedException extends RuntimeException{
+    public PreconditionFailedException(Long id, Long currentVersion){
+        super("Task " + id + " does not match the requested version, current version is " + currentVersion);
+    }
+
+    public PreconditionFailedException(String msg){
+        super(msg);
+    }
+}
@@ -0,0 +1,7 @@
+package com.api.taskmanager.exception;
+
+public class SyncTokenExpiredException extends RuntimeException{
+    public SyncTokenExpiredException(String token){
+        super("Sync token is older than the tombstone retention, a full sync is required: " + token);
+    }
+}
@@ -0,0 +1,43 @@
+package com.api.taskmanager.export;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public final class CsvTaskWriter {
+
+    public static final String HEADER = "id,title,description,status,dueDate,version";
+
+    private CsvTaskWriter(){}
+
+    public static void writeHeader(Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    public static void write(Writer writer, TaskResponseDTO task) throws IOException {
+        writer.write(String.valueOf(task.id()));
+        writer.write(',');
+        writer.write(escape(task.title()));
+        writer.write(',');
+        writer.write(escape(task.description()));
+        writer.write(',');
+        writer.write(task.status() == null ? "" : task.status().name());
+        writer.write(',');
+        writer.write(task.dueDate() == null ? "" : task.dueDate().toString());
+        writer.write(',');
+        writer.write(task.version() == null ? "" : task.version().toString());
+        writer.write('\n');
+    }
+
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
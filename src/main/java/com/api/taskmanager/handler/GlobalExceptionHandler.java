@@ -1,7 +1,12 @@
 package com.api.taskmanager.handler;
 
+import com.api.taskmanager.exception.BatchTooLargeException;
+import com.api.taskmanager.exception.InvalidCursorException;
 import com.api.taskmanager.exception.InvalidTaskStateException;
+import com.api.taskmanager.exception.PreconditionFailedException;
+import com.api.taskmanager.exception.SyncTokenExpiredException;
 import com.api.taskmanager.exception.TaskNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.validation.FieldError;
@@ -46,6 +51,46 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleCursor(InvalidCursorException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problem.setTitle("Invalid Cursor");
+        problem.setDetail(ex.getMessage());
+        return problem;
+    }
+
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ProblemDetail handleSyncTokenExpired(SyncTokenExpiredException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.GONE);
+        problem.setTitle("Sync Token Expired");
+        problem.setDetail(ex.getMessage());
+        return problem;
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ProblemDetail handleBatchTooLarge(BatchTooLargeException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problem.setTitle("Batch Too Large");
+        problem.setDetail(ex.getMessage());
+        return problem;
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ProblemDetail handlePreconditionFailed(PreconditionFailedException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.PRECONDITION_FAILED);
+        problem.setTitle("Precondition Failed");
+        problem.setDetail(ex.getMessage());
+        return problem;
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleConcurrentModification(OptimisticLockingFailureException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problem.setTitle("Concurrent Modification");
+        problem.setDetail("The task was modified by another request, reload it and retry.");
+        return problem;
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleGenericException(Exception ex) {
         ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
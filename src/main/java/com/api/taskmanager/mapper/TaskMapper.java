@@ -0,0 +1,35 @@
+package com.api.taskmanager.mapper;
+
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.model.Task;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskMapper {
+
+    public TaskResponseDTO toResponseDTO(Task task) {
+        return new TaskResponseDTO(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getDueDate(),
+                task.getVersion()
+        );
+    }
+
+    public Task toEntity(TaskRequestDTO dto) {
+        Task task = new Task();
+        task.setTitle(dto.title());
+        task.setDescription(dto.description());
+        task.setDueDate(dto.dueDate());
+        return task;
+    }
+
+    public void apply(TaskRequestDTO dto, Task task) {
+        task.setTitle(dto.title());
+        task.setDescription(dto.description());
+        task.setDueDate(dto.dueDate());
+    }
+}
@@ -0,0 +1,61 @@
+package com.api.taskmanager.metrics;
+
+import com.api.taskmanager.exception.InvalidTaskStateException;
+import com.api.taskmanager.exception.PreconditionFailedException;
+import com.api.taskmanager.exception.TaskNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+// Outermost advice, so the timing includes the cache lookup and the transaction commit.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TaskServiceMetrics {
+
+    public static final String OPERATION_TIMER = "taskmanager.task.operation";
+
+    private final MeterRegistry registry;
+
+    @Around("execution(public * com.api.taskmanager.service.TaskService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = outcome(ex);
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(OPERATION_TIMER)
+                    .description("Time spent in task service operations")
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    static String outcome(Throwable ex) {
+        if (ex instanceof TaskNotFoundException) {
+            return "not_found";
+        }
+        if (ex instanceof InvalidTaskStateException) {
+            return "invalid_state";
+        }
+        if (ex instanceof PreconditionFailedException || ex instanceof OptimisticLockingFailureException) {
+            return "conflict";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,43 @@
+package com.api.taskmanager.metrics;
+
+import com.api.taskmanager.cache.TwoTierCache;
+import com.api.taskmanager.cache.TwoTierCacheManager;
+import com.api.taskmanager.cache.TwoTierCacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.ToDoubleFunction;
+
+@RequiredArgsConstructor
+public class TwoTierCacheMetrics implements MeterBinder {
+
+    private final TwoTierCacheManager cacheManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : cacheManager.nearCacheNames()) {
+            TwoTierCache cache = (TwoTierCache) cacheManager.getCache(name);
+            counter(registry, "cache.gets", cache, TwoTierCacheStats::localHits, "tier", "local", "result", "hit");
+            counter(registry, "cache.gets", cache, TwoTierCacheStats::localMisses, "tier", "local", "result", "miss");
+            counter(registry, "cache.gets", cache, TwoTierCacheStats::remoteHits, "tier", "remote", "result", "hit");
+            counter(registry, "cache.gets", cache, TwoTierCacheStats::remoteMisses, "tier", "remote", "result", "miss");
+            counter(registry, "cache.evictions", cache, TwoTierCacheStats::evictions, "cause", "explicit");
+            counter(registry, "cache.evictions", cache, TwoTierCacheStats::localEvictions, "cause", "size");
+            counter(registry, "cache.remote.errors", cache, TwoTierCacheStats::remoteErrors);
+            Gauge.builder("cache.size", cache, c -> c.stats().localSize())
+                    .tags("cache", name, "tier", "local")
+                    .register(registry);
+        }
+    }
+
+    private static void counter(MeterRegistry registry, String meter, TwoTierCache cache,
+                                ToDoubleFunction<TwoTierCacheStats> value, String... tags) {
+        FunctionCounter.builder(meter, cache, c -> value.applyAsDouble(c.stats()))
+                .tags(tags)
+                .tag("cache", cache.getName())
+                .register(registry);
+    }
+}
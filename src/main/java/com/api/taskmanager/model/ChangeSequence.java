@@ -0,0 +1,18 @@
+package com.api.taskmanager.model;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Fills the column from the task_change_seq sequence on every insert and update, see ChangeSequences.
+@ValueGenerationType(generatedBy = ChangeSequenceGeneration.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ChangeSequence {
+
+    String SEQUENCE_NAME = "task_change_seq";
+
+}
@@ -0,0 +1,18 @@
+package com.api.taskmanager.model;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+// Lets bulk JPQL updates stamp a change sequence the same way entity writes do: set t.changeSeq = next_change_seq()
+public class ChangeSequenceFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functions) {
+        functions.getFunctionRegistry().registerPattern(
+                "next_change_seq",
+                ChangeSequenceGeneration.nextValue(functions.getDialect()),
+                functions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.LONG)
+        );
+    }
+}
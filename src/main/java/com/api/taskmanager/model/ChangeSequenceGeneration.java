@@ -0,0 +1,34 @@
+package com.api.taskmanager.model;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+// The value is drawn before the statement runs: a value the INSERT generated itself would have to be read
+// back, and Hibernate stops batching inserts of an entity with such a property.
+public class ChangeSequenceGeneration implements BeforeExecutionGenerator {
+
+    public ChangeSequenceGeneration(ChangeSequence annotation, Member member, GeneratorCreationContext context) {
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_AND_UPDATE;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return ChangeSequences.next(session);
+    }
+
+    static String nextValue(Dialect dialect) {
+        return dialect.getSequenceSupport().getSelectSequenceNextValString(ChangeSequence.SEQUENCE_NAME);
+    }
+}
@@ -0,0 +1,88 @@
+package com.api.taskmanager.model;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Draws change sequence values over the raw connection. Going through Hibernate's statement preparer would
+ * execute the pending insert batch first, so values drawn during a flush would split the batch again.
+ * A batch write reserves all of its values with one statement; they are handed out within its transaction.
+ */
+public final class ChangeSequences {
+
+    private static final Object RESERVED = new Object();
+
+    private ChangeSequences(){}
+
+    public static void reserve(Session session, int count) {
+        if (count < 1 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        reserved().addAll(draw(session.unwrap(SharedSessionContractImplementor.class), count));
+    }
+
+    static long next(SharedSessionContractImplementor session) {
+        if (TransactionSynchronizationManager.getResource(RESERVED) instanceof Deque<?> reserved && !reserved.isEmpty()) {
+            return (Long) reserved.poll();
+        }
+        return draw(session, 1).get(0);
+    }
+
+    private static List<Long> draw(SharedSessionContractImplementor session, int count) {
+        Dialect dialect = session.getJdbcServices().getDialect();
+        try {
+            return fetch(session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection(), dialect, count);
+        } catch (SQLException ex) {
+            throw new HibernateException("Could not draw from " + ChangeSequence.SEQUENCE_NAME, ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Deque<Long> reserved() {
+        Deque<Long> reserved = (Deque<Long>) TransactionSynchronizationManager.getResource(RESERVED);
+        if (reserved == null) {
+            Deque<Long> created = new ArrayDeque<>();
+            TransactionSynchronizationManager.bindResource(RESERVED, created);
+            // values left over are dropped with the transaction, the sequence tolerates gaps
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RESERVED);
+                }
+            });
+            reserved = created;
+        }
+        return reserved;
+    }
+
+    private static List<Long> fetch(Connection connection, Dialect dialect, int count) throws SQLException {
+        String sql = """
+                with recursive n(i) as (select 1 union all select i + 1 from n where i < ?)
+                select %s from n""".formatted(ChangeSequenceGeneration.nextValue(dialect));
+        List<Long> values = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, count);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    values.add(rows.getLong(1));
+                }
+            }
+        }
+        Collections.sort(values);
+        return values;
+    }
+}
@@ -1,10 +1,23 @@
 package com.api.taskmanager.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum Status {
 
     PENDING,
     IN_PROGRESS,
     DONE,
-    CANCELED
+    CANCELED;
+
+    private static final Set<Status> OPEN = EnumSet.of(PENDING, IN_PROGRESS);
+
+    public boolean isOpen() {
+        return OPEN.contains(this);
+    }
+
+    public static Set<Status> open() {
+        return EnumSet.copyOf(OPEN);
+    }
 
 }
@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.TenantId;
 
 import java.time.LocalDate;
 
@@ -11,13 +14,33 @@ import java.time.LocalDate;
 @Getter
 @Setter
 @EqualsAndHashCode
-@Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_tenant_due_date_id", columnList = "tenant_id, due_date, id"),
+        @Index(name = "idx_tasks_tenant_status_due_date_id", columnList = "tenant_id, status, due_date, id"),
+        @Index(name = "idx_tasks_tenant_title", columnList = "tenant_id, title"),
+        @Index(name = "idx_tasks_tenant_change_seq", columnList = "tenant_id, change_seq"),
+        // background sweeps run across all tenants, so they need an index that does not lead with tenant_id
+        @Index(name = "idx_tasks_status_due_date_id", columnList = "status, due_date, id"),
+        // the due sweep pages one date in id order across several statuses, which the index above cannot return
+        // without a sort
+        @Index(name = "idx_tasks_due_date_id", columnList = "due_date, id")
+})
 public class Task {
 
+    public static final String CACHE_REGION = "task";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
+    // stamped from TenantResolver on insert and added to every query Hibernate runs for a non-root tenant
+    @TenantId
+    @Column(nullable = false, updatable = false)
+    private String tenantId;
+
     @Column(nullable = false)
     private String title;
 
@@ -29,5 +52,16 @@ public class Task {
     @Enumerated(EnumType.STRING)
     private Status status;
 
-    
+    // the status before the last transition, set in the same UPDATE so its change event knows where the task came from
+    @Enumerated(EnumType.STRING)
+    private Status previousStatus;
+
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
+    // drawn from task_change_seq on every insert and update, delta sync reads rows past a client's last seen value
+    @ChangeSequence
+    private Long changeSeq;
+
 }
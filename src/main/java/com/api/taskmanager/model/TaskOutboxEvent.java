@@ -0,0 +1,44 @@
+package com.api.taskmanager.model;
+
+import com.api.taskmanager.event.ChangeType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+// A task change waiting to be relayed. Written in the transaction of the change itself, deleted once published.
+@Entity
+@Getter
+@Setter
+@Table(name = "task_outbox")
+public class TaskOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_outbox_seq")
+    @SequenceGenerator(name = "task_outbox_seq", sequenceName = "task_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @TenantId
+    @Column(nullable = false, updatable = false)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType type;
+
+    // the task as JSON after the change, or as it was before a delete
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+}
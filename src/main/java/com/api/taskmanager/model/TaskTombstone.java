@@ -0,0 +1,35 @@
+package com.api.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.TenantId;
+
+import java.time.Instant;
+
+// What is left of a deleted task for delta sync. The id is drawn from the same sequence as Task.changeSeq,
+// so tombstones and changed rows share one ordering.
+@Entity
+@Getter
+@Setter
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstones_deleted_at", columnList = "deleted_at")
+})
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ChangeSequence.SEQUENCE_NAME)
+    @SequenceGenerator(name = ChangeSequence.SEQUENCE_NAME, sequenceName = ChangeSequence.SEQUENCE_NAME, allocationSize = 1)
+    private Long changeSeq;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @TenantId
+    @Column(nullable = false, updatable = false)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+}
@@ -0,0 +1,80 @@
+package com.api.taskmanager.outbox;
+
+import com.api.taskmanager.dto.TaskChangeDTO;
+import com.api.taskmanager.exception.InvalidCursorException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Keeps the latest changes of this node only, for single-instance setups and tests.
+public class InMemoryTaskChangeSink implements TaskChangeSink {
+
+    private final int capacity;
+    private final Deque<TaskChangeDTO> changes = new ArrayDeque<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long sequence;
+
+    public InMemoryTaskChangeSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void publish(List<TaskChangeDTO> published) {
+        lock.writeLock().lock();
+        try {
+            for (TaskChangeDTO change : published) {
+                changes.addLast(change.at(Long.toString(++sequence)));
+                if (changes.size() > capacity) {
+                    changes.removeFirst();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<TaskChangeDTO> read(String since, int limit) {
+        long after = parse(since);
+        lock.readLock().lock();
+        try {
+            List<TaskChangeDTO> result = new ArrayList<>(Math.min(limit, changes.size()));
+            for (TaskChangeDTO change : changes) {
+                if (result.size() == limit) {
+                    break;
+                }
+                if (Long.parseLong(change.cursor()) > after) {
+                    result.add(change);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String head() {
+        lock.readLock().lock();
+        try {
+            return changes.isEmpty() ? null : changes.getLast().cursor();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
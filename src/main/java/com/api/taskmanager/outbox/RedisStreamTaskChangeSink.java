@@ -0,0 +1,101 @@
+package com.api.taskmanager.outbox;
+
+import com.api.taskmanager.dto.TaskChangeDTO;
+import com.api.taskmanager.exception.InvalidCursorException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Redis assigns the stream ids, which become the cursors consumers resume from. XTRIM keeps roughly maxLength entries.
+public class RedisStreamTaskChangeSink implements TaskChangeSink {
+
+    private static final String FIELD = "change";
+    private static final Pattern STREAM_ID = Pattern.compile("\\d+-\\d+");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String key;
+    private final long maxLength;
+
+    public RedisStreamTaskChangeSink(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                     String key, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.key = key;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void publish(List<TaskChangeDTO> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (TaskChangeDTO change : changes) {
+                    operations.opsForStream().add(StreamRecords.newRecord()
+                            .in(key)
+                            .ofMap(Map.of(FIELD, write(change))));
+                }
+                operations.opsForStream().trim(key, maxLength, true);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public List<TaskChangeDTO> read(String since, int limit) {
+        Range<String> range = Range.unbounded();
+        if (since != null && !since.isBlank()) {
+            if (!STREAM_ID.matcher(since).matches()) {
+                throw new InvalidCursorException(since);
+            }
+            range = Range.rightUnbounded(Range.Bound.exclusive(since));
+        }
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().range(key, range, Limit.limit().count(limit));
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+                .map(record -> read((String) record.getValue().get(FIELD)).at(record.getId().getValue()))
+                .toList();
+    }
+
+    @Override
+    public String head() {
+        List<MapRecord<String, Object, Object>> newest =
+                redisTemplate.opsForStream().reverseRange(key, Range.unbounded(), Limit.limit().count(1));
+        return newest == null || newest.isEmpty() ? null : newest.get(0).getId().getValue();
+    }
+
+    private String write(TaskChangeDTO change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private TaskChangeDTO read(String json) {
+        try {
+            return objectMapper.readValue(json, TaskChangeDTO.class);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
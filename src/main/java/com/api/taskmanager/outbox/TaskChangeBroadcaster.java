@@ -0,0 +1,144 @@
+package com.api.taskmanager.outbox;
+
+import com.api.taskmanager.dto.TaskChangeDTO;
+import com.api.taskmanager.service.TaskChangeService;
+import com.api.taskmanager.tenant.TenantResolver;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Tails the sink for every open SSE connection. Each subscriber remembers its own cursor, so a slow
+// or reconnecting client resumes exactly where it stopped, whichever node published the changes.
+// The stream is shared by all tenants; a subscriber skips other tenants' changes but still moves past them.
+// Sends block on slow clients, so they run on their own threads, never on the shared scheduler thread.
+@Slf4j
+@Component
+public class TaskChangeBroadcaster {
+
+    private static final String EVENT = "task-change";
+
+    private final TaskChangeService service;
+    private final TenantResolver tenants;
+    private final Duration timeout;
+    private final int batchSize;
+    private final ExecutorService senders;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    public TaskChangeBroadcaster(TaskChangeService service,
+                                 TenantResolver tenants,
+                                 @Value("${taskmanager.outbox.sse.timeout:PT30M}") Duration timeout,
+                                 @Value("${taskmanager.outbox.sse.batch-size:200}") int batchSize,
+                                 @Value("${taskmanager.outbox.sse.send-threads:4}") int sendThreads) {
+        this.service = service;
+        this.tenants = tenants;
+        this.timeout = timeout;
+        this.batchSize = batchSize;
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-send-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // a missing cursor means "from now on": consumers take one full listing, then tail
+    public SseEmitter subscribe(String since) {
+        String cursor = since == null || since.isBlank() ? service.head() : since;
+        // reads once up front so a malformed cursor is rejected before the stream starts
+        List<TaskChangeDTO> backlog = service.changesSince(cursor, batchSize);
+
+        Subscription subscription = new Subscription(new SseEmitter(timeout.toMillis()), cursor,
+                tenants.resolveCurrentTenantIdentifier());
+        subscription.emitter.onCompletion(() -> subscriptions.remove(subscription));
+        subscription.emitter.onTimeout(() -> subscriptions.remove(subscription));
+        subscription.emitter.onError(ex -> subscriptions.remove(subscription));
+
+        if (send(subscription, backlog)) {
+            subscriptions.add(subscription);
+        }
+        return subscription.emitter;
+    }
+
+    // hands each subscriber to a sender; one still busy with an earlier poll is skipped rather than queued twice
+    @Scheduled(fixedDelayString = "${taskmanager.outbox.sse.poll-interval:PT1S}")
+    public void poll() {
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.busy.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                senders.execute(() -> drain(subscription));
+            } catch (RejectedExecutionException ex) {
+                subscription.busy.set(false);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            List<TaskChangeDTO> changes;
+            do {
+                changes = service.changesSince(subscription.cursor, batchSize);
+            } while (send(subscription, changes) && changes.size() == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Could not read task changes for a subscriber, retrying on the next poll", ex);
+        } finally {
+            subscription.busy.set(false);
+        }
+    }
+
+    private boolean send(Subscription subscription, List<TaskChangeDTO> changes) {
+        try {
+            for (TaskChangeDTO change : changes) {
+                if (tenants.isRoot(subscription.tenant) || subscription.tenant.equals(change.tenantId())) {
+                    subscription.emitter.send(SseEmitter.event().id(change.cursor()).name(EVENT).data(change));
+                }
+                subscription.cursor = change.cursor();
+            }
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            // the client went away
+            subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(ex);
+            return false;
+        }
+    }
+
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final String tenant;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private volatile String cursor;
+
+        private Subscription(SseEmitter emitter, String cursor, String tenant) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.tenant = tenant;
+        }
+    }
+}
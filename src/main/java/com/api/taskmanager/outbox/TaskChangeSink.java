@@ -0,0 +1,16 @@
+package com.api.taskmanager.outbox;
+
+import com.api.taskmanager.dto.TaskChangeDTO;
+
+import java.util.List;
+
+public interface TaskChangeSink {
+
+    void publish(List<TaskChangeDTO> changes);
+
+    // published changes strictly after the cursor, oldest first; a null cursor reads from the oldest retained change
+    List<TaskChangeDTO> read(String since, int limit);
+
+    // cursor of the newest published change, or null while nothing is retained
+    String head();
+}
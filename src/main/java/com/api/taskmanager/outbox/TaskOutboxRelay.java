@@ -0,0 +1,46 @@
+package com.api.taskmanager.outbox;
+
+import com.api.taskmanager.due.SweepLease;
+import com.api.taskmanager.service.TaskChangeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TaskOutboxRelay {
+
+    private final TaskChangeService service;
+    private final SweepLease lease;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public TaskOutboxRelay(TaskChangeService service, SweepLease lease,
+                           @Value("${taskmanager.outbox.relay.batch-size:500}") int batchSize,
+                           @Value("${taskmanager.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.service = service;
+        this.lease = lease;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${taskmanager.outbox.relay.initial-delay:PT5S}",
+            fixedDelayString = "${taskmanager.outbox.relay.interval:PT1S}")
+    public void relay() {
+        // one relay at a time, so changes reach the sink in outbox order
+        if (!lease.tryAcquire()) {
+            return;
+        }
+        try {
+            // keep draining while batches come back full, but leave the scheduler thread now and then
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                if (service.relay(batchSize) < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Relaying task changes failed, the outbox keeps them for the next run", ex);
+        }
+    }
+}
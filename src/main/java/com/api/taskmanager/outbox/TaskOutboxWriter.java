@@ -0,0 +1,65 @@
+package com.api.taskmanager.outbox;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.ChangeType;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.event.TasksTransitionedEvent;
+import com.api.taskmanager.model.TaskOutboxEvent;
+import com.api.taskmanager.repository.TaskOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// A plain listener on purpose: it runs inside the transaction that changed the task, so both commit or neither does.
+@Component
+@RequiredArgsConstructor
+public class TaskOutboxWriter {
+
+    private final TaskOutboxRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    @Transactional
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskResponseDTO task = event.after() != null ? event.after() : event.before();
+        repository.save(outbox(event.id(), event.tenantId(), event.type(), task, Instant.now()));
+    }
+
+    // saveAll queues the rows for one JDBC batch at flush
+    @EventListener
+    @Transactional
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        Instant now = Instant.now();
+        List<TaskOutboxEvent> outbox = new ArrayList<>(event.tasks().size());
+        for (TasksTransitionedEvent.Transitioned task : event.tasks()) {
+            outbox.add(outbox(task.before().id(), task.tenantId(), ChangeType.TRANSITIONED, event.after(task), now));
+        }
+        repository.saveAll(outbox);
+    }
+
+    private TaskOutboxEvent outbox(Long taskId, String tenantId, ChangeType type, TaskResponseDTO task, Instant now) {
+        TaskOutboxEvent outbox = new TaskOutboxEvent();
+        outbox.setTaskId(taskId);
+        outbox.setTenantId(tenantId);
+        outbox.setType(type);
+        outbox.setPayload(write(task));
+        outbox.setCreatedAt(now);
+        return outbox;
+    }
+
+    private String write(TaskResponseDTO task) {
+        try {
+            return objectMapper.writeValueAsString(task);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
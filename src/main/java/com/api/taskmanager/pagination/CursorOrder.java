@@ -0,0 +1,8 @@
+package com.api.taskmanager.pagination;
+
+public enum CursorOrder {
+
+    ID,
+    DUE_DATE
+
+}
@@ -0,0 +1,45 @@
+package com.api.taskmanager.pagination;
+
+import com.api.taskmanager.exception.InvalidCursorException;
+import com.api.taskmanager.search.TaskSearchHit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Search results are ordered by rank descending, then id, so the last hit of a page is the keyset for the next one.
+public record SearchCursor(
+        double rank,
+        long id
+){
+
+    private static final String SEPARATOR = ":";
+
+    public static SearchCursor after(TaskSearchHit hit){
+        return new SearchCursor(hit.rank(), hit.id());
+    }
+
+    // a hit comes after the cursor when it ranks lower, or ranks the same with a higher id
+    public boolean precedes(double otherRank, long otherId){
+        int byRank = Double.compare(otherRank, rank);
+        return byRank < 0 || (byRank == 0 && otherId > id);
+    }
+
+    public String encode(){
+        String raw = "r" + SEPARATOR + rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token){
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length == 3 && parts[0].equals("r")) {
+                return new SearchCursor(Double.parseDouble(parts[1]), Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(token);
+        }
+        throw new InvalidCursorException(token);
+    }
+}
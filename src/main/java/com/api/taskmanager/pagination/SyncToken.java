@@ -0,0 +1,36 @@
+package com.api.taskmanager.pagination;
+
+import com.api.taskmanager.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+// Opaque delta sync position: the last change sequence a client has seen and when that position was handed out.
+public record SyncToken(
+        long changeSeq,
+        Instant issuedAt
+){
+
+    private static final String SEPARATOR = ":";
+
+    public String encode(){
+        String raw = "s" + SEPARATOR + changeSeq + SEPARATOR + issuedAt.getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token){
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length == 3 && parts[0].equals("s")) {
+                return new SyncToken(Long.parseLong(parts[1]), Instant.ofEpochSecond(Long.parseLong(parts[2])));
+            }
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidCursorException(token);
+        }
+        throw new InvalidCursorException(token);
+    }
+}
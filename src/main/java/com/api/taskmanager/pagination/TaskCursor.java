@@ -0,0 +1,48 @@
+package com.api.taskmanager.pagination;
+
+import com.api.taskmanager.exception.InvalidCursorException;
+import com.api.taskmanager.model.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+public record TaskCursor(
+        CursorOrder order,
+        LocalDate dueDate,
+        Long id
+){
+
+    private static final String SEPARATOR = ":";
+
+    public static TaskCursor after(Task task, CursorOrder order){
+        return new TaskCursor(order, order == CursorOrder.DUE_DATE ? task.getDueDate() : null, task.getId());
+    }
+
+    public String encode(){
+        String raw = order == CursorOrder.DUE_DATE
+                ? "d" + SEPARATOR + dueDate.toEpochDay() + SEPARATOR + id
+                : "i" + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token){
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length == 2 && parts[0].equals("i")) {
+                return new TaskCursor(CursorOrder.ID, null, Long.parseLong(parts[1]));
+            }
+            if (parts.length == 3 && parts[0].equals("d")) {
+                return new TaskCursor(CursorOrder.DUE_DATE,
+                        LocalDate.ofEpochDay(Long.parseLong(parts[1])),
+                        Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidCursorException(token);
+        }
+        throw new InvalidCursorException(token);
+    }
+}
@@ -0,0 +1,54 @@
+package com.api.taskmanager.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket in its GCRA form: each client and tier is a single AtomicLong holding the theoretical arrival
+ * time of the next request, updated with compare-and-set, so the hot path takes no lock.
+ * Clients idle for longer than a full refill are dropped, their bucket would be full again anyway.
+ */
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private final Map<RateLimitTier, RateLimit> limits;
+    private final Ticker ticker;
+    private final Cache<String, AtomicLong> buckets;
+
+    public InMemoryRateLimiter(Map<RateLimitTier, RateLimit> limits, long maxClients) {
+        this(limits, maxClients, Ticker.systemTicker());
+    }
+
+    InMemoryRateLimiter(Map<RateLimitTier, RateLimit> limits, long maxClients, Ticker ticker) {
+        this.limits = limits;
+        this.ticker = ticker;
+        Duration longestPeriod = limits.values().stream().map(RateLimit::period).max(Duration::compareTo).orElseThrow();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(longestPeriod)
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String client, RateLimitTier tier) {
+        RateLimit limit = limits.get(tier);
+        AtomicLong tat = buckets.get(tier + ":" + client, key -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = ticker.read();
+            long current = tat.get();
+            long next = Math.max(current, now) + limit.intervalNanos();
+            long overflow = next - now - limit.burstNanos();
+            if (overflow > 0) {
+                return RateLimitDecision.rejected(limit, Math.max(current - now, 0), overflow);
+            }
+            if (tat.compareAndSet(current, next)) {
+                return RateLimitDecision.allowed(limit, next - now);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.api.taskmanager.ratelimit;
+
+import java.time.Duration;
+
+// capacity requests per period, refilled evenly, with bursts of up to capacity
+public record RateLimit(
+        long capacity,
+        Duration period
+){
+
+    public long intervalNanos() {
+        return Math.max(period.toNanos() / capacity, 1);
+    }
+
+    public long burstNanos() {
+        return intervalNanos() * capacity;
+    }
+}
@@ -0,0 +1,28 @@
+package com.api.taskmanager.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one GCRA check. {@code busy} is how far the bucket's theoretical arrival time is ahead of now,
+ * i.e. the time until it is full again; {@code retryAfter} is zero unless the request was rejected.
+ */
+public record RateLimitDecision(
+        boolean allowed,
+        RateLimit limit,
+        Duration busy,
+        Duration retryAfter
+){
+
+    public long remaining() {
+        long free = limit.burstNanos() - busy.toNanos();
+        return Math.max(free / limit.intervalNanos(), 0);
+    }
+
+    public static RateLimitDecision allowed(RateLimit limit, long busyNanos) {
+        return new RateLimitDecision(true, limit, Duration.ofNanos(busyNanos), Duration.ZERO);
+    }
+
+    public static RateLimitDecision rejected(RateLimit limit, long busyNanos, long retryAfterNanos) {
+        return new RateLimitDecision(false, limit, Duration.ofNanos(busyNanos), Duration.ofNanos(retryAfterNanos));
+    }
+}
@@ -0,0 +1,81 @@
+package com.api.taskmanager.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Runs right after bearer token authentication and charges the request to the token subject's bucket for
+ * its tier. Anonymous requests are left to the authorization rules. Headers follow the IETF RateLimit
+ * header fields draft; rejected requests get 429 with Retry-After.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Map<RateLimitTier, Counter> rejected = new EnumMap<>(RateLimitTier.class);
+
+    public RateLimitFilter(RateLimiter limiter, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        for (RateLimitTier tier : RateLimitTier.values()) {
+            rejected.put(tier, Counter.builder("ratelimit.rejected")
+                    .description("Requests answered with 429 because the client's bucket was empty")
+                    .tag("tier", tier.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitTier tier = RateLimitTier.of(request);
+        RateLimitDecision decision = limiter.tryAcquire(authentication.getName(), tier);
+        RateLimit limit = decision.limit();
+        response.setHeader("RateLimit-Policy", limit.capacity() + ";w=" + limit.period().toSeconds());
+        response.setHeader("RateLimit-Limit", String.valueOf(limit.capacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(seconds(decision.busy())));
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        rejected.get(tier).increment();
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+        problem.setTitle("Too Many Requests");
+        problem.setDetail("Rate limit for " + tier.name().toLowerCase() + " requests exceeded, retry after "
+                + seconds(decision.retryAfter()) + "s");
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds(decision.retryAfter())));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    private static long seconds(Duration duration) {
+        return (duration.toMillis() + 999) / 1000;
+    }
+}
@@ -0,0 +1,20 @@
+package com.api.taskmanager.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public enum RateLimitTier {
+    READ,
+    WRITE,
+    BULK;
+
+    public static RateLimitTier of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/tasks/batch") || path.startsWith("/api/tasks/export")) {
+            return BULK;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
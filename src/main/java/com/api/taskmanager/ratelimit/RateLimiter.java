@@ -0,0 +1,7 @@
+package com.api.taskmanager.ratelimit;
+
+public interface RateLimiter {
+
+    RateLimitDecision tryAcquire(String client, RateLimitTier tier);
+
+}
@@ -0,0 +1,74 @@
+package com.api.taskmanager.ratelimit;
+
+import com.api.taskmanager.cache.CacheCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The same GCRA bucket kept in Redis so every node draws from one budget per client. The check and update
+ * run as one script on the Redis clock. When Redis is unreachable the node falls back to its own
+ * in-memory buckets rather than rejecting or letting everything through, and while the cache breaker is open
+ * it goes straight to them instead of waiting on Redis for every request.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    // returns {allowed, busy, retry-after} in microseconds
+    private static final RedisScript<List> ACQUIRE = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then tat = now end
+            local next = tat + interval
+            local overflow = next - now - burst
+            if overflow > 0 then
+              return {0, tat - now, overflow}
+            end
+            redis.call('SET', KEYS[1], next, 'PX', math.ceil((next - now) / 1000))
+            return {1, next - now, 0}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheCircuitBreaker breaker;
+    private final Map<RateLimitTier, RateLimit> limits;
+    private final RateLimiter fallback;
+    private final String keyPrefix;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, CacheCircuitBreaker breaker,
+                            Map<RateLimitTier, RateLimit> limits, RateLimiter fallback, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.breaker = breaker;
+        this.limits = limits;
+        this.fallback = fallback;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String client, RateLimitTier tier) {
+        RateLimit limit = limits.get(tier);
+        if (!breaker.tryAcquire()) {
+            return fallback.tryAcquire(client, tier);
+        }
+        try {
+            List<?> result = redisTemplate.execute(ACQUIRE, List.of(keyPrefix + tier + ":" + client),
+                    String.valueOf(limit.intervalNanos() / 1000), String.valueOf(limit.burstNanos() / 1000));
+            breaker.onSuccess();
+            long busy = ((Number) result.get(1)).longValue() * 1000;
+            if (((Number) result.get(0)).longValue() == 1) {
+                return RateLimitDecision.allowed(limit, busy);
+            }
+            return RateLimitDecision.rejected(limit, busy, ((Number) result.get(2)).longValue() * 1000);
+        } catch (RuntimeException ex) {
+            breaker.onFailure();
+            log.debug("Rate limit check in Redis failed for {}, using the local bucket", client, ex);
+            return fallback.tryAcquire(client, tier);
+        }
+    }
+}
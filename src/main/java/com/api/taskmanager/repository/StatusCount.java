@@ -0,0 +1,8 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.model.Status;
+
+public record StatusCount(
+        Status status,
+        long count
+){}
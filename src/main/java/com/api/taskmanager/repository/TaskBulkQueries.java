@@ -0,0 +1,14 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TaskBulkQueries {
+
+    List<Task> findChunkForUpdate(Specification<Task> spec, long afterId, int limit);
+
+    void reserveChangeSeqs(int count);
+
+}
@@ -0,0 +1,43 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.model.ChangeSequences;
+import com.api.taskmanager.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// JpaSpecificationExecutor has no way to lock the rows it reads, and a bulk transition needs the chunk it
+// is about to UPDATE to stay put so the change events describe exactly the rows that moved.
+@RequiredArgsConstructor
+public class TaskBulkQueriesImpl implements TaskBulkQueries {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Task> findChunkForUpdate(Specification<Task> spec, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        Predicate after = cb.greaterThan(root.get("id"), afterId);
+        Predicate matching = spec.toPredicate(root, query, cb);
+        query.where(matching == null ? after : cb.and(matching, after))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public void reserveChangeSeqs(int count) {
+        ChangeSequences.reserve(entityManager.unwrap(Session.class), count);
+    }
+}
@@ -0,0 +1,17 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.model.TaskOutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.List;
+
+public interface TaskOutboxRepository extends JpaRepository<TaskOutboxEvent, Long> {
+
+    // only the sweep lease holder relays; a plain lock makes a relay that overlaps a lease handover wait for
+    // the rows instead of skipping past them and publishing later changes first
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TaskOutboxEvent> findAllByOrderByIdAsc(Limit limit);
+}
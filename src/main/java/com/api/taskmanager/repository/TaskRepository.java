@@ -1,7 +1,130 @@
 package com.api.taskmanager.repository;
 
+import com.api.taskmanager.model.Status;
 import com.api.taskmanager.model.Task;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long>{}
+
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TenantScopedLookup,
+        TaskBulkQueries {
+
+    // implemented by TenantScopedLookupImpl
+    @Override
+    Optional<Task> findById(Long id);
+
+    List<Task> findAllByOrderByIdAsc(Limit limit);
+
+    List<Task> findAllByOrderByDueDateAscIdAsc(Limit limit);
+
+    @Query("select t from Task t where t.id > :id order by t.id")
+    List<Task> findPageAfterId(@Param("id") Long id, Limit limit);
+
+    @Query("""
+            select t from Task t
+            where t.dueDate >= :dueDate and (t.dueDate > :dueDate or t.id > :id)
+            order by t.dueDate, t.id
+            """)
+    List<Task> findPageAfterDueDate(@Param("dueDate") LocalDate dueDate, @Param("id") Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t order by t.id")
+    Stream<Task> streamAllByOrderByIdAsc();
+
+    // the batch transition locks its rows in id order, so two batches over the same ids cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :ids order by t.id")
+    List<Task> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t set t.previousStatus = t.status, t.status = :target, t.version = t.version + 1,
+                t.changeSeq = next_change_seq()
+            where t.id = :id and t.status in :sources
+              and (:version is null or t.version = :version)
+            """)
+    int transition(@Param("id") Long id, @Param("target") Status target,
+                   @Param("sources") Collection<Status> sources, @Param("version") Long expectedVersion);
+
+    @Query("select new com.api.taskmanager.repository.TaskStatusView(t.status, t.version) from Task t where t.id = :id")
+    Optional<TaskStatusView> findStatusById(@Param("id") Long id);
+
+    @Query("select new com.api.taskmanager.repository.StatusCount(t.status, count(t)) from Task t group by t.status")
+    List<StatusCount> countByStatus();
+
+    @Query("""
+            select new com.api.taskmanager.repository.TenantStatusCount(t.tenantId, t.status, count(t))
+            from Task t group by t.tenantId, t.status
+            """)
+    List<TenantStatusCount> countByTenantAndStatus();
+
+    @Query("""
+            select new com.api.taskmanager.repository.TenantDueDateCount(t.tenantId, t.dueDate, count(t))
+            from Task t where t.status in :statuses group by t.tenantId, t.dueDate
+            """)
+    List<TenantDueDateCount> countByTenantAndDueDate(@Param("statuses") Collection<Status> statuses);
+
+    @Query("""
+            select t.id from Task t
+            where t.status in :statuses and t.dueDate between :from and :to
+            order by t.dueDate, t.id
+            """)
+    List<Long> findIdsDueBetween(@Param("statuses") Collection<Status> statuses, @Param("from") LocalDate from,
+                                 @Param("to") LocalDate to, Limit limit);
+
+    // the due sweep walks one due date at a time in id order on idx_tasks_due_date_id, skipping closed tasks as
+    // it goes; idx_tasks_status_due_date_id would have to merge one range per status and sort them
+    @Query("select t from Task t where t.status in :statuses and t.dueDate = :dueDate and t.id > :afterId order by t.id")
+    List<Task> findDueOn(@Param("statuses") Collection<Status> statuses, @Param("dueDate") LocalDate dueDate,
+                         @Param("afterId") Long afterId, Limit limit);
+
+    // same rows, locked until the transition that follows commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.status in :statuses and t.dueDate = :dueDate and t.id > :afterId order by t.id")
+    List<Task> findDueOnForUpdate(@Param("statuses") Collection<Status> statuses, @Param("dueDate") LocalDate dueDate,
+                                  @Param("afterId") Long afterId, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t set t.previousStatus = t.status, t.status = :target, t.version = t.version + 1,
+                t.changeSeq = next_change_seq()
+            where t.id in :ids and t.status in :sources
+            """)
+    int transitionAll(@Param("ids") Collection<Long> ids, @Param("target") Status target,
+                      @Param("sources") Collection<Status> sources);
+
+    @Query("select t.id from Task t order by t.id desc")
+    List<Long> findLatestIds(Limit limit);
+
+    @Query("select t from Task t where t.changeSeq > :since and t.changeSeq <= :upTo order by t.changeSeq")
+    List<Task> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo, Limit limit);
+
+    @Query("select next_change_seq()")
+    long nextChangeSeq();
+
+    // on Postgres idx_tasks_change_seq_null holds exactly these rows, elsewhere it is one walk of the primary key
+    @Query("select t.id from Task t where t.changeSeq is null and t.id > :afterId order by t.id")
+    List<Long> findIdsWithoutChangeSeq(@Param("afterId") Long afterId, Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Task t set t.changeSeq = next_change_seq() where t.id in :ids and t.changeSeq is null")
+    int fillChangeSeq(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,64 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.pagination.CursorOrder;
+import com.api.taskmanager.pagination.TaskCursor;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications(){}
+
+    public static Specification<Task> matching(TaskFilterDTO filter, LocalDate today) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.status() != null && !filter.status().isEmpty()) {
+                predicates.add(root.get("status").in(filter.status()));
+            }
+            if (filter.dueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), filter.dueFrom()));
+            }
+            if (filter.dueTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dueDate"), filter.dueTo()));
+            }
+            if (Boolean.TRUE.equals(filter.overdue())) {
+                predicates.add(root.get("status").in(Status.open()));
+                predicates.add(cb.lessThan(root.get("dueDate"), today));
+            }
+            if (filter.titlePrefix() != null && !filter.titlePrefix().isBlank()) {
+                // a left-anchored LIKE keeps the title index usable
+                predicates.add(cb.like(root.get("title"), escapeLike(filter.titlePrefix()) + "%", '\\'));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Task> inStatus(Collection<Status> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor.order() == CursorOrder.DUE_DATE) {
+                // the leading >= gives the planner an index range to start from, the OR only trims its first date
+                return cb.and(
+                        cb.greaterThanOrEqualTo(root.get("dueDate"), cursor.dueDate()),
+                        cb.or(cb.greaterThan(root.get("dueDate"), cursor.dueDate()),
+                                cb.greaterThan(root.get("id"), cursor.id())));
+            }
+            return cb.greaterThan(root.get("id"), cursor.id());
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
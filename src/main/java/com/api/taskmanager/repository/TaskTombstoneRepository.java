@@ -0,0 +1,21 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    @Query("select t from TaskTombstone t where t.changeSeq > :since and t.changeSeq <= :upTo order by t.changeSeq")
+    List<TaskTombstone> findDeletedBetween(@Param("since") long since, @Param("upTo") long upTo, Limit limit);
+
+    @Modifying
+    @Query("delete from TaskTombstone t where t.deletedAt < :before")
+    int deleteAllDeletedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,9 @@
+package com.api.taskmanager.repository;
+
+import java.time.LocalDate;
+
+public record TenantDueDateCount(
+        String tenantId,
+        LocalDate dueDate,
+        long count
+){}
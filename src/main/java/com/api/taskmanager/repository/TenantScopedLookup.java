@@ -0,0 +1,11 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.model.Task;
+
+import java.util.Optional;
+
+public interface TenantScopedLookup {
+
+    Optional<Task> findById(Long id);
+
+}
@@ -0,0 +1,27 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.tenant.TenantResolver;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+// Hibernate applies the @TenantId restriction to queries but not to loads by id, which would also come
+// straight from the second-level cache. The lookup keeps going through em.find and checks the owner afterwards.
+@RequiredArgsConstructor
+public class TenantScopedLookupImpl implements TenantScopedLookup {
+
+    private final EntityManager entityManager;
+    private final TenantResolver tenants;
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        Task task = entityManager.find(Task.class, id);
+        if (task == null) {
+            return Optional.empty();
+        }
+        String tenant = tenants.resolveCurrentTenantIdentifier();
+        return tenants.isRoot(tenant) || tenant.equals(task.getTenantId()) ? Optional.of(task) : Optional.empty();
+    }
+}
@@ -0,0 +1,9 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.model.Status;
+
+public record TenantStatusCount(
+        String tenantId,
+        Status status,
+        long count
+){}
@@ -0,0 +1,33 @@
+package com.api.taskmanager.search;
+
+// Titles and descriptions are user input and highlights are meant to be rendered as HTML, so matches are first
+// delimited with control characters and the whole text escaped before those become <mark> tags.
+final class Highlights {
+
+    static final char START = '\u0002';
+    static final char STOP = '\u0003';
+
+    private Highlights() {
+    }
+
+    static String toHtml(String marked) {
+        if (marked == null) {
+            return "";
+        }
+        StringBuilder html = new StringBuilder(marked.length() + 16);
+        for (int i = 0; i < marked.length(); i++) {
+            char c = marked.charAt(i);
+            switch (c) {
+                case START -> html.append("<mark>");
+                case STOP -> html.append("</mark>");
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                case '&' -> html.append("&amp;");
+                case '"' -> html.append("&quot;");
+                case '\'' -> html.append("&#39;");
+                default -> html.append(c);
+            }
+        }
+        return html.toString();
+    }
+}
@@ -0,0 +1,176 @@
+package com.api.taskmanager.search;
+
+import com.api.taskmanager.pagination.SearchCursor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An inverted index held in the JVM, for H2 and tests where there is no {@code tsvector}. It matches what
+ * the Postgres index does closely enough to test against: terms are lower-cased words without stemming,
+ * every query term has to match, title terms weigh twice a description term, and hits rank by tf-idf.
+ */
+public class InMemoryTaskSearchIndex implements TaskSearchIndex {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public List<TaskSearchHit> search(String tenant, String query, SearchCursor after, int limit) {
+        Set<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            // walk the shortest posting list and probe the others
+            lists.sort(Comparator.comparingInt(Map::size));
+            List<Scored> matches = new ArrayList<>();
+            for (Long id : lists.get(0).keySet()) {
+                Document document = documents.get(id);
+                if (tenant != null && !tenant.equals(document.tenant())) {
+                    continue;
+                }
+                double rank = 0;
+                boolean all = true;
+                for (Map<Long, Integer> list : lists) {
+                    Integer weight = list.get(id);
+                    if (weight == null) {
+                        all = false;
+                        break;
+                    }
+                    rank += weight * Math.log(1 + (double) documents.size() / list.size());
+                }
+                if (all && (after == null || after.precedes(rank, id))) {
+                    matches.add(new Scored(id, rank, document));
+                }
+            }
+            matches.sort(Comparator.comparingDouble(Scored::rank).reversed().thenComparing(Scored::id));
+            return matches.stream()
+                    .limit(limit)
+                    .map(match -> new TaskSearchHit(match.id(), match.rank(),
+                            highlight(match.document().title(), terms),
+                            highlight(match.document().description(), terms)))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(String tenant, Long id, String title, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        count(title, TITLE_WEIGHT, weights);
+        count(description, DESCRIPTION_WEIGHT, weights);
+        lock.writeLock().lock();
+        try {
+            // a task never changes tenant, an update keeps the one it was indexed under
+            Document previous = unindex(id);
+            String owner = previous != null ? previous.tenant() : tenant;
+            documents.put(id, new Document(owner, title, description, weights));
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Document unindex(Long id) {
+        Document previous = documents.remove(id);
+        if (previous != null) {
+            for (String term : previous.weights().keySet()) {
+                Map<Long, Integer> list = postings.get(term);
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return previous;
+    }
+
+    private static void count(String text, int weight, Map<String, Integer> weights) {
+        if (text == null) {
+            return;
+        }
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            weights.merge(matcher.group().toLowerCase(Locale.ROOT), weight, Integer::sum);
+        }
+    }
+
+    private static Set<String> terms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query != null) {
+            Matcher matcher = WORD.matcher(query);
+            while (matcher.find()) {
+                terms.add(matcher.group().toLowerCase(Locale.ROOT));
+            }
+        }
+        return terms;
+    }
+
+    private static String highlight(String text, Set<String> terms) {
+        if (text == null) {
+            return "";
+        }
+        Matcher matcher = WORD.matcher(text);
+        StringBuilder highlighted = new StringBuilder(text.length() + 16);
+        while (matcher.find()) {
+            String word = matcher.group();
+            String replacement = terms.contains(word.toLowerCase(Locale.ROOT))
+                    ? Highlights.START + word + Highlights.STOP
+                    : word;
+            matcher.appendReplacement(highlighted, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(highlighted);
+        return Highlights.toHtml(highlighted.toString());
+    }
+
+    private record Document(String tenant, String title, String description, Map<String, Integer> weights) {
+    }
+
+    private record Scored(long id, double rank, Document document) {
+    }
+}
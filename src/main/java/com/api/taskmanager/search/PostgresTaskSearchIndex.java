@@ -0,0 +1,69 @@
+package com.api.taskmanager.search;
+
+import com.api.taskmanager.pagination.SearchCursor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Searches the generated {@code search_vector} column; Postgres keeps it current, so {@link #index} and
+ * {@link #remove} do nothing. Only the returned page is highlighted, {@code ts_headline} is the costly part.
+ */
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+
+    private static final String CONFIG = "simple";
+    private static final String MARKERS = "StartSel=" + Highlights.START + ", StopSel=" + Highlights.STOP;
+    private static final String TITLE_HEADLINE = MARKERS + ", HighlightAll=true";
+    private static final String DESCRIPTION_HEADLINE = MARKERS + ", MaxFragments=2, MaxWords=20, MinWords=5";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public PostgresTaskSearchIndex(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public List<TaskSearchHit> search(String tenant, String query, SearchCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", limit);
+        // an equality, so the planner prunes to the tenant's partition
+        String tenantFilter = "";
+        if (tenant != null) {
+            tenantFilter = "and t.tenant_id = :tenant";
+            params.addValue("tenant", tenant);
+        }
+        String keyset = "";
+        if (after != null) {
+            keyset = "where hits.rank < cast(:rank as real) or (hits.rank = cast(:rank as real) and hits.id > :id)";
+            params.addValue("rank", after.rank()).addValue("id", after.id());
+        }
+        String sql = """
+                select hits.id, hits.rank,
+                       ts_headline('%1$s', hits.title, hits.q, '%2$s') as title_highlight,
+                       ts_headline('%1$s', coalesce(hits.description, ''), hits.q, '%3$s') as description_highlight
+                from (
+                    select t.id, t.title, t.description, q, ts_rank(t.search_vector, q) as rank
+                    from tasks t, websearch_to_tsquery('%1$s', :query) q
+                    where t.search_vector @@ q %4$s
+                ) hits
+                %5$s
+                order by hits.rank desc, hits.id
+                limit :limit
+                """.formatted(CONFIG, TITLE_HEADLINE, DESCRIPTION_HEADLINE, tenantFilter, keyset);
+        return jdbc.query(sql, params, (rs, row) -> new TaskSearchHit(
+                rs.getLong("id"),
+                rs.getFloat("rank"),
+                Highlights.toHtml(rs.getString("title_highlight")),
+                Highlights.toHtml(rs.getString("description_highlight"))));
+    }
+
+    @Override
+    public void index(String tenant, Long id, String title, String description) {
+    }
+
+    @Override
+    public void remove(Long id) {
+    }
+}
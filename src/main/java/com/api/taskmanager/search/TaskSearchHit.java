@@ -0,0 +1,9 @@
+package com.api.taskmanager.search;
+
+// highlights are HTML: the text is escaped and every matched term wrapped in <mark></mark>
+public record TaskSearchHit(
+        long id,
+        double rank,
+        String titleHighlight,
+        String descriptionHighlight
+){}
@@ -0,0 +1,16 @@
+package com.api.taskmanager.search;
+
+import com.api.taskmanager.pagination.SearchCursor;
+
+import java.util.List;
+
+public interface TaskSearchIndex {
+
+    // every term of the query has to match; a null tenant searches all tenants
+    List<TaskSearchHit> search(String tenant, String query, SearchCursor after, int limit);
+
+    // keep the index in step with committed changes, no-ops where the database maintains it
+    void index(String tenant, Long id, String title, String description);
+    void remove(Long id);
+
+}
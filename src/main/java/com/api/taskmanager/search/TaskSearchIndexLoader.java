@@ -0,0 +1,35 @@
+package com.api.taskmanager.search;
+
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+// Fills an in-memory index at startup. Runs without a caller, so it reads every tenant's tasks.
+@Slf4j
+@RequiredArgsConstructor
+public class TaskSearchIndexLoader implements ApplicationRunner {
+
+    private final TaskSearchIndex index;
+    private final TaskRepository repository;
+    private final int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int loaded = 0;
+        List<Task> batch = repository.findAllByOrderByIdAsc(Limit.of(batchSize));
+        while (!batch.isEmpty()) {
+            for (Task task : batch) {
+                index.index(task.getTenantId(), task.getId(), task.getTitle(), task.getDescription());
+            }
+            loaded += batch.size();
+            batch = repository.findPageAfterId(batch.get(batch.size() - 1).getId(), Limit.of(batchSize));
+        }
+        log.info("Indexed {} tasks for search", loaded);
+    }
+}
@@ -0,0 +1,43 @@
+package com.api.taskmanager.search;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.ChangeType;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.tenant.TenantResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndexUpdater {
+
+    private final TaskSearchIndex index;
+    private final TenantResolver tenants;
+
+    // runs on the request thread after commit, so the current tenant is the one the task was created under
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        try {
+            if (event.type() == ChangeType.DELETED) {
+                index.remove(event.id());
+            } else if (textChanged(event.before(), event.after())) {
+                TaskResponseDTO task = event.after();
+                String tenant = event.tenantId() != null ? event.tenantId() : tenants.resolveCurrentTenantIdentifier();
+                index.index(tenant, task.id(), task.title(), task.description());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not update the search index for task {}", event.id(), ex);
+        }
+    }
+
+    private static boolean textChanged(TaskResponseDTO before, TaskResponseDTO after) {
+        return before == null
+                || !Objects.equals(before.title(), after.title())
+                || !Objects.equals(before.description(), after.description());
+    }
+}
@@ -0,0 +1,160 @@
+package com.api.taskmanager.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JWK set kept in memory and reloaded on a background thread, from an http(s) JWKS endpoint or a local
+ * file/classpath resource. Startup never waits on the identity provider: until the first load succeeds
+ * no key matches and requests are answered with 401. A failed refresh keeps the last good set.
+ * <p>
+ * A token signed with a key id we have not seen triggers one early reload on the refresh thread, at most once
+ * per {@code minRefreshInterval} however many requests ask for it, so key rotation does not have to wait for
+ * the next scheduled refresh. Only requests arriving before the first successful load wait for it; after that
+ * an unknown key is answered with 401 at once while the reload runs.
+ */
+@Slf4j
+public class RefreshingJwkSource implements JWKSource<SecurityContext>, AutoCloseable {
+
+    private static final int TIMEOUT_MILLIS = 5_000;
+    private static final int SIZE_LIMIT_BYTES = 512 * 1024;
+
+    private final String location;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicReference<CompletableFuture<Void>> earlyRefresh = new AtomicReference<>();
+
+    private volatile JWKSet keys = new JWKSet();
+    private volatile boolean loaded;
+    private volatile long lastRefreshNanos;
+    private volatile long refreshes;
+
+    public RefreshingJwkSource(String location, Duration refreshInterval, Duration minRefreshInterval) {
+        this.location = location;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        List<JWK> matches = selector.select(keys);
+        if (!matches.isEmpty()) {
+            return matches;
+        }
+        boolean firstLoad = !loaded;
+        CompletableFuture<Void> refresh = refreshEarly();
+        if (refresh == null || !firstLoad) {
+            return matches;
+        }
+        try {
+            refresh.get(2L * TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            // refreshQuietly never fails, and a hung load is cut off by its own timeouts
+        }
+        return selector.select(keys);
+    }
+
+    public synchronized void refresh() throws IOException, ParseException {
+        lastRefreshNanos = System.nanoTime();
+        refreshes++;
+        keys = load();
+        loaded = true;
+    }
+
+    public JWKSet keys() {
+        return keys;
+    }
+
+    // one early reload at a time, handed to the refresh thread; null when the last one is too recent
+    private CompletableFuture<Void> refreshEarly() {
+        CompletableFuture<Void> running = earlyRefresh.get();
+        if (running != null) {
+            return running;
+        }
+        CompletableFuture<Void> next = new CompletableFuture<>();
+        if (!earlyRefresh.compareAndSet(null, next)) {
+            return earlyRefresh.get();
+        }
+        // checked after winning the slot, so a reload that finished in between is not repeated
+        if (refreshes > 0 && System.nanoTime() - lastRefreshNanos < minRefreshInterval.toNanos()) {
+            earlyRefresh.set(null);
+            next.complete(null);
+            return null;
+        }
+        long seen = refreshes;
+        try {
+            scheduler.execute(() -> {
+                try {
+                    // a scheduled refresh may have run while this one queued behind it
+                    if (refreshes == seen) {
+                        refreshQuietly();
+                    }
+                } finally {
+                    earlyRefresh.set(null);
+                    next.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            earlyRefresh.set(null);
+            next.complete(null);
+        }
+        return next;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (IOException | ParseException | RuntimeException ex) {
+            log.warn("Reloading JWK set from {} failed, keeping {} known keys", location, keys.getKeys().size(), ex);
+        }
+    }
+
+    private JWKSet load() throws IOException, ParseException {
+        String scheme = URI.create(location).getScheme();
+        if ("http".equals(scheme) || "https".equals(scheme)) {
+            return JWKSet.load(URI.create(location).toURL(), TIMEOUT_MILLIS, TIMEOUT_MILLIS, SIZE_LIMIT_BYTES);
+        }
+        try (InputStream in = new DefaultResourceLoader().getResource(location).getInputStream()) {
+            return JWKSet.load(in);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -1,5 +1,14 @@
 package com.api.taskmanager.security;
 
+import com.api.taskmanager.ratelimit.RateLimitFilter;
+import com.api.taskmanager.ratelimit.RateLimiter;
+import com.api.taskmanager.tenant.TenantResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,30 +16,77 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtDecoders;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, RateLimiter rateLimiter, ObjectMapper objectMapper,
+                                                   MeterRegistry meterRegistry) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        // metrics span every tenant, so a tenant's token is not enough to scrape them
+                        .requestMatchers("/actuator/prometheus").hasAuthority("SCOPE_metrics")
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
                         .jwt(Customizer.withDefaults())
-                );
+                )
+                // not a bean on purpose, so the servlet container does not register it a second time outside the chain
+                .addFilterAfter(new RateLimitFilter(rateLimiter, objectMapper, meterRegistry), BearerTokenAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // jwk-set-uri may be an http(s) JWKS endpoint or a file:/classpath: resource; nothing is fetched before startup completes
+    @Bean(destroyMethod = "close")
+    public RefreshingJwkSource jwkSource(@Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+                                         @Value("${taskmanager.security.jwks.refresh-interval:PT5M}") Duration refreshInterval,
+                                         @Value("${taskmanager.security.jwks.min-refresh-interval:PT30S}") Duration minRefreshInterval) {
+        RefreshingJwkSource source = new RefreshingJwkSource(jwkSetUri, refreshInterval, minRefreshInterval);
+        source.start();
+        return source;
+    }
+
     @Bean
-    public JwtDecoder jwtDecoder(@Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri) {
-        return JwtDecoders.fromIssuerLocation(issuerUri);
+    public JwtDecoder jwtDecoder(RefreshingJwkSource jwkSource, TenantResolver tenants,
+                                 @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+                                 @Value("${spring.security.oauth2.resourceserver.jwt.jws-algorithms:RS256}") Set<String> algorithms,
+                                 @Value("${taskmanager.security.token-cache.max-size:10000}") long cacheSize,
+                                 @Value("${taskmanager.security.token-cache.max-ttl:PT5M}") Duration cacheTtl) {
+        return new CachingJwtDecoder(localDecoder(jwkSource, issuerUri, algorithms, tenants.tokenValidator()), cacheSize, cacheTtl);
+    }
+
+    static NimbusJwtDecoder localDecoder(RefreshingJwkSource jwkSource, String issuerUri, Set<String> algorithms,
+                                         OAuth2TokenValidator<Jwt> tenantValidator) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(
+                algorithms.stream().map(JWSAlgorithm::parse).collect(Collectors.toSet()), jwkSource));
+        // claims are checked by the Spring validators below, like NimbusJwtDecoder's own builders do
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        // the JWKS may be shared with other issuers, so a token is only ours if iss says so
+        if (issuerUri.isBlank()) {
+            throw new IllegalStateException("spring.security.oauth2.resourceserver.jwt.issuer-uri must be set");
+        }
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefaultWithIssuer(issuerUri), tenantValidator));
+        return decoder;
     }
 }
@@ -0,0 +1,19 @@
+package com.api.taskmanager.service;
+
+import com.api.taskmanager.dto.BatchResultDTO;
+import com.api.taskmanager.dto.BulkTransitionResultDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.dto.TaskPatchItemDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.model.Status;
+
+import java.util.List;
+
+public interface TaskBatchService {
+
+    BatchResultDTO createAll(List<TaskRequestDTO> dtos);
+    BatchResultDTO updateAll(List<TaskPatchItemDTO> items);
+    BatchResultDTO transitionAll(List<Long> ids, Status target);
+    BulkTransitionResultDTO transitionMatching(TaskFilterDTO filter, Status target);
+
+}
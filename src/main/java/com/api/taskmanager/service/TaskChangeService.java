@@ -0,0 +1,13 @@
+package com.api.taskmanager.service;
+
+import com.api.taskmanager.dto.TaskChangeDTO;
+
+import java.util.List;
+
+public interface TaskChangeService {
+
+    int relay(int batchSize);
+    List<TaskChangeDTO> changesSince(String cursor, int limit);
+    String head();
+
+}
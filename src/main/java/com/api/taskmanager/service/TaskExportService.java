@@ -0,0 +1,12 @@
+package com.api.taskmanager.service;
+
+import com.api.taskmanager.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+
+    long export(ExportFormat format, OutputStream out) throws IOException;
+
+}
@@ -0,0 +1,10 @@
+package com.api.taskmanager.service;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskSearchHitDTO;
+
+public interface TaskSearchService {
+
+    CursorPageDTO<TaskSearchHitDTO> search(String query, String cursor, int size);
+
+}
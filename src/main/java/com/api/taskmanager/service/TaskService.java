@@ -1,19 +1,31 @@
 package com.api.taskmanager.service;
 
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
 import com.api.taskmanager.dto.TaskRequestDTO;
 import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.pagination.CursorOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface TaskService {
 
     Page<TaskResponseDTO> findAll(Pageable pageable);
+    Page<TaskResponseDTO> findAll(TaskFilterDTO filter, Pageable pageable);
+    CursorPageDTO<TaskResponseDTO> findAll(TaskFilterDTO filter, String cursor, int size, CursorOrder order, boolean withTotal);
     TaskResponseDTO findById(Long id);
     TaskResponseDTO create(TaskRequestDTO dto);
     TaskResponseDTO update(Long id, TaskRequestDTO dto);
+    TaskResponseDTO update(Long id, TaskRequestDTO dto, Long expectedVersion);
     TaskResponseDTO done(Long id);
+    TaskResponseDTO done(Long id, Long expectedVersion);
     TaskResponseDTO cancel(Long id);
+    TaskResponseDTO cancel(Long id, Long expectedVersion);
     TaskResponseDTO start(Long id);
+    TaskResponseDTO start(Long id, Long expectedVersion);
+    TaskResponseDTO updateStatus(Long id, Status status, Long expectedVersion);
     void delete(Long id);
+    void delete(Long id, Long expectedVersion);
 
 }
@@ -0,0 +1,11 @@
+package com.api.taskmanager.service;
+
+import com.api.taskmanager.dto.TaskStatsDTO;
+
+public interface TaskStatsService {
+
+    TaskStatsDTO stats();
+    // false when the counters moved while recounting; they are left alone until the next round
+    boolean reconcile();
+
+}
@@ -0,0 +1,12 @@
+package com.api.taskmanager.service;
+
+import com.api.taskmanager.dto.TaskSyncDTO;
+
+import java.time.Instant;
+
+public interface TaskSyncService {
+
+    TaskSyncDTO changesSince(String token, int limit);
+    int pruneTombstones(Instant now);
+
+}
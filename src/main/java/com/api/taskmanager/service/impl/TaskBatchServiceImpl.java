@@ -0,0 +1,231 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.BatchItemResultDTO;
+import com.api.taskmanager.dto.BatchResultDTO;
+import com.api.taskmanager.dto.BulkTransitionResultDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.dto.TaskPatchItemDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.exception.BatchTooLargeException;
+import com.api.taskmanager.exception.TaskNotFoundException;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.repository.TaskSpecifications;
+import com.api.taskmanager.service.TaskBatchService;
+import com.api.taskmanager.state.TaskBulkTransition;
+import com.api.taskmanager.state.TaskStateMachine;
+import com.api.taskmanager.tenant.TenantResolver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskBatchServiceImpl implements TaskBatchService {
+
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int BULK_CHUNK_SIZE = 500;
+
+    private final TaskRepository repository;
+    private final TaskStateMachine state;
+    private final TaskBulkTransition bulkTransition;
+    private final TaskMapper mapper;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher events;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional
+    public BatchResultDTO createAll(List<TaskRequestDTO> dtos) {
+        checkSize(dtos.size());
+        List<BatchItemResultDTO> results = new ArrayList<>(dtos.size());
+        List<Integer> indexes = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            String error = validate(dtos.get(i));
+            if (error != null) {
+                results.add(BatchItemResultDTO.failed(i, null, error));
+                continue;
+            }
+            Task task = mapper.toEntity(dtos.get(i));
+            task.setStatus(Status.PENDING);
+            indexes.add(i);
+            tasks.add(task);
+        }
+
+        // one round trip for every change sequence value, so the inserts keep going out as one batch
+        repository.reserveChangeSeqs(tasks.size());
+        List<Task> saved = repository.saveAll(tasks);
+        for (int i = 0; i < saved.size(); i++) {
+            TaskResponseDTO created = mapper.toResponseDTO(saved.get(i));
+            events.publishEvent(TaskChangedEvent.created(created));
+            results.add(BatchItemResultDTO.ok(indexes.get(i), created));
+        }
+        return BatchResultDTO.of(results);
+    }
+
+    @Override
+    @Transactional
+    public BatchResultDTO updateAll(List<TaskPatchItemDTO> items) {
+        checkSize(items.size());
+        Map<Long, Task> tasks = load(items.stream().map(TaskPatchItemDTO::id).toList());
+        List<BatchItemResultDTO> results = new ArrayList<>(items.size());
+        Map<Integer, Task> changed = new LinkedHashMap<>();
+        Map<Long, TaskResponseDTO> before = new HashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            TaskPatchItemDTO item = items.get(i);
+            String error = validate(item);
+            if (error != null) {
+                results.add(BatchItemResultDTO.failed(i, item.id(), error));
+                continue;
+            }
+            Task task = tasks.get(item.id());
+            if (task == null) {
+                results.add(BatchItemResultDTO.failed(i, item.id(), new TaskNotFoundException(item.id()).getMessage()));
+                continue;
+            }
+            before.putIfAbsent(task.getId(), mapper.toResponseDTO(task));
+            mapper.apply(item.task(), task);
+            changed.put(i, task);
+        }
+
+        results.addAll(saveAndCache(changed, before, TaskChangedEvent::updated));
+        return BatchResultDTO.of(results);
+    }
+
+    @Override
+    @Transactional
+    public BatchResultDTO transitionAll(List<Long> ids, Status target) {
+        checkSize(ids.size());
+        Set<Long> distinct = new HashSet<>(ids);
+        distinct.remove(null);
+        // locked, so a task changed by someone else fails on its own instead of failing the whole batch with a 409
+        Map<Long, Task> tasks = repository.findAllByIdForUpdate(distinct).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Set<Status> sources = state.sourcesOf(target);
+        Map<Long, TaskResponseDTO> moved = bulkTransition.transition(tasks.values(), target, sources).stream()
+                .collect(Collectors.toMap(TaskResponseDTO::id, Function.identity()));
+
+        List<BatchItemResultDTO> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            Task task = tasks.get(id);
+            if (task == null) {
+                results.add(BatchItemResultDTO.failed(i, id, new TaskNotFoundException(id).getMessage()));
+            } else if (moved.containsKey(id)) {
+                // a task listed twice in one batch still changed only once
+                results.add(BatchItemResultDTO.ok(i, moved.get(id)));
+            } else {
+                results.add(BatchItemResultDTO.failed(i, id, state.rejection(target, task.getStatus()).getMessage()));
+            }
+        }
+        return BatchResultDTO.of(results);
+    }
+
+    // not @Transactional: each chunk commits on its own, so row locks are held for one chunk at a time
+    @Override
+    public BulkTransitionResultDTO transitionMatching(TaskFilterDTO filter, Status target) {
+        Set<Status> sources = EnumSet.noneOf(Status.class);
+        sources.addAll(state.sourcesOf(target));
+        if (filter.status() != null && !filter.status().isEmpty()) {
+            sources.retainAll(filter.status());
+        }
+        if (sources.isEmpty()) {
+            return new BulkTransitionResultDTO(target, 0);
+        }
+        Specification<Task> spec = TaskSpecifications.matching(filter, LocalDate.now())
+                .and(TaskSpecifications.inStatus(sources));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long affected = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            // one locked read and one UPDATE per chunk
+            List<Task> chunk = tx.execute(status -> {
+                List<Task> locked = repository.findChunkForUpdate(spec, from, BULK_CHUNK_SIZE);
+                bulkTransition.transition(locked, target, sources);
+                return locked;
+            });
+            affected += chunk.size();
+            if (chunk.size() < BULK_CHUNK_SIZE) {
+                return new BulkTransitionResultDTO(target, affected);
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    private Map<Long, Task> load(List<Long> ids) {
+        Set<Long> distinct = new HashSet<>(ids);
+        distinct.remove(null);
+        return repository.findAllById(distinct).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private List<BatchItemResultDTO> saveAndCache(Map<Integer, Task> changed, Map<Long, TaskResponseDTO> before,
+                                                  BiFunction<TaskResponseDTO, TaskResponseDTO, TaskChangedEvent> event) {
+        repository.reserveChangeSeqs(changed.size());
+        repository.saveAll(changed.values());
+        // flush now so the returned DTOs and cache entries carry the bumped versions
+        repository.flush();
+        Cache cache = cacheManager.getCache("taskById");
+        List<BatchItemResultDTO> results = new ArrayList<>(changed.size());
+        changed.forEach((index, task) -> {
+            TaskResponseDTO dto = mapper.toResponseDTO(task);
+            if (cache != null) {
+                cache.put(TenantResolver.cacheKey(task.getTenantId(), task.getId()), dto);
+            }
+            // a task listed twice in one batch still changed only once
+            TaskResponseDTO previous = before.remove(task.getId());
+            if (previous != null) {
+                events.publishEvent(event.apply(previous, dto));
+            }
+            results.add(BatchItemResultDTO.ok(index, dto));
+        });
+        return results;
+    }
+
+    private String validate(Object item) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void checkSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new BatchTooLargeException(size, MAX_BATCH_SIZE);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.TaskChangeDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.model.TaskOutboxEvent;
+import com.api.taskmanager.outbox.TaskChangeSink;
+import com.api.taskmanager.repository.TaskOutboxRepository;
+import com.api.taskmanager.service.TaskChangeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TaskChangeServiceImpl implements TaskChangeService {
+
+    private final TaskOutboxRepository repository;
+    private final TaskChangeSink sink;
+    private final ObjectMapper objectMapper;
+
+    // At-least-once: rows are deleted only after the sink took them, so a failed commit means a redelivery, never a loss.
+    @Override
+    @Transactional
+    public int relay(int batchSize) {
+        List<TaskOutboxEvent> batch = repository.findAllByOrderByIdAsc(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        sink.publish(batch.stream().map(this::toChange).toList());
+        repository.deleteAllInBatch(batch);
+        return batch.size();
+    }
+
+    @Override
+    public List<TaskChangeDTO> changesSince(String cursor, int limit) {
+        return sink.read(cursor, limit);
+    }
+
+    @Override
+    public String head() {
+        return sink.head();
+    }
+
+    private TaskChangeDTO toChange(TaskOutboxEvent event) {
+        try {
+            TaskResponseDTO task = objectMapper.readValue(event.getPayload(), TaskResponseDTO.class);
+            return new TaskChangeDTO(null, event.getId(), event.getType(), event.getTaskId(), task, event.getCreatedAt(),
+                    event.getTenantId());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
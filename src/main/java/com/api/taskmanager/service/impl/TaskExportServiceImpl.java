@@ -0,0 +1,97 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.export.CsvTaskWriter;
+import com.api.taskmanager.export.ExportFormat;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.service.TaskExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final TaskRepository repository;
+    private final TaskMapper mapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream out) throws IOException {
+        // rows load as the stream is read, after a query hint's cache mode is undone, so the session skips the
+        // second-level cache itself; a full export would otherwise evict every hot entry
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        // closing the stream releases the JDBC cursor, also when the client goes away mid-export
+        try (Stream<Task> tasks = repository.streamAllByOrderByIdAsc()) {
+            Iterator<Task> rows = tasks.iterator();
+            return format == ExportFormat.CSV ? writeCsv(rows, out) : writeNdjson(rows, out);
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+    }
+
+    private long writeNdjson(Iterator<Task> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (SequenceWriter writer = objectMapper.writerFor(TaskResponseDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            while (rows.hasNext()) {
+                writer.write(next(rows));
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<Task> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CsvTaskWriter.writeHeader(writer);
+        while (rows.hasNext()) {
+            CsvTaskWriter.write(writer, next(rows));
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private TaskResponseDTO next(Iterator<Task> rows) {
+        Task task = rows.next();
+        // keep the persistence context from growing with the result set
+        entityManager.detach(task);
+        return mapper.toResponseDTO(task);
+    }
+}
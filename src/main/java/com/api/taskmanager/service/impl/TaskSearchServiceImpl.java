@@ -0,0 +1,63 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskSearchHitDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.pagination.SearchCursor;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.search.TaskSearchHit;
+import com.api.taskmanager.search.TaskSearchIndex;
+import com.api.taskmanager.service.TaskSearchService;
+import com.api.taskmanager.tenant.TenantResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskSearchIndex index;
+    private final TaskRepository repository;
+    private final TaskMapper mapper;
+    private final TenantResolver tenants;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskSearchHitDTO> search(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            return new CursorPageDTO<>(List.of(), null, false, null);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        SearchCursor after = cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor);
+        String tenant = tenants.resolveCurrentTenantIdentifier();
+
+        // one extra hit tells us whether another page exists
+        List<TaskSearchHit> hits = index.search(tenants.isRoot(tenant) ? null : tenant, query, after, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        List<TaskSearchHit> page = hasNext ? hits.subList(0, pageSize) : hits;
+
+        // the index only ranks, the rows come from the repository, which applies the tenant again
+        Map<Long, Task> tasks = repository.findAllById(page.stream().map(TaskSearchHit::id).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskSearchHitDTO> content = new ArrayList<>(page.size());
+        for (TaskSearchHit hit : page) {
+            Task task = tasks.get(hit.id());
+            if (task != null) {
+                content.add(new TaskSearchHitDTO(mapper.toResponseDTO(task), hit.rank(),
+                        hit.titleHighlight(), hit.descriptionHighlight()));
+            }
+        }
+        String nextCursor = hasNext ? SearchCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new CursorPageDTO<>(content, nextCursor, hasNext, null);
+    }
+}
@@ -1,110 +1,275 @@
 package com.api.taskmanager.service.impl;
 
+import com.api.taskmanager.cache.TaskPageCache;
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
 import com.api.taskmanager.dto.TaskRequestDTO;
 import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.exception.InvalidCursorException;
+import com.api.taskmanager.exception.PreconditionFailedException;
 import com.api.taskmanager.exception.TaskNotFoundException;
+import com.api.taskmanager.mapper.TaskMapper;
 import com.api.taskmanager.model.Status;
 import com.api.taskmanager.model.Task;
+import com.api.taskmanager.pagination.CursorOrder;
+import com.api.taskmanager.pagination.TaskCursor;
 import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.repository.TaskSpecifications;
+import com.api.taskmanager.repository.TaskStatusView;
 import com.api.taskmanager.service.TaskService;
 import com.api.taskmanager.state.TaskStateMachine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+
     private final TaskRepository repository;
     private final TaskStateMachine state;
+    private final TaskMapper mapper;
+    private final ApplicationEventPublisher events;
+    private final TaskPageCache pageCache;
 
     @Override
     public Page<TaskResponseDTO> findAll(Pageable pageable) {
-        return repository.findAll(pageable)
-                .map(this::toResponseDTO);
+        CursorPageDTO<TaskResponseDTO> page = pageCache.get("page:" + pageable,
+                () -> toCached(repository.findAll(pageable).map(mapper::toResponseDTO)));
+        return new PageImpl<>(page.content(), pageable, page.totalElements());
+    }
+
+    @Override
+    public Page<TaskResponseDTO> findAll(TaskFilterDTO filter, Pageable pageable) {
+        if (filter.isEmpty()) {
+            return findAll(pageable);
+        }
+        // the overdue filter depends on today's date, so the date is part of the key
+        LocalDate today = LocalDate.now();
+        CursorPageDTO<TaskResponseDTO> page = pageCache.get("filter:" + filter + ":" + today + ":" + pageable,
+                () -> toCached(repository.findAll(TaskSpecifications.matching(filter, today), pageable)
+                        .map(mapper::toResponseDTO)));
+        return new PageImpl<>(page.content(), pageable, page.totalElements());
+    }
+
+    private static CursorPageDTO<TaskResponseDTO> toCached(Page<TaskResponseDTO> page) {
+        return new CursorPageDTO<>(page.getContent(), null, page.hasNext(), page.getTotalElements());
     }
 
     @Override
-    @Cacheable(value = "taskById", key = "#id")
+    public CursorPageDTO<TaskResponseDTO> findAll(TaskFilterDTO filter, String cursor, int size,
+                                                  CursorOrder order, boolean withTotal) {
+        String key = "cursor:" + filter + ":" + LocalDate.now() + ":" + cursor + ":" + size + ":" + order + ":" + withTotal;
+        return pageCache.get(key, () -> seekPage(filter, cursor, size, order, withTotal));
+    }
+
+    private CursorPageDTO<TaskResponseDTO> seekPage(TaskFilterDTO filter, String cursor, int size,
+                                                    CursorOrder order, boolean withTotal) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        // one extra row tells us whether another page exists without a count query
+        Limit limit = Limit.of(pageSize + 1);
+
+        TaskCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = TaskCursor.decode(cursor);
+            if (after.order() != order) {
+                throw new InvalidCursorException(cursor);
+            }
+        }
+
+        List<Task> rows = filter.isEmpty()
+                ? seek(after, order, limit)
+                : seekFiltered(filter, after, order, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Task> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext
+                ? TaskCursor.after(page.get(page.size() - 1), order).encode()
+                : null;
+        Long total = null;
+        if (withTotal) {
+            total = filter.isEmpty()
+                    ? repository.count()
+                    : repository.count(TaskSpecifications.matching(filter, LocalDate.now()));
+        }
+
+        return new CursorPageDTO<>(
+                page.stream().map(mapper::toResponseDTO).toList(),
+                nextCursor,
+                hasNext,
+                total
+        );
+    }
+
+    private List<Task> seek(TaskCursor after, CursorOrder order, Limit limit) {
+        if (after == null) {
+            return order == CursorOrder.DUE_DATE
+                    ? repository.findAllByOrderByDueDateAscIdAsc(limit)
+                    : repository.findAllByOrderByIdAsc(limit);
+        }
+        return order == CursorOrder.DUE_DATE
+                ? repository.findPageAfterDueDate(after.dueDate(), after.id(), limit)
+                : repository.findPageAfterId(after.id(), limit);
+    }
+
+    private List<Task> seekFiltered(TaskFilterDTO filter, TaskCursor after, CursorOrder order, Limit limit) {
+        Specification<Task> spec = TaskSpecifications.matching(filter, LocalDate.now());
+        if (after != null) {
+            spec = spec.and(TaskSpecifications.after(after));
+        }
+        Sort sort = order == CursorOrder.DUE_DATE
+                ? Sort.by("dueDate", "id")
+                : Sort.by("id");
+        return repository.findBy(spec, query -> query.sortBy(sort).limit(limit.max()).all());
+    }
+
+    @Override
+    @Cacheable(value = "taskById", key = "@tenantResolver.cacheKey(#id)", sync = true)
     public TaskResponseDTO findById(Long id) {
         Task task = repository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
-        return toResponseDTO(task);
+        return mapper.toResponseDTO(task);
     }
 
     @Override
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#result.id)")
     public TaskResponseDTO create(TaskRequestDTO dto) {
-        Task task = toEntity(dto);
+        Task task = mapper.toEntity(dto);
         task.setStatus(Status.PENDING);
         Task saved = repository.save(task);
-        return toResponseDTO(saved);
+        TaskResponseDTO created = mapper.toResponseDTO(saved);
+        events.publishEvent(TaskChangedEvent.created(created));
+        return created;
     }
 
     @Override
-    @CachePut(value = "taskById", key = "#id")
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
     public TaskResponseDTO update(Long id, TaskRequestDTO dto) {
+        return update(id, dto, null);
+    }
+
+    @Override
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
+    public TaskResponseDTO update(Long id, TaskRequestDTO dto, Long expectedVersion) {
         Task existing = repository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
-        existing.setTitle(dto.title());
-        existing.setDescription(dto.description());
-        existing.setDueDate(dto.dueDate());
+        checkVersion(existing, expectedVersion);
+        TaskResponseDTO before = mapper.toResponseDTO(existing);
+        mapper.apply(dto, existing);
 
         Task updated = repository.save(existing);
-        return toResponseDTO(updated);
+        TaskResponseDTO after = mapper.toResponseDTO(updated);
+        events.publishEvent(TaskChangedEvent.updated(before, after));
+        return after;
     }
 
     @Override
-    @CacheEvict(value = "taskById", key = "#id")
+    @Transactional
+    @CacheEvict(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
     public void delete(Long id) {
+        delete(id, null);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
+    public void delete(Long id, Long expectedVersion) {
         Task task = repository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        checkVersion(task, expectedVersion);
         repository.delete(task);
+        events.publishEvent(TaskChangedEvent.deleted(mapper.toResponseDTO(task)));
     }
 
-    @CachePut(value = "taskById", key = "#id")
+    @Override
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
     public TaskResponseDTO done(Long id){
-        var task = repository.findById(id)
-                        .orElseThrow(() -> new TaskNotFoundException(id));
-        state.done(task);
-        return toResponseDTO(repository.save(task));
+        return done(id, null);
     }
 
-    @CachePut(value = "taskById", key = "#id")
+    @Override
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
+    public TaskResponseDTO done(Long id, Long expectedVersion){
+        return transition(id, Status.DONE, expectedVersion);
+    }
+
+    @Override
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
     public TaskResponseDTO start(Long id){
-        var task = repository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException(id));
-        state.start(task);
-        return toResponseDTO(repository.save(task));
+        return start(id, null);
+    }
+
+    @Override
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
+    public TaskResponseDTO start(Long id, Long expectedVersion){
+        return transition(id, Status.IN_PROGRESS, expectedVersion);
     }
 
-    @CachePut(value = "taskById", key = "#id")
+    @Override
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
     public TaskResponseDTO cancel(Long id){
-        var task = repository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException(id));
-        state.cancel(task);
-        return toResponseDTO(repository.save(task));
+        return cancel(id, null);
     }
 
-    private TaskResponseDTO toResponseDTO(Task task) {
-        return new TaskResponseDTO(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus(),
-                task.getDueDate()
-        );
+    @Override
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
+    public TaskResponseDTO cancel(Long id, Long expectedVersion){
+        return transition(id, Status.CANCELED, expectedVersion);
+    }
+
+    @Override
+    @Transactional
+    @CachePut(value = "taskById", key = "@tenantResolver.cacheKey(#id)")
+    public TaskResponseDTO updateStatus(Long id, Status status, Long expectedVersion){
+        return transition(id, status, expectedVersion);
+    }
+
+    private TaskResponseDTO transition(Long id, Status target, Long expectedVersion){
+        // one guarded UPDATE; the row is only read to explain why it did not match
+        if (repository.transition(id, target, state.sourcesOf(target), expectedVersion) == 0) {
+            TaskStatusView current = repository.findStatusById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            if (expectedVersion != null && !expectedVersion.equals(current.version())) {
+                throw new PreconditionFailedException(id, current.version());
+            }
+            throw state.rejection(target, current.status());
+        }
+        Task task = repository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+        TaskResponseDTO after = mapper.toResponseDTO(task);
+        TaskResponseDTO before = new TaskResponseDTO(after.id(), after.title(), after.description(),
+                task.getPreviousStatus(), after.dueDate(), after.version() == null ? null : after.version() - 1);
+        events.publishEvent(TaskChangedEvent.transitioned(before, after));
+        return after;
     }
 
-    private Task toEntity(TaskRequestDTO dto) {
-        Task task = new Task();
-        task.setTitle(dto.title());
-        task.setDescription(dto.description());
-        task.setDueDate(dto.dueDate());
-        return task;
+    private void checkVersion(Task task, Long expectedVersion){
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException(task.getId(), task.getVersion());
+        }
     }
 }
@@ -0,0 +1,81 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.TaskStatsDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.repository.TenantDueDateCount;
+import com.api.taskmanager.repository.TenantStatusCount;
+import com.api.taskmanager.service.TaskStatsService;
+import com.api.taskmanager.stats.TaskStatsSnapshot;
+import com.api.taskmanager.stats.TaskStatsStore;
+import com.api.taskmanager.tenant.TenantResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+    private final TaskStatsStore store;
+    private final TaskRepository repository;
+    private final TenantResolver tenants;
+
+    @Override
+    public TaskStatsDTO stats() {
+        String tenant = tenants.resolveCurrentTenantIdentifier();
+        TaskStatsSnapshot snapshot = tenants.isRoot(tenant) ? store.read() : store.read(tenant);
+        LocalDate today = LocalDate.now();
+        LocalDate endOfWeek = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        NavigableMap<LocalDate, Long> dueDates = snapshot.openByDueDate();
+
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            byStatus.put(status, Math.max(0, snapshot.byStatus().getOrDefault(status, 0L)));
+        }
+
+        return new TaskStatsDTO(
+                byStatus,
+                sum(dueDates.headMap(today, false)),
+                dueDates.getOrDefault(today, 0L),
+                sum(dueDates.subMap(today, true, endOfWeek, true))
+        );
+    }
+
+    // both counts come from one snapshot, and the counters are read before it is taken: an increment for a
+    // change the snapshot misses lands after that read, which makes the replace back off
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public boolean reconcile() {
+        TaskStatsSnapshot before = store.read();
+        TaskStatsSnapshot total = emptySnapshot();
+        Map<String, TaskStatsSnapshot> byTenant = new HashMap<>();
+        for (TenantStatusCount count : repository.countByTenantAndStatus()) {
+            total.byStatus().merge(count.status(), count.count(), Long::sum);
+            byTenant.computeIfAbsent(count.tenantId(), key -> emptySnapshot()).byStatus().put(count.status(), count.count());
+        }
+        for (TenantDueDateCount count : repository.countByTenantAndDueDate(Status.open())) {
+            total.openByDueDate().merge(count.dueDate(), count.count(), Long::sum);
+            byTenant.computeIfAbsent(count.tenantId(), key -> emptySnapshot()).openByDueDate().put(count.dueDate(), count.count());
+        }
+        return store.replace(before, total, byTenant);
+    }
+
+    private static TaskStatsSnapshot emptySnapshot() {
+        return new TaskStatsSnapshot(new EnumMap<>(Status.class), new TreeMap<>());
+    }
+
+    private static long sum(Map<LocalDate, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).filter(count -> count > 0).sum();
+    }
+}
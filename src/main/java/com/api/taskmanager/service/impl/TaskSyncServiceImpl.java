@@ -0,0 +1,99 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.dto.TaskSyncDTO;
+import com.api.taskmanager.exception.SyncTokenExpiredException;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.model.TaskTombstone;
+import com.api.taskmanager.pagination.SyncToken;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.repository.TaskTombstoneRepository;
+import com.api.taskmanager.service.TaskSyncService;
+import com.api.taskmanager.sync.ChangeSequenceWatermark;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class TaskSyncServiceImpl implements TaskSyncService {
+
+    private static final int MAX_SYNC_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskMapper mapper;
+    private final ChangeSequenceWatermark watermark;
+    private final Duration tombstoneRetention;
+
+    public TaskSyncServiceImpl(TaskRepository taskRepository, TaskTombstoneRepository tombstoneRepository, TaskMapper mapper,
+                               ChangeSequenceWatermark watermark,
+                               @Value("${taskmanager.sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.mapper = mapper;
+        this.watermark = watermark;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskSyncDTO changesSince(String token, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_SYNC_SIZE);
+        Instant now = Instant.now();
+        boolean initial = token == null || token.isBlank();
+        SyncToken since = initial ? new SyncToken(0, now) : SyncToken.decode(token);
+        // deletes older than the retention may already be pruned, so the client can no longer be told about them
+        if (since.issuedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new SyncTokenExpiredException(token);
+        }
+
+        // rows past the horizon may still have a smaller value committing behind them, the cursor waits below it
+        long upTo = watermark.horizon();
+        if (upTo <= since.changeSeq()) {
+            return new TaskSyncDTO(List.of(), List.of(), new SyncToken(since.changeSeq(), now).encode(), false);
+        }
+        // one extra row from each side tells us whether more changes are waiting
+        List<Task> changed = taskRepository.findChangedBetween(since.changeSeq(), upTo, Limit.of(size + 1));
+        // a client without a token holds nothing that could have been deleted
+        List<TaskTombstone> deleted = initial
+                ? List.of()
+                : tombstoneRepository.findDeletedBetween(since.changeSeq(), upTo, Limit.of(size + 1));
+
+        List<TaskResponseDTO> changedPage = new ArrayList<>();
+        List<Long> deletedPage = new ArrayList<>();
+        long last = since.changeSeq();
+        int c = 0;
+        int d = 0;
+        while (changedPage.size() + deletedPage.size() < size && (c < changed.size() || d < deleted.size())) {
+            boolean nextIsChange = d == deleted.size()
+                    || (c < changed.size() && changed.get(c).getChangeSeq() < deleted.get(d).getChangeSeq());
+            if (nextIsChange) {
+                Task task = changed.get(c++);
+                changedPage.add(mapper.toResponseDTO(task));
+                last = task.getChangeSeq();
+            } else {
+                TaskTombstone tombstone = deleted.get(d++);
+                deletedPage.add(tombstone.getTaskId());
+                last = tombstone.getChangeSeq();
+            }
+        }
+        boolean hasMore = c < changed.size() || d < deleted.size();
+
+        // a client still catching up keeps its original age, otherwise paging could outlive the tombstones it has yet to read
+        SyncToken next = new SyncToken(last, hasMore ? since.issuedAt() : now);
+        return new TaskSyncDTO(changedPage, deletedPage, next.encode(), hasMore);
+    }
+
+    @Override
+    @Transactional
+    public int pruneTombstones(Instant now) {
+        return tombstoneRepository.deleteAllDeletedBefore(now.minus(tombstoneRetention));
+    }
+}
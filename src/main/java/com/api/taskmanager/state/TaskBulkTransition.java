@@ -0,0 +1,73 @@
+package com.api.taskmanager.state;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.TasksTransitionedEvent;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.tenant.TenantResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves tasks the caller has locked in its transaction with one guarded UPDATE, publishes them as one
+ * {@link TasksTransitionedEvent} and evicts them from {@code taskById} once that transaction commits.
+ * The bulk endpoints and the due sweep both go through here.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskBulkTransition {
+
+    private final TaskRepository repository;
+    private final TaskMapper mapper;
+    private final ApplicationEventPublisher events;
+    private final CacheManager cacheManager;
+
+    // the tasks in one of sources move, the rest are left alone; returns the moved tasks as they are now
+    public List<TaskResponseDTO> transition(Collection<Task> locked, Status target, Set<Status> sources) {
+        List<Task> movable = locked.stream().filter(task -> sources.contains(task.getStatus())).toList();
+        if (movable.isEmpty()) {
+            return List.of();
+        }
+        // the rows are locked, so every one of them moves
+        repository.transitionAll(movable.stream().map(Task::getId).toList(), target, sources);
+        List<TasksTransitionedEvent.Transitioned> moved = new ArrayList<>(movable.size());
+        for (Task task : movable) {
+            moved.add(new TasksTransitionedEvent.Transitioned(task.getTenantId(), mapper.toResponseDTO(task)));
+        }
+        TasksTransitionedEvent event = new TasksTransitionedEvent(target, moved);
+        events.publishEvent(event);
+        evictAfterCommit(movable);
+        return moved.stream().map(event::after).toList();
+    }
+
+    // a read that loaded a row before the commit can still cache its old status, until that entry's ttl
+    private void evictAfterCommit(List<Task> moved) {
+        Cache cache = cacheManager.getCache("taskById");
+        if (cache == null) {
+            return;
+        }
+        List<String> keys = moved.stream().map(task -> TenantResolver.cacheKey(task.getTenantId(), task.getId())).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            keys.forEach(cache::evict);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                keys.forEach(cache::evict);
+            }
+        });
+    }
+}
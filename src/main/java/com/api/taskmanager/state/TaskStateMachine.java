@@ -5,27 +5,72 @@ import com.api.taskmanager.model.Status;
 import com.api.taskmanager.model.Task;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+// allowed transitions, also inverted so the guarded UPDATEs can ask which statuses may move to a target
 @Component
 public class TaskStateMachine {
 
-    public void start(Task task){
-        if (task.getStatus() != Status.PENDING){
-            throw new InvalidTaskStateException("Task cannot be started with status: " + task.getStatus());
+    private static final Map<Status, Set<Status>> TARGETS = new EnumMap<>(Status.class);
+    private static final Map<Status, Set<Status>> SOURCES = new EnumMap<>(Status.class);
+    private static final Map<Status, String> VERBS = new EnumMap<>(Status.class);
+
+    static {
+        allow(Status.PENDING, Status.IN_PROGRESS, Status.CANCELED);
+        allow(Status.IN_PROGRESS, Status.DONE, Status.CANCELED);
+
+        Map<Status, Set<Status>> sources = new EnumMap<>(Status.class);
+        TARGETS.forEach((source, targets) -> targets.forEach(target ->
+                sources.computeIfAbsent(target, key -> EnumSet.noneOf(Status.class)).add(source)));
+        sources.forEach((target, from) -> SOURCES.put(target, Collections.unmodifiableSet(from)));
+
+        VERBS.put(Status.IN_PROGRESS, "started");
+        VERBS.put(Status.DONE, "done");
+        VERBS.put(Status.CANCELED, "cancel");
+    }
+
+    private static void allow(Status source, Status first, Status... rest) {
+        TARGETS.put(source, Collections.unmodifiableSet(EnumSet.of(first, rest)));
+    }
+
+    public boolean canTransition(Status source, Status target){
+        return source != null && targetsOf(source).contains(target);
+    }
+
+    public Set<Status> targetsOf(Status source){
+        return TARGETS.getOrDefault(source, Collections.emptySet());
+    }
+
+    public Set<Status> sourcesOf(Status target){
+        return SOURCES.getOrDefault(target, Collections.emptySet());
+    }
+
+    public InvalidTaskStateException rejection(Status target, Status current){
+        String verb = VERBS.getOrDefault(target, "moved to " + target);
+        return new InvalidTaskStateException("Task cannot be " + verb + " with status: " + current);
+    }
+
+    public void transition(Task task, Status target){
+        if (!canTransition(task.getStatus(), target)){
+            throw rejection(target, task.getStatus());
         }
-        task.setStatus(Status.IN_PROGRESS);
+        task.setPreviousStatus(task.getStatus());
+        task.setStatus(target);
+    }
+
+    public void start(Task task){
+        transition(task, Status.IN_PROGRESS);
     }
 
     public void done(Task task){
-        if (task.getStatus() != Status.IN_PROGRESS){
-            throw new InvalidTaskStateException("Task cannot be done with status: " + task.getStatus());
-        }
-        task.setStatus(Status.DONE);
+        transition(task, Status.DONE);
     }
 
     public void cancel(Task task){
-        if (task.getStatus() != Status.IN_PROGRESS && task.getStatus() != Status.PENDING ){
-            throw new InvalidTaskStateException("Task cannot be cancel with status: " + task.getStatus());
-        }
-        task.setStatus(Status.CANCELED);
+        transition(task, Status.CANCELED);
     }
 }
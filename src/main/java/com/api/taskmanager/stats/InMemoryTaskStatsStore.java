@@ -0,0 +1,76 @@
+package com.api.taskmanager.stats;
+
+import com.api.taskmanager.model.Status;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class InMemoryTaskStatsStore implements TaskStatsStore {
+
+    private final Counters total = new Counters();
+    private final Map<String, Counters> byTenant = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void increment(Map<String, TaskStatsSnapshot> deltasByTenant) {
+        deltasByTenant.forEach((tenant, delta) -> {
+            total.increment(delta.byStatus(), delta.openByDueDate());
+            byTenant.computeIfAbsent(tenant, key -> new Counters()).increment(delta.byStatus(), delta.openByDueDate());
+        });
+    }
+
+    @Override
+    public TaskStatsSnapshot read() {
+        return total.read();
+    }
+
+    @Override
+    public TaskStatsSnapshot read(String tenant) {
+        Counters counters = byTenant.get(tenant);
+        return counters != null ? counters.read() : new Counters().read();
+    }
+
+    @Override
+    public synchronized boolean replace(TaskStatsSnapshot expectedTotal, TaskStatsSnapshot total,
+                                        Map<String, TaskStatsSnapshot> byTenant) {
+        if (!this.total.read().equals(expectedTotal)) {
+            return false;
+        }
+        this.total.replace(total);
+        this.byTenant.clear();
+        byTenant.forEach((tenant, snapshot) -> this.byTenant.computeIfAbsent(tenant, key -> new Counters()).replace(snapshot));
+        return true;
+    }
+
+    private static class Counters {
+
+        private final Map<Status, Long> byStatus = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<LocalDate, Long> openByDueDate = new ConcurrentSkipListMap<>();
+
+        void increment(Map<Status, Long> statusDeltas, Map<LocalDate, Long> dueDateDeltas) {
+            statusDeltas.forEach((status, delta) -> byStatus.compute(status, (key, current) -> add(current, delta)));
+            dueDateDeltas.forEach((date, delta) -> openByDueDate.compute(date, (key, current) -> add(current, delta)));
+        }
+
+        TaskStatsSnapshot read() {
+            Map<Status, Long> statuses = new EnumMap<>(Status.class);
+            statuses.putAll(byStatus);
+            return new TaskStatsSnapshot(statuses, new TreeMap<>(openByDueDate));
+        }
+
+        void replace(TaskStatsSnapshot snapshot) {
+            byStatus.clear();
+            byStatus.putAll(snapshot.byStatus());
+            openByDueDate.clear();
+            openByDueDate.putAll(snapshot.openByDueDate());
+        }
+
+        private static Long add(Long current, long delta) {
+            long next = (current == null ? 0 : current) + delta;
+            return next == 0 ? null : next;
+        }
+    }
+}
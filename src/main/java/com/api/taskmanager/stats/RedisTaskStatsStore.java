@@ -0,0 +1,140 @@
+package com.api.taskmanager.stats;
+
+import com.api.taskmanager.model.Status;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class RedisTaskStatsStore implements TaskStatsStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final String tenantsKey;
+
+    public RedisTaskStatsStore(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.tenantsKey = keyPrefix + ":tenants";
+    }
+
+    // one pipeline bumps the totals and every tenant's own hashes
+    @Override
+    public void increment(Map<String, TaskStatsSnapshot> deltasByTenant) {
+        Map<Status, Long> statusTotals = new EnumMap<>(Status.class);
+        Map<LocalDate, Long> dueDateTotals = new HashMap<>();
+        deltasByTenant.values().forEach(delta -> {
+            delta.byStatus().forEach((status, count) -> statusTotals.merge(status, count, Long::sum));
+            delta.openByDueDate().forEach((date, count) -> dueDateTotals.merge(date, count, Long::sum));
+        });
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                incrementHashes(operations, keyPrefix, statusTotals, dueDateTotals);
+                deltasByTenant.forEach((tenant, delta) -> {
+                    incrementHashes(operations, tenantPrefix(tenant), delta.byStatus(), delta.openByDueDate());
+                    operations.opsForSet().add(tenantsKey, tenant);
+                });
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public TaskStatsSnapshot read() {
+        return readHashes(redisTemplate, keyPrefix);
+    }
+
+    @Override
+    public TaskStatsSnapshot read(String tenant) {
+        return readHashes(redisTemplate, tenantPrefix(tenant));
+    }
+
+    // every increment touches the totals, so watching them aborts the replace if one lands in between
+    @Override
+    public boolean replace(TaskStatsSnapshot expectedTotal, TaskStatsSnapshot total, Map<String, TaskStatsSnapshot> byTenant) {
+        List<Object> replaced = redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                operations.watch(List.of(keyPrefix + ":status", keyPrefix + ":due"));
+                if (!readHashes(operations, keyPrefix).equals(expectedTotal)) {
+                    operations.unwatch();
+                    return List.of();
+                }
+                Set<String> previous = operations.opsForSet().members(tenantsKey);
+                operations.multi();
+                if (previous != null) {
+                    previous.forEach(tenant -> clear(operations, tenantPrefix(tenant)));
+                }
+                clear(operations, keyPrefix);
+                operations.delete(tenantsKey);
+                write(operations, keyPrefix, total);
+                byTenant.forEach((tenant, snapshot) -> {
+                    write(operations, tenantPrefix(tenant), snapshot);
+                    operations.opsForSet().add(tenantsKey, tenant);
+                });
+                return operations.exec();
+            }
+        });
+        // exec comes back empty when the watched totals changed
+        return replaced != null && !replaced.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TaskStatsSnapshot readHashes(RedisOperations operations, String prefix) {
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        ((Map<String, String>) operations.opsForHash().entries(prefix + ":status"))
+                .forEach((field, value) -> byStatus.put(Status.valueOf(field), Long.parseLong(value)));
+
+        TreeMap<LocalDate, Long> openByDueDate = new TreeMap<>();
+        ((Map<String, String>) operations.opsForHash().entries(prefix + ":due")).forEach((field, value) -> {
+            long count = Long.parseLong(value);
+            if (count != 0) {
+                openByDueDate.put(LocalDate.parse(field), count);
+            }
+        });
+        return new TaskStatsSnapshot(byStatus, openByDueDate);
+    }
+
+    private String tenantPrefix(String tenant) {
+        return keyPrefix + ":tenant:" + tenant;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void incrementHashes(RedisOperations operations, String prefix,
+                                        Map<Status, Long> statusDeltas, Map<LocalDate, Long> dueDateDeltas) {
+        statusDeltas.forEach((status, delta) -> operations.opsForHash().increment(prefix + ":status", status.name(), delta));
+        dueDateDeltas.forEach((date, delta) -> operations.opsForHash().increment(prefix + ":due", date.toString(), delta));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void clear(RedisOperations operations, String prefix) {
+        operations.delete(prefix + ":status");
+        operations.delete(prefix + ":due");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void write(RedisOperations operations, String prefix, TaskStatsSnapshot snapshot) {
+        Map<String, String> statuses = new HashMap<>();
+        snapshot.byStatus().forEach((status, count) -> statuses.put(status.name(), count.toString()));
+        Map<String, String> dueDates = new HashMap<>();
+        snapshot.openByDueDate().forEach((date, count) -> dueDates.put(date.toString(), count.toString()));
+        if (!statuses.isEmpty()) {
+            operations.opsForHash().putAll(prefix + ":status", statuses);
+        }
+        if (!dueDates.isEmpty()) {
+            operations.opsForHash().putAll(prefix + ":due", dueDates);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.api.taskmanager.stats;
+
+import com.api.taskmanager.due.SweepLease;
+import com.api.taskmanager.service.TaskStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatsReconciler {
+
+    private final TaskStatsService service;
+    private final SweepLease lease;
+
+    @Scheduled(initialDelayString = "${taskmanager.stats.reconcile-initial-delay:PT30S}",
+            fixedDelayString = "${taskmanager.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        // the due sweep's lease, so one node recounts while the others keep their increments coming
+        if (!lease.tryAcquire()) {
+            return;
+        }
+        try {
+            if (!service.reconcile()) {
+                log.debug("Task stats changed while reconciling, trying again next round");
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Task stats reconciliation failed, counters keep their incremental values", ex);
+        }
+    }
+}
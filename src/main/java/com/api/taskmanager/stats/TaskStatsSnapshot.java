@@ -0,0 +1,12 @@
+package com.api.taskmanager.stats;
+
+import com.api.taskmanager.model.Status;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NavigableMap;
+
+public record TaskStatsSnapshot(
+        Map<Status, Long> byStatus,
+        NavigableMap<LocalDate, Long> openByDueDate
+){}
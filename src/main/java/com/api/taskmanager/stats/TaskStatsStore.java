@@ -0,0 +1,21 @@
+package com.api.taskmanager.stats;
+
+import com.api.taskmanager.model.Status;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+// counters are kept per tenant and in total; read() is the total across every tenant
+public interface TaskStatsStore {
+
+    void increment(Map<String, TaskStatsSnapshot> deltasByTenant);
+    TaskStatsSnapshot read();
+    TaskStatsSnapshot read(String tenant);
+    // only while read() still returns expectedTotal, so an increment made since is not overwritten
+    boolean replace(TaskStatsSnapshot expectedTotal, TaskStatsSnapshot total, Map<String, TaskStatsSnapshot> byTenant);
+
+    default void increment(String tenant, Map<Status, Long> statusDeltas, Map<LocalDate, Long> dueDateDeltas) {
+        increment(Map.of(tenant, new TaskStatsSnapshot(statusDeltas, new TreeMap<>(dueDateDeltas))));
+    }
+}
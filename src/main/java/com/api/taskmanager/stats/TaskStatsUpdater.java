@@ -0,0 +1,74 @@
+package com.api.taskmanager.stats;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.event.TasksTransitionedEvent;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.tenant.TenantResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatsUpdater {
+
+    private final TaskStatsStore store;
+    private final TenantResolver tenants;
+
+    // runs on the request thread after commit, so the current tenant is the one the task belongs to
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        String tenant = event.tenantId() != null ? event.tenantId() : tenants.resolveCurrentTenantIdentifier();
+        Map<String, TaskStatsSnapshot> deltas = new HashMap<>();
+        count(deltas, tenant, event.before(), -1);
+        count(deltas, tenant, event.after(), 1);
+        apply(deltas, "task " + event.id());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        Map<String, TaskStatsSnapshot> deltas = new HashMap<>();
+        for (TasksTransitionedEvent.Transitioned task : event.tasks()) {
+            count(deltas, task.tenantId(), task.before(), -1);
+            count(deltas, task.tenantId(), event.after(task), 1);
+        }
+        apply(deltas, event.tasks().size() + " transitioned tasks");
+    }
+
+    private void apply(Map<String, TaskStatsSnapshot> deltas, String change) {
+        deltas.values().forEach(delta -> {
+            delta.byStatus().values().removeIf(count -> count == 0);
+            delta.openByDueDate().values().removeIf(count -> count == 0);
+        });
+        deltas.values().removeIf(delta -> delta.byStatus().isEmpty() && delta.openByDueDate().isEmpty());
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            store.increment(deltas);
+        } catch (RuntimeException ex) {
+            // the reconciliation job repairs whatever a failed increment leaves behind
+            log.warn("Could not update task stats for {}", change, ex);
+        }
+    }
+
+    private static void count(Map<String, TaskStatsSnapshot> deltas, String tenant, TaskResponseDTO task, long sign) {
+        if (task == null || task.status() == null) {
+            return;
+        }
+        TaskStatsSnapshot delta = deltas.computeIfAbsent(tenant,
+                key -> new TaskStatsSnapshot(new EnumMap<>(Status.class), new TreeMap<>()));
+        delta.byStatus().merge(task.status(), sign, Long::sum);
+        if (task.status().isOpen() && task.dueDate() != null) {
+            delta.openByDueDate().merge(task.dueDate(), sign, Long::sum);
+        }
+    }
+}
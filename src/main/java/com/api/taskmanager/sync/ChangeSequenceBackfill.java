@@ -0,0 +1,60 @@
+package com.api.taskmanager.sync;
+
+import com.api.taskmanager.due.SweepLease;
+import com.api.taskmanager.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Tasks written before change_seq existed have none, and delta sync would never return them. Runs in the
+// background on the sweep lease holder, so startup does not wait on it and nodes do not race each other;
+// once a pass finds nothing left, it stops for the life of the node.
+@Slf4j
+@Component
+public class ChangeSequenceBackfill {
+
+    private final TaskRepository repository;
+    private final SweepLease lease;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private volatile boolean done;
+
+    public ChangeSequenceBackfill(TaskRepository repository, SweepLease lease,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${taskmanager.sync.backfill-batch-size:1000}") int batchSize) {
+        this.repository = repository;
+        this.lease = lease;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${taskmanager.sync.backfill-initial-delay:PT1M}",
+            fixedDelayString = "${taskmanager.sync.backfill-interval:PT10M}")
+    public void backfill() {
+        if (done || !lease.tryAcquire()) {
+            return;
+        }
+        int filled = 0;
+        // walks the primary key once from the start, instead of rescanning for nulls every batch
+        List<Long> ids = repository.findIdsWithoutChangeSeq(0L, Limit.of(batchSize));
+        while (!ids.isEmpty()) {
+            List<Long> batch = ids;
+            filled += tx.execute(status -> repository.fillChangeSeq(batch));
+            if (!lease.tryAcquire()) {
+                log.info("Lost the sweep lease after assigning a change sequence to {} tasks", filled);
+                return;
+            }
+            ids = repository.findIdsWithoutChangeSeq(batch.get(batch.size() - 1), Limit.of(batchSize));
+        }
+        done = true;
+        if (filled > 0) {
+            log.info("Assigned a change sequence to {} tasks written before delta sync", filled);
+        }
+    }
+}
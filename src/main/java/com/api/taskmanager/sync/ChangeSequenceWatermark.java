@@ -0,0 +1,80 @@
+package com.api.taskmanager.sync;
+
+import com.api.taskmanager.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The highest change sequence value delta sync may hand out. A value is drawn when a row is written but only
+ * becomes visible at commit, so a slow transaction could commit below a cursor a client has already moved
+ * past. The sequence is sampled continuously, and sync never reads past a sample older than
+ * {@code taskmanager.sync.safety-lag}: every value below it belongs to a transaction that has finished, as long
+ * as write transactions stay shorter than the lag. Right after startup nothing is old enough and sync waits.
+ */
+@Slf4j
+@Component
+public class ChangeSequenceWatermark {
+
+    private final TaskRepository repository;
+    private final Duration lag;
+    private final Clock clock;
+    private final Deque<Sample> samples = new ArrayDeque<>();
+
+    @Autowired
+    public ChangeSequenceWatermark(TaskRepository repository,
+                                   @Value("${taskmanager.sync.safety-lag:PT10S}") Duration lag) {
+        this(repository, lag, Clock.systemUTC());
+    }
+
+    ChangeSequenceWatermark(TaskRepository repository, Duration lag, Clock clock) {
+        this.repository = repository;
+        this.lag = lag;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedRateString = "${taskmanager.sync.watermark-interval:PT1S}")
+    public void sample() {
+        try {
+            long drawn = repository.nextChangeSeq();
+            // taken after the draw, so every smaller value was drawn no later than this
+            Instant at = clock.instant();
+            synchronized (this) {
+                samples.addLast(new Sample(at, drawn));
+                prune(at.minus(lag));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Sampling the change sequence failed, delta sync holds its horizon", ex);
+        }
+    }
+
+    // sync returns rows with change_seq up to and including this value
+    public synchronized long horizon() {
+        Instant cutoff = clock.instant().minus(lag);
+        prune(cutoff);
+        Sample oldest = samples.peekFirst();
+        return oldest != null && !oldest.at().isAfter(cutoff) ? oldest.changeSeq() - 1 : 0;
+    }
+
+    // keeps the newest sample that is old enough and everything after it
+    private void prune(Instant cutoff) {
+        while (samples.size() > 1) {
+            Sample first = samples.pollFirst();
+            if (samples.peekFirst().at().isAfter(cutoff)) {
+                samples.addFirst(first);
+                return;
+            }
+        }
+    }
+
+    private record Sample(Instant at, long changeSeq) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.api.taskmanager.sync;
+
+import com.api.taskmanager.service.TaskSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskTombstonePruner {
+
+    private final TaskSyncService service;
+
+    @Scheduled(initialDelayString = "${taskmanager.sync.prune.initial-delay:PT1M}",
+            fixedDelayString = "${taskmanager.sync.prune.interval:PT1H}")
+    public void prune() {
+        try {
+            int pruned = service.pruneTombstones(Instant.now());
+            if (pruned > 0) {
+                log.info("Pruned {} expired task tombstones", pruned);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Pruning task tombstones failed, retrying on the next run", ex);
+        }
+    }
+}
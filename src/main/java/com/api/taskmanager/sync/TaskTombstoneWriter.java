@@ -0,0 +1,33 @@
+package com.api.taskmanager.sync;
+
+import com.api.taskmanager.event.ChangeType;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.model.TaskTombstone;
+import com.api.taskmanager.repository.TaskTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+// Runs inside the deleting transaction, so a task never disappears without leaving its tombstone.
+@Component
+@RequiredArgsConstructor
+public class TaskTombstoneWriter {
+
+    private final TaskTombstoneRepository repository;
+
+    @EventListener
+    @Transactional
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() != ChangeType.DELETED) {
+            return;
+        }
+        TaskTombstone tombstone = new TaskTombstone();
+        tombstone.setTaskId(event.id());
+        tombstone.setTenantId(event.tenantId());
+        tombstone.setDeletedAt(Instant.now());
+        repository.save(tombstone);
+    }
+}
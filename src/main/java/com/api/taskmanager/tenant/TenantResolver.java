@@ -0,0 +1,94 @@
+package com.api.taskmanager.tenant;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * The tenant claim of the current token, or its subject; code running outside a request runs as root.
+ */
+@Component
+public class TenantResolver implements CurrentTenantIdentifierResolver<String>, HibernatePropertiesCustomizer {
+
+    // compared by identity, so no token value can resolve to root
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String ROOT = new String("*");
+
+    private final String claim;
+
+    public TenantResolver(@Value("${taskmanager.tenancy.claim:tenant}") String claim) {
+        this.claim = claim;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return ROOT;
+        }
+        String tenant = authentication instanceof JwtAuthenticationToken jwt
+                ? tenantOf(jwt.getToken())
+                : authentication.getName();
+        if (!isValid(tenant)) {
+            throw new InvalidBearerTokenException("Token does not name a valid tenant");
+        }
+        return tenant;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    @Override
+    public boolean isRoot(String tenant) {
+        return tenant == ROOT;
+    }
+
+    public boolean isRoot() {
+        return isRoot(resolveCurrentTenantIdentifier());
+    }
+
+    public OAuth2TokenValidator<Jwt> tokenValidator() {
+        return jwt -> isValid(tenantOf(jwt))
+                ? OAuth2TokenValidatorResult.success()
+                : OAuth2TokenValidatorResult.failure(new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN,
+                        "The " + claim + " claim or subject must name a tenant", null));
+    }
+
+    public String cacheKey(Object key) {
+        return cacheKey(resolveCurrentTenantIdentifier(), key);
+    }
+
+    public static String cacheKey(String tenant, Object key) {
+        return tenant + ":" + key;
+    }
+
+    private String tenantOf(Jwt jwt) {
+        String tenant = jwt.getClaimAsString(claim);
+        return tenant != null ? tenant : jwt.getSubject();
+    }
+
+    private static boolean isValid(String tenant) {
+        return tenant != null && !tenant.isBlank() && !tenant.equals("*");
+    }
+}
@@ -0,0 +1,69 @@
+-- Postgres schema with tasks hash partitioned by tenant; run before startup with ddl-auto=none or validate.
+
+CREATE SEQUENCE IF NOT EXISTS tasks_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS task_change_seq INCREMENT BY 1;
+CREATE SEQUENCE IF NOT EXISTS task_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id          bigint       NOT NULL,
+    tenant_id   varchar(255) NOT NULL,
+    title       varchar(255) NOT NULL,
+    description varchar(255),
+    due_date    date         NOT NULL,
+    status      varchar(255),
+    previous_status varchar(255),
+    version     bigint       NOT NULL DEFAULT 0,
+    change_seq  bigint,
+    -- full-text search, not mapped on the entity
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED,
+    PRIMARY KEY (tenant_id, id)
+) PARTITION BY HASH (tenant_id);
+
+-- changing the partition count means re-creating the table
+CREATE TABLE tasks_p0 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE tasks_p1 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE tasks_p2 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE tasks_p3 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE tasks_p4 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE tasks_p5 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE tasks_p6 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE tasks_p7 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE tasks_p8 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE tasks_p9 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE tasks_p10 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE tasks_p11 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE tasks_p12 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE tasks_p13 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE tasks_p14 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE tasks_p15 PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+
+CREATE INDEX idx_tasks_id ON tasks (id);
+CREATE INDEX idx_tasks_tenant_due_date_id ON tasks (tenant_id, due_date, id);
+CREATE INDEX idx_tasks_tenant_status_due_date_id ON tasks (tenant_id, status, due_date, id);
+CREATE INDEX idx_tasks_tenant_title ON tasks (tenant_id, title);
+CREATE INDEX idx_tasks_tenant_change_seq ON tasks (tenant_id, change_seq);
+CREATE INDEX idx_tasks_change_seq_null ON tasks (id) WHERE change_seq IS NULL;
+CREATE INDEX idx_tasks_status_due_date_id ON tasks (status, due_date, id);
+CREATE INDEX idx_tasks_due_date_id ON tasks (due_date, id);
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+CREATE TABLE task_outbox (
+    id         bigint                      NOT NULL PRIMARY KEY,
+    task_id    bigint                      NOT NULL,
+    tenant_id  varchar(255)                NOT NULL,
+    type       varchar(255)                NOT NULL,
+    payload    text                        NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL
+);
+
+CREATE TABLE task_tombstones (
+    change_seq bigint                      NOT NULL PRIMARY KEY,
+    task_id    bigint                      NOT NULL,
+    tenant_id  varchar(255)                NOT NULL,
+    deleted_at timestamp(6) with time zone NOT NULL
+);
+
+CREATE INDEX idx_task_tombstones_deleted_at ON task_tombstones (deleted_at);
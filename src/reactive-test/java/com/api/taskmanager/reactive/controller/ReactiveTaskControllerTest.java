@@ -0,0 +1,142 @@
+package com.api.taskmanager.reactive.controller;
+
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.exception.InvalidTaskStateException;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.reactive.ReactiveTaskmanagerApplication;
+import com.api.taskmanager.reactive.service.ReactiveTaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.csrf;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+
+@WebFluxTest(ReactiveTaskController.class)
+@ContextConfiguration(classes = ReactiveTaskmanagerApplication.class)
+@ActiveProfiles("reactive")
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @MockBean
+    private ReactiveTaskService service;
+
+    private final TaskResponseDTO task = new TaskResponseDTO(1L, "Task 1", "Description task 1",
+            Status.PENDING, LocalDate.now().plusDays(1), 3L);
+
+    @Test
+    void shouldListTasksPaginatedByDefault() {
+        when(service.findAll(any(), any(Pageable.class)))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(task), PageRequest.of(0, 20), 1)));
+
+        client.mutateWith(mockJwt()).get().uri("/api/tasks?page=0&size=20")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].id").isEqualTo(1)
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    void shouldStreamTasksAsNdjson() {
+        when(service.stream(any())).thenReturn(Flux.just(task, task));
+
+        client.mutateWith(mockJwt()).get().uri("/api/tasks")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(TaskResponseDTO.class).hasSize(2);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenETagMatches() {
+        when(service.findById(1L)).thenReturn(Mono.just(task));
+
+        client.mutateWith(mockJwt()).get().uri("/api/tasks/1")
+                .header("If-None-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "\"3\"");
+    }
+
+    @Test
+    void shouldCreateTask() {
+        when(service.create(any(TaskRequestDTO.class))).thenReturn(Mono.just(task));
+
+        client.mutateWith(mockJwt()).mutateWith(csrf()).post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskRequestDTO("Task 1", "Description task 1", task.dueDate()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("ETag", "\"3\"")
+                .expectBody().jsonPath("$.status").isEqualTo("PENDING");
+    }
+
+    @Test
+    void shouldRejectInvalidBody() {
+        client.mutateWith(mockJwt()).mutateWith(csrf()).post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.title").isEqualTo("Validation Error");
+    }
+
+    @Test
+    void shouldPassIfMatchVersionToTransition() {
+        when(service.start(1L, 3L)).thenReturn(Mono.error(new InvalidTaskStateException("Task cannot be started with status: DONE")));
+
+        client.mutateWith(mockJwt()).mutateWith(csrf()).post().uri("/api/tasks/1/start")
+                .header("If-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.title").isEqualTo("Invalid Task Status");
+    }
+
+    @Test
+    void shouldRejectMalformedIfMatch() {
+        client.mutateWith(mockJwt()).mutateWith(csrf()).delete().uri("/api/tasks/1")
+                .header("If-Match", "not-a-tag")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void shouldRejectWeakIfMatch() {
+        client.mutateWith(mockJwt()).mutateWith(csrf()).delete().uri("/api/tasks/1")
+                .header("If-Match", "W/\"3\"")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void shouldMatchAnyTagInIfMatchList() {
+        when(service.findById(1L)).thenReturn(Mono.just(task));
+        when(service.cancel(1L, 3L)).thenReturn(Mono.just(task));
+
+        client.mutateWith(mockJwt()).mutateWith(csrf()).post().uri("/api/tasks/1/cancel")
+                .header("If-Match", "\"2\", \"3\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3\"");
+    }
+}
@@ -0,0 +1,139 @@
+package com.api.taskmanager.reactive.service.impl;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.exception.InvalidTaskStateException;
+import com.api.taskmanager.exception.PreconditionFailedException;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.reactive.ReactiveTaskmanagerApplication;
+import com.api.taskmanager.pagination.CursorOrder;
+import com.api.taskmanager.reactive.cache.ReactiveTaskCache;
+import com.api.taskmanager.reactive.repository.ReactiveTaskRepository;
+import com.api.taskmanager.state.TaskStateMachine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 in PostgreSQL mode stands in for Postgres; the schema matches what Hibernate generates for Task
+@DataR2dbcTest(properties = "spring.r2dbc.url=r2dbc:h2:mem:///reactive-tasks;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@ContextConfiguration(classes = ReactiveTaskmanagerApplication.class)
+@ActiveProfiles("reactive")
+class ReactiveTaskServiceImplTest {
+
+    @Autowired
+    private ReactiveTaskRepository repository;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private DatabaseClient db;
+
+    private ReactiveTaskServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        db.sql("create sequence if not exists tasks_seq start with 1 increment by 50").then()
+                .then(db.sql("""
+                        create table if not exists tasks (
+                            id bigint primary key,
+                            title varchar(255) not null,
+                            description varchar(255),
+                            due_date date not null,
+                            status varchar(255),
+                            version bigint default 0 not null
+                        )""").then())
+                .then(db.sql("delete from tasks").then())
+                .block();
+        service = new ReactiveTaskServiceImpl(repository, template, new TaskStateMachine(), ReactiveTaskCache.NONE);
+    }
+
+    @Test
+    void shouldCreateAndReadTask() {
+        TaskResponseDTO created = service.create(request("Write report")).block();
+
+        assertThat(created.id()).isNotNull();
+        assertThat(created.status()).isEqualTo(Status.PENDING);
+        assertThat(created.version()).isZero();
+        StepVerifier.create(service.findById(created.id()))
+                .assertNext(task -> assertThat(task.title()).isEqualTo("Write report"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldTransitionThroughStateMachine() {
+        Long id = service.create(request("Write report")).block().id();
+
+        StepVerifier.create(service.start(id, 0L))
+                .assertNext(task -> {
+                    assertThat(task.status()).isEqualTo(Status.IN_PROGRESS);
+                    assertThat(task.version()).isEqualTo(1L);
+                })
+                .verifyComplete();
+        StepVerifier.create(service.start(id, null))
+                .expectError(InvalidTaskStateException.class)
+                .verify();
+        StepVerifier.create(service.cancel(id, 0L))
+                .expectError(PreconditionFailedException.class)
+                .verify();
+        StepVerifier.create(service.cancel(id, 1L))
+                .assertNext(task -> assertThat(task.status()).isEqualTo(Status.CANCELED))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectStaleVersionOnUpdate() {
+        Long id = service.create(request("Write report")).block().id();
+
+        StepVerifier.create(service.update(id, request("Rewrite report"), 7L))
+                .expectError(PreconditionFailedException.class)
+                .verify();
+        StepVerifier.create(service.update(id, request("Rewrite report"), 0L))
+                .assertNext(task -> assertThat(task.version()).isEqualTo(1L))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSeekPagesByCursor() {
+        Flux.range(1, 5).concatMap(i -> service.create(request("Task " + i))).blockLast();
+
+        CursorPageDTO<TaskResponseDTO> first = service.findAll(TaskFilterDTO.none(), null, 2, CursorOrder.ID, true).block();
+        CursorPageDTO<TaskResponseDTO> second = service.findAll(TaskFilterDTO.none(), first.nextCursor(), 2, CursorOrder.ID, false).block();
+
+        assertThat(first.content()).extracting(TaskResponseDTO::title).containsExactly("Task 1", "Task 2");
+        assertThat(first.totalElements()).isEqualTo(5);
+        assertThat(second.content()).extracting(TaskResponseDTO::title).containsExactly("Task 3", "Task 4");
+        assertThat(second.hasNext()).isTrue();
+    }
+
+    @Test
+    void shouldStreamOnlyWhatIsRequested() {
+        Flux.range(1, 5).concatMap(i -> service.create(request("Report " + i))).blockLast();
+        service.create(request("Other")).block();
+        TaskFilterDTO filter = new TaskFilterDTO(List.of(Status.PENDING), null, null, null, "Report");
+
+        StepVerifier.create(service.stream(filter), 2)
+                .expectNextCount(2)
+                .thenRequest(10)
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    private TaskRequestDTO request(String title) {
+        return new TaskRequestDTO(title, "Description", LocalDate.now().plusDays(1));
+    }
+}
@@ -0,0 +1,32 @@
+package com.api.taskmanager.reactive;
+
+import com.api.taskmanager.handler.GlobalExceptionHandler;
+import com.api.taskmanager.state.TaskStateMachine;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+import java.util.Map;
+
+// Only scans this package, so none of the servlet, JPA or blocking cache beans are created.
+// The profile keeps the servlet application from picking these classes up when both are on the classpath.
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class})
+@Import({TaskStateMachine.class, GlobalExceptionHandler.class})
+@Profile("reactive")
+public class ReactiveTaskmanagerApplication {
+
+	public static void main(String[] args) {
+		SpringApplication application = new SpringApplication(ReactiveTaskmanagerApplication.class);
+		application.setWebApplicationType(WebApplicationType.REACTIVE);
+		application.setAdditionalProfiles("reactive");
+		application.setDefaultProperties(Map.of(
+				"management.endpoints.web.exposure.include", "health,prometheus"
+		));
+		application.run(args);
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.api.taskmanager.reactive.cache;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskCache {
+
+    ReactiveTaskCache NONE = new ReactiveTaskCache() {
+        @Override
+        public Mono<TaskResponseDTO> get(Long id) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> put(TaskResponseDTO task) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> evict(Long id) {
+            return Mono.empty();
+        }
+    };
+
+    // empty on a miss and whenever the cache cannot be reached
+    Mono<TaskResponseDTO> get(Long id);
+
+    Mono<Void> put(TaskResponseDTO task);
+
+    Mono<Void> evict(Long id);
+}
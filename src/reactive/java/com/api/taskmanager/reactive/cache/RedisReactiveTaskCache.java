@@ -0,0 +1,75 @@
+package com.api.taskmanager.reactive.cache;
+
+import com.api.taskmanager.cache.CacheInvalidation;
+import com.api.taskmanager.cache.RedisCacheInvalidationBus;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// Reads and writes the same taskById entries as the servlet nodes, and tells their near caches about every change.
+@Slf4j
+public class RedisReactiveTaskCache implements ReactiveTaskCache {
+
+    private static final String CACHE = "taskById";
+
+    private final ReactiveRedisTemplate<String, TaskResponseDTO> redisTemplate;
+    private final ReactiveStringRedisTemplate invalidations;
+    private final RedisCacheConfiguration cacheConfiguration;
+    private final String channel;
+    private final String origin = "reactive-" + UUID.randomUUID();
+
+    public RedisReactiveTaskCache(ReactiveRedisTemplate<String, TaskResponseDTO> redisTemplate,
+                                  ReactiveStringRedisTemplate invalidations,
+                                  RedisCacheConfiguration cacheConfiguration,
+                                  String channel) {
+        this.redisTemplate = redisTemplate;
+        this.invalidations = invalidations;
+        this.cacheConfiguration = cacheConfiguration;
+        this.channel = channel;
+    }
+
+    @Override
+    public Mono<TaskResponseDTO> get(Long id) {
+        return redisTemplate.opsForValue().get(key(id))
+                .onErrorResume(ex -> {
+                    log.debug("Cache read for task {} failed, reading from the database", id, ex);
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Void> put(TaskResponseDTO task) {
+        Duration ttl = cacheConfiguration.getTtlFunction().getTimeToLive(task.id(), task);
+        return redisTemplate.opsForValue().set(key(task.id()), task, ttl)
+                .then(invalidate(task.id()))
+                .onErrorResume(ex -> evictQuietly(task.id(), ex));
+    }
+
+    @Override
+    public Mono<Void> evict(Long id) {
+        return redisTemplate.delete(key(id))
+                .then(invalidate(id))
+                .onErrorResume(ex -> evictQuietly(id, ex));
+    }
+
+    private Mono<Void> invalidate(Long id) {
+        String message = RedisCacheInvalidationBus.encode(new CacheInvalidation(origin, CACHE, String.valueOf(id)));
+        return invalidations.convertAndSend(channel, message).then();
+    }
+
+    private Mono<Void> evictQuietly(Long id, Throwable ex) {
+        // the entry expires on its own; the write itself already reached the database
+        log.warn("Could not update cached task {}", id, ex);
+        return Mono.empty();
+    }
+
+    private String key(Long id) {
+        return cacheConfiguration.getKeyPrefixFor(CACHE) + id;
+    }
+}
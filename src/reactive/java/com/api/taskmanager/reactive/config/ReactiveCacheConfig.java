@@ -0,0 +1,46 @@
+package com.api.taskmanager.reactive.config;
+
+import com.api.taskmanager.cache.CacheValueFormat;
+import com.api.taskmanager.config.RedisConfig;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.reactive.cache.ReactiveTaskCache;
+import com.api.taskmanager.reactive.cache.RedisReactiveTaskCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveCacheConfig {
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public ReactiveTaskCache reactiveTaskCache(ReactiveRedisConnectionFactory connectionFactory,
+                                               ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+                                               @Value("${taskmanager.cache.enabled:true}") boolean enabled,
+                                               @Value("${taskmanager.cache.value-format:JSON}") CacheValueFormat valueFormat,
+                                               @Value("${taskmanager.cache.compress-threshold:512}") int compressThreshold,
+                                               @Value("${taskmanager.cache.ttl-jitter:0.1}") double ttlJitter,
+                                               @Value("${taskmanager.cache.near.channel:taskmanager:cache-invalidation}") String channel) {
+        if (!enabled) {
+            return ReactiveTaskCache.NONE;
+        }
+        // same key prefix, value format and TTL as the servlet nodes, so both variants share one cache
+        RedisCacheConfiguration taskById = RedisConfig.cacheConfigurations(
+                RedisConfig.cacheDefaults(valueFormat, compressThreshold, ttlJitter), ttlJitter).get("taskById");
+        RedisSerializationContext<String, TaskResponseDTO> context = RedisSerializationContext
+                .<String, TaskResponseDTO>newSerializationContext(RedisSerializer.string())
+                .value((RedisSerializationContext.SerializationPair<TaskResponseDTO>)
+                        (RedisSerializationContext.SerializationPair<?>) taskById.getValueSerializationPair())
+                .build();
+        return new RedisReactiveTaskCache(new ReactiveRedisTemplate<>(connectionFactory, context),
+                reactiveStringRedisTemplate, taskById, channel);
+    }
+}
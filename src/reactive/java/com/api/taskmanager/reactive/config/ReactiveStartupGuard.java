@@ -0,0 +1,20 @@
+package com.api.taskmanager.reactive.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// The reactive variant predates tenancy and delta sync: TaskRow has no tenant_id, change_seq or previous_status,
+// and nothing here writes the outbox. Next to the servlet nodes it would create tasks no tenant can see and change
+// tasks without a change record, so the application refuses to start until it catches up. The test slices do not
+// load this class and keep exercising the code.
+@Configuration
+@Profile("reactive")
+public class ReactiveStartupGuard implements InitializingBean {
+
+    @Override
+    public void afterPropertiesSet() {
+        throw new IllegalStateException("The reactive variant is not tenant-aware and does not write the task "
+                + "outbox or change sequence; run the servlet application instead");
+    }
+}
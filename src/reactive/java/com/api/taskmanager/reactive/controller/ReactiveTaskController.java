@@ -0,0 +1,122 @@
+package com.api.taskmanager.reactive.controller;
+
+import com.api.taskmanager.controller.ETags;
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.pagination.CursorOrder;
+import com.api.taskmanager.reactive.service.ReactiveTaskService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.Set;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@RequestMapping("/api/tasks")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService service;
+
+    @GetMapping
+    public Mono<Page<TaskResponseDTO>> list(TaskFilterDTO filter, Pageable pageable){
+        return service.findAll(filter, pageable);
+    }
+
+    // newline-delimited JSON: rows are read from the database only as fast as the client consumes them
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponseDTO> stream(TaskFilterDTO filter){
+        return service.stream(filter);
+    }
+
+    @GetMapping(params = "cursor")
+    public Mono<CursorPageDTO<TaskResponseDTO>> listByCursor(TaskFilterDTO filter,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size,
+                                                             @RequestParam(defaultValue = "ID") CursorOrder orderBy,
+                                                             @RequestParam(defaultValue = "false") boolean withTotal){
+        return service.findAll(filter, cursor, size, orderBy, withTotal);
+    }
+
+    @PostMapping("/{id}/done")
+    public Mono<ResponseEntity<TaskResponseDTO>> complete(@PathVariable Long id,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        return expectedVersion(id, ifMatch)
+                .flatMap(version -> service.done(id, version.orElse(null)))
+                .map(ReactiveTaskController::ok);
+    }
+
+    @PostMapping("/{id}/start")
+    public Mono<ResponseEntity<TaskResponseDTO>> start(@PathVariable Long id,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        return expectedVersion(id, ifMatch)
+                .flatMap(version -> service.start(id, version.orElse(null)))
+                .map(ReactiveTaskController::ok);
+    }
+
+    @PostMapping("/{id}/cancel")
+    public Mono<ResponseEntity<TaskResponseDTO>> cancel(@PathVariable Long id,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        return expectedVersion(id, ifMatch)
+                .flatMap(version -> service.cancel(id, version.orElse(null)))
+                .map(ReactiveTaskController::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponseDTO>> get(@PathVariable Long id){
+        return service.findById(id).map(ReactiveTaskController::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TaskResponseDTO>> create(@RequestBody @Valid TaskRequestDTO dto){
+        return service.create(dto)
+                .map(task -> ResponseEntity.status(HttpStatus.CREATED).eTag(ETags.of(task.version())).body(task));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponseDTO>> update(@PathVariable Long id, @RequestBody @Valid TaskRequestDTO dto,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        return expectedVersion(id, ifMatch)
+                .flatMap(version -> service.update(id, dto, version.orElse(null)))
+                .map(ReactiveTaskController::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        return expectedVersion(id, ifMatch)
+                .flatMap(version -> service.delete(id, version.orElse(null)))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    // a list of tags resolves to the one naming the current version, as in TaskController
+    private Mono<Optional<Long>> expectedVersion(Long id, String ifMatch){
+        Set<Long> versions = ETags.parseIfMatch(ifMatch);
+        if (versions == null) {
+            return Mono.just(Optional.empty());
+        }
+        Long first = versions.iterator().next();
+        if (versions.size() == 1) {
+            return Mono.just(Optional.of(first));
+        }
+        return service.findById(id)
+                .map(task -> Optional.of(versions.contains(task.version()) ? task.version() : first));
+    }
+
+    private static ResponseEntity<TaskResponseDTO> ok(TaskResponseDTO task){
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(task.version())).body(task);
+    }
+}
@@ -0,0 +1,23 @@
+package com.api.taskmanager.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskRepository extends R2dbcRepository<TaskRow, Long> {
+
+    // Hibernate allocates ids from this sequence in blocks of 50; a single value is a block of its own, so ids never clash
+    @Query("select nextval('tasks_seq')")
+    Mono<Long> nextId();
+
+    @Modifying
+    @Query("""
+            update tasks set status = :target, version = version + 1
+            where id = :id and status = :source
+              and (cast(:version as bigint) is null or version = :version)
+            """)
+    Mono<Integer> transition(@Param("id") Long id, @Param("target") String target,
+                             @Param("source") String source, @Param("version") Long expectedVersion);
+}
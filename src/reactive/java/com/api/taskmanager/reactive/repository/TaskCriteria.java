@@ -0,0 +1,45 @@
+package com.api.taskmanager.reactive.repository;
+
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.pagination.CursorOrder;
+import com.api.taskmanager.pagination.TaskCursor;
+import org.springframework.data.relational.core.dialect.Escaper;
+import org.springframework.data.relational.core.query.Criteria;
+
+import java.time.LocalDate;
+
+// Same predicates as TaskSpecifications, for R2dbcEntityTemplate queries.
+public final class TaskCriteria {
+
+    private TaskCriteria(){}
+
+    public static Criteria matching(TaskFilterDTO filter, LocalDate today) {
+        Criteria criteria = Criteria.empty();
+        if (filter.status() != null && !filter.status().isEmpty()) {
+            criteria = criteria.and("status").in(filter.status());
+        }
+        if (filter.dueFrom() != null) {
+            criteria = criteria.and("dueDate").greaterThanOrEquals(filter.dueFrom());
+        }
+        if (filter.dueTo() != null) {
+            criteria = criteria.and("dueDate").lessThanOrEquals(filter.dueTo());
+        }
+        if (Boolean.TRUE.equals(filter.overdue())) {
+            criteria = criteria.and("status").in(Status.open())
+                    .and("dueDate").lessThan(today);
+        }
+        if (filter.titlePrefix() != null && !filter.titlePrefix().isBlank()) {
+            criteria = criteria.and("title").like(Escaper.DEFAULT.escape(filter.titlePrefix()) + "%");
+        }
+        return criteria;
+    }
+
+    public static Criteria after(TaskCursor cursor) {
+        if (cursor.order() == CursorOrder.DUE_DATE) {
+            return Criteria.where("dueDate").greaterThan(cursor.dueDate())
+                    .or(Criteria.where("dueDate").is(cursor.dueDate()).and("id").greaterThan(cursor.id()));
+        }
+        return Criteria.where("id").greaterThan(cursor.id());
+    }
+}
@@ -0,0 +1,34 @@
+package com.api.taskmanager.reactive.repository;
+
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.model.Status;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+// The R2DBC view of the tasks table the JPA entity owns. A null version marks a row that still has to be inserted.
+@Table("tasks")
+public record TaskRow(
+        @Id Long id,
+        String title,
+        String description,
+        LocalDate dueDate,
+        Status status,
+        @Version Long version
+){
+
+    public static TaskRow pending(Long id, TaskRequestDTO dto){
+        return new TaskRow(id, dto.title(), dto.description(), dto.dueDate(), Status.PENDING, null);
+    }
+
+    public TaskRow apply(TaskRequestDTO dto){
+        return new TaskRow(id, dto.title(), dto.description(), dto.dueDate(), status, version);
+    }
+
+    public TaskResponseDTO toResponseDTO(){
+        return new TaskResponseDTO(id, title, description, status, dueDate, version);
+    }
+}
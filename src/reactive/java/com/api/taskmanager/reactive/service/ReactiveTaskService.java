@@ -0,0 +1,26 @@
+package com.api.taskmanager.reactive.service;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.pagination.CursorOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskService {
+
+    Mono<Page<TaskResponseDTO>> findAll(TaskFilterDTO filter, Pageable pageable);
+    Mono<CursorPageDTO<TaskResponseDTO>> findAll(TaskFilterDTO filter, String cursor, int size, CursorOrder order, boolean withTotal);
+    Flux<TaskResponseDTO> stream(TaskFilterDTO filter);
+    Mono<TaskResponseDTO> findById(Long id);
+    Mono<TaskResponseDTO> create(TaskRequestDTO dto);
+    Mono<TaskResponseDTO> update(Long id, TaskRequestDTO dto, Long expectedVersion);
+    Mono<TaskResponseDTO> done(Long id, Long expectedVersion);
+    Mono<TaskResponseDTO> cancel(Long id, Long expectedVersion);
+    Mono<TaskResponseDTO> start(Long id, Long expectedVersion);
+    Mono<Void> delete(Long id, Long expectedVersion);
+
+}
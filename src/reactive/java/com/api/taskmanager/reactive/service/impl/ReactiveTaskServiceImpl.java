@@ -0,0 +1,203 @@
+package com.api.taskmanager.reactive.service.impl;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.exception.InvalidCursorException;
+import com.api.taskmanager.exception.PreconditionFailedException;
+import com.api.taskmanager.exception.TaskNotFoundException;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.pagination.CursorOrder;
+import com.api.taskmanager.pagination.TaskCursor;
+import com.api.taskmanager.reactive.cache.ReactiveTaskCache;
+import com.api.taskmanager.reactive.repository.ReactiveTaskRepository;
+import com.api.taskmanager.reactive.repository.TaskCriteria;
+import com.api.taskmanager.reactive.repository.TaskRow;
+import com.api.taskmanager.reactive.service.ReactiveTaskService;
+import com.api.taskmanager.state.TaskStateMachine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+    // rows requested from the driver at a time; a slow client stops the query instead of filling memory
+    private static final int STREAM_BATCH_SIZE = 256;
+
+    private final ReactiveTaskRepository repository;
+    private final R2dbcEntityTemplate template;
+    private final TaskStateMachine state;
+    private final ReactiveTaskCache cache;
+
+    @Override
+    public Mono<Page<TaskResponseDTO>> findAll(TaskFilterDTO filter, Pageable pageable) {
+        Criteria criteria = TaskCriteria.matching(filter, LocalDate.now());
+        Mono<List<TaskResponseDTO>> content = template.select(TaskRow.class)
+                .matching(Query.query(criteria).with(pageable))
+                .all()
+                .map(TaskRow::toResponseDTO)
+                .collectList();
+        Mono<Long> total = template.count(Query.query(criteria), TaskRow.class);
+        return Mono.zip(content, total)
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    @Override
+    public Mono<CursorPageDTO<TaskResponseDTO>> findAll(TaskFilterDTO filter, String cursor, int size,
+                                                        CursorOrder order, boolean withTotal) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        TaskCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = TaskCursor.decode(cursor);
+            if (after.order() != order) {
+                return Mono.error(new InvalidCursorException(cursor));
+            }
+        }
+
+        Criteria matching = TaskCriteria.matching(filter, LocalDate.now());
+        Criteria criteria = after == null ? matching : matching.and(TaskCriteria.after(after));
+        Sort sort = order == CursorOrder.DUE_DATE
+                ? Sort.by("dueDate", "id")
+                : Sort.by("id");
+        // one extra row tells us whether another page exists without a count query
+        Mono<List<TaskRow>> rows = template.select(TaskRow.class)
+                .matching(Query.query(criteria).sort(sort).limit(pageSize + 1))
+                .all()
+                .collectList();
+        Mono<Long> total = withTotal
+                ? template.count(Query.query(matching), TaskRow.class)
+                : Mono.just(-1L);
+
+        return Mono.zip(rows, total).map(result -> {
+            List<TaskRow> fetched = result.getT1();
+            boolean hasNext = fetched.size() > pageSize;
+            List<TaskRow> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+            String nextCursor = hasNext ? cursorAfter(page.get(page.size() - 1), order).encode() : null;
+            return new CursorPageDTO<>(
+                    page.stream().map(TaskRow::toResponseDTO).toList(),
+                    nextCursor,
+                    hasNext,
+                    withTotal ? result.getT2() : null
+            );
+        });
+    }
+
+    private static TaskCursor cursorAfter(TaskRow row, CursorOrder order) {
+        return new TaskCursor(order, order == CursorOrder.DUE_DATE ? row.dueDate() : null, row.id());
+    }
+
+    @Override
+    public Flux<TaskResponseDTO> stream(TaskFilterDTO filter) {
+        return template.select(TaskRow.class)
+                .matching(Query.query(TaskCriteria.matching(filter, LocalDate.now())).sort(Sort.by("id")))
+                .all()
+                .limitRate(STREAM_BATCH_SIZE)
+                .map(TaskRow::toResponseDTO);
+    }
+
+    @Override
+    public Mono<TaskResponseDTO> findById(Long id) {
+        return cache.get(id)
+                .switchIfEmpty(Mono.defer(() -> load(id)
+                        .map(TaskRow::toResponseDTO)
+                        .flatMap(task -> cache.put(task).thenReturn(task))));
+    }
+
+    @Override
+    @Transactional
+    public Mono<TaskResponseDTO> create(TaskRequestDTO dto) {
+        return repository.nextId()
+                .flatMap(id -> repository.save(TaskRow.pending(id, dto)))
+                .map(TaskRow::toResponseDTO)
+                .flatMap(task -> cache.put(task).thenReturn(task));
+    }
+
+    @Override
+    @Transactional
+    public Mono<TaskResponseDTO> update(Long id, TaskRequestDTO dto, Long expectedVersion) {
+        return load(id)
+                .flatMap(existing -> checkVersion(existing, expectedVersion))
+                .flatMap(existing -> repository.save(existing.apply(dto)))
+                .map(TaskRow::toResponseDTO)
+                .flatMap(task -> cache.put(task).thenReturn(task));
+    }
+
+    @Override
+    @Transactional
+    public Mono<TaskResponseDTO> done(Long id, Long expectedVersion) {
+        return transition(id, Status.DONE, expectedVersion);
+    }
+
+    @Override
+    @Transactional
+    public Mono<TaskResponseDTO> cancel(Long id, Long expectedVersion) {
+        return transition(id, Status.CANCELED, expectedVersion);
+    }
+
+    @Override
+    @Transactional
+    public Mono<TaskResponseDTO> start(Long id, Long expectedVersion) {
+        return transition(id, Status.IN_PROGRESS, expectedVersion);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> delete(Long id, Long expectedVersion) {
+        return load(id)
+                .flatMap(existing -> checkVersion(existing, expectedVersion))
+                .flatMap(repository::delete)
+                .then(cache.evict(id));
+    }
+
+    private Mono<TaskResponseDTO> transition(Long id, Status target, Long expectedVersion) {
+        // one guarded UPDATE per source status, the first that matches wins and the rest are never sent
+        return Flux.fromIterable(state.sourcesOf(target))
+                .concatMap(source -> repository.transition(id, target.name(), source.name(), expectedVersion))
+                .filter(updated -> updated == 1)
+                .next()
+                .flatMap(updated -> load(id))
+                .switchIfEmpty(Mono.defer(() -> rejection(id, target, expectedVersion)))
+                .map(TaskRow::toResponseDTO)
+                .flatMap(task -> cache.put(task).thenReturn(task));
+    }
+
+    private Mono<TaskRow> rejection(Long id, Status target, Long expectedVersion) {
+        return load(id).flatMap(current -> {
+            if (expectedVersion != null && !expectedVersion.equals(current.version())) {
+                return Mono.error(new PreconditionFailedException(id, current.version()));
+            }
+            return Mono.error(state.rejection(target, current.status()));
+        });
+    }
+
+    private Mono<TaskRow> load(Long id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)));
+    }
+
+    private static Mono<TaskRow> checkVersion(TaskRow row, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(row.version())) {
+            return Mono.error(new PreconditionFailedException(row.id(), row.version()));
+        }
+        return Mono.just(row);
+    }
+}
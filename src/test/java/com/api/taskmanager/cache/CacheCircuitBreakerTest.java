@@ -0,0 +1,61 @@
+package com.api.taskmanager.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CacheCircuitBreaker breaker = new CacheCircuitBreaker(3, Duration.ofSeconds(10), now::get);
+
+    @Test
+    void shouldOpenAfterConsecutiveFailures() {
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.rejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLetSingleProbeThroughAfterCoolDown() {
+        AtomicInteger closed = new AtomicInteger();
+        breaker.onClose(closed::incrementAndGet);
+        openBreaker();
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+        assertThat(closed).hasValue(1);
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails() {
+        openBreaker();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+    }
+}
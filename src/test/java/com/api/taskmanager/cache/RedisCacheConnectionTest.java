@@ -0,0 +1,40 @@
+package com.api.taskmanager.cache;
+
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisCacheConnectionTest {
+
+    @Test
+    void shouldApplyCacheTimeoutsWithoutTouchingSharedConnection() {
+        LettuceConnectionFactory shared = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("redis.internal", 6380),
+                LettuceClientConfiguration.builder().clientName("tasks").commandTimeout(Duration.ofSeconds(5)).build());
+
+        RedisCacheConnection cache = new RedisCacheConnection(shared, Duration.ofMillis(100), Duration.ofMillis(250));
+        try {
+            LettuceConnectionFactory factory = (LettuceConnectionFactory) cache.connectionFactory();
+            TimeoutOptions.TimeoutSource timeouts = factory.getClientConfiguration().getClientOptions().orElseThrow()
+                    .getTimeoutOptions().getSource();
+
+            assertThat(factory.getHostName()).isEqualTo("redis.internal");
+            assertThat(factory.getPort()).isEqualTo(6380);
+            assertThat(factory.getClientConfiguration().getClientName()).hasValue("tasks");
+            assertThat(timeouts.getTimeout(new Command<>(CommandType.GET, null))).isEqualTo(100);
+            assertThat(timeouts.getTimeout(new Command<>(CommandType.SET, null))).isEqualTo(250);
+            assertThat(shared.getClientConfiguration().getClientOptions().orElseThrow()
+                    .getTimeoutOptions().getSource()).isNotSameAs(timeouts);
+        } finally {
+            cache.destroy();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.api.taskmanager.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisCacheInvalidationBusTest {
+
+    @Test
+    void shouldRoundTripEvictMessage() {
+        CacheInvalidation invalidation = new CacheInvalidation("node-1", "taskById", "42");
+
+        assertThat(RedisCacheInvalidationBus.decode(RedisCacheInvalidationBus.encode(invalidation)))
+                .isEqualTo(invalidation);
+    }
+
+    @Test
+    void shouldRoundTripClearMessage() {
+        CacheInvalidation invalidation = new CacheInvalidation("node-1", "taskById", null);
+
+        assertThat(RedisCacheInvalidationBus.decode(RedisCacheInvalidationBus.encode(invalidation)).isClear())
+                .isTrue();
+    }
+}
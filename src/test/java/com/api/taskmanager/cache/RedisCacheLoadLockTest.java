@@ -0,0 +1,45 @@
+package com.api.taskmanager.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RedisCacheLoadLockTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final CacheCircuitBreaker breaker = new CacheCircuitBreaker(1, Duration.ofSeconds(30));
+    private final RedisCacheLoadLock lock = new RedisCacheLoadLock(redisTemplate, breaker, Duration.ofSeconds(2));
+
+    @Test
+    void shouldLoadWithoutAskingRedisWhileBreakerIsOpen() {
+        breaker.onFailure();
+
+        String token = lock.tryLock("taskById", "tenant:1");
+        lock.unlock("taskById", "tenant:1", token);
+
+        assertThat(token).isNotNull();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldOpenBreakerWhenLockCannotReachRedis() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("Redis is down"));
+
+        assertThat(lock.tryLock("taskById", "tenant:1")).isNotNull();
+        assertThat(breaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,209 @@
+package com.api.taskmanager.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringJUnitConfig(ResilientCacheTest.Config.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ResilientCacheTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 500;
+
+    @Autowired
+    private Lookup lookup;
+
+    @Autowired
+    private KillableCacheManager redis;
+
+    @Autowired
+    private CacheCircuitBreaker breaker;
+
+    @Autowired
+    private AtomicLong clock;
+
+    @Test
+    void shouldKeepServingWhenRemoteCacheDiesMidRun() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger completed = new AtomicInteger();
+        List<Future<?>> runs = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            runs.add(pool.submit(() -> {
+                for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                    if (completed.incrementAndGet() == THREADS * CALLS_PER_THREAD / 2) {
+                        redis.up.set(false);
+                    }
+                    long id = i % 50;
+                    if (i % 10 == 0) {
+                        lookup.update(id);
+                    } else {
+                        assertThat(lookup.find(id)).startsWith("task-" + id);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> run : runs) {
+            run.get();
+        }
+        pool.shutdown();
+
+        assertThat(breaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        assertThat(breaker.rejectedCalls()).isPositive();
+        // only the calls that tripped the breaker (and a few racing with it) ever hit the dead remote
+        assertThat(redis.failedCalls.get()).isLessThan(THREADS * 4);
+    }
+
+    @Test
+    void shouldEvictEntriesWrittenDuringOutageOnceRemoteRecovers() {
+        lookup.find(900L);
+        Cache remote = redis.getCache("taskById");
+        assertThat(remote.get(900L)).isNotNull();
+
+        redis.up.set(false);
+        for (int i = 0; i < 5; i++) {
+            lookup.find(1000L + i);
+        }
+        assertThat(breaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        lookup.update(900L);
+
+        redis.up.set(true);
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        lookup.find(901L);
+
+        assertThat(breaker.state()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+        assertThat(remote.get(900L)).isNull();
+    }
+
+    @Test
+    void shouldCloseBreakerWhenProbeReachesRemoteButLoaderFails() {
+        CacheCircuitBreaker probing = new CacheCircuitBreaker(1, Duration.ofSeconds(30), clock::get);
+        Cache cache = new CircuitBreakingCache(new ConcurrentMapCache("taskById"), probing, 100);
+        probing.onFailure();
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new IllegalStateException("task is gone");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        assertThat(probing.state()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+    }
+
+    static class Lookup {
+
+        private final AtomicInteger version = new AtomicInteger();
+
+        @Cacheable(value = "taskById", key = "#id")
+        public String find(Long id) {
+            return "task-" + id;
+        }
+
+        @CachePut(value = "taskById", key = "#id")
+        public String update(Long id) {
+            return "task-" + id + "-v" + version.incrementAndGet();
+        }
+    }
+
+    // Stands in for Redis: a map-backed cache that can be switched off mid-run.
+    static class KillableCacheManager extends ConcurrentMapCacheManager {
+
+        final AtomicBoolean up = new AtomicBoolean(true);
+        final AtomicInteger failedCalls = new AtomicInteger();
+
+        @Override
+        protected Cache createConcurrentMapCache(String name) {
+            return new ConcurrentMapCache(name) {
+                @Override
+                protected Object lookup(Object key) {
+                    check();
+                    return super.lookup(key);
+                }
+
+                @Override
+                public void put(Object key, Object value) {
+                    check();
+                    super.put(key, value);
+                }
+
+                @Override
+                public void evict(Object key) {
+                    check();
+                    super.evict(key);
+                }
+            };
+        }
+
+        private void check() {
+            if (!up.get()) {
+                failedCalls.incrementAndGet();
+                throw new IllegalStateException("Redis is down");
+            }
+        }
+    }
+
+    @Configuration
+    @EnableCaching
+    static class Config implements CachingConfigurer {
+
+        @Bean
+        AtomicLong clock() {
+            return new AtomicLong();
+        }
+
+        @Bean
+        KillableCacheManager redis() {
+            return new KillableCacheManager();
+        }
+
+        @Bean
+        CacheCircuitBreaker breaker(AtomicLong clock) {
+            return new CacheCircuitBreaker(3, Duration.ofSeconds(30), clock::get);
+        }
+
+        @Bean
+        @Primary
+        TwoTierCacheManager cacheManager(KillableCacheManager redis, CacheCircuitBreaker breaker) {
+            // a tiny near cache so most lookups still reach the remote tier
+            return new TwoTierCacheManager(new CircuitBreakingCacheManager(redis, breaker, 100),
+                    new InMemoryCacheInvalidationBus(), Set.of("taskById"), 1, Duration.ofMillis(1));
+        }
+
+        @Bean
+        @Override
+        public CacheErrorHandler errorHandler() {
+            return new FailOpenCacheErrorHandler();
+        }
+
+        @Bean
+        Lookup lookup() {
+            return new Lookup();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.api.taskmanager.cache;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.event.TasksTransitionedEvent;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskPageCacheTest {
+
+    private final ConcurrentMapCache cache = new ConcurrentMapCache("taskPages");
+    private final InMemoryGenerationCounter generation = new InMemoryGenerationCounter();
+    private final TaskPageCache pages = new TaskPageCache(cache, generation, new TenantResolver("tenant"));
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @BeforeEach
+    void setup() {
+        actAs("acme");
+    }
+
+    @AfterEach
+    void clearTenant() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldServeRepeatedQueryFromCache() {
+        CursorPageDTO<TaskResponseDTO> first = pages.get("page:0", this::query);
+        CursorPageDTO<TaskResponseDTO> second = pages.get("page:0", this::query);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    void shouldMissAfterAnyTaskChange() {
+        pages.get("page:0", this::query);
+
+        pages.onTaskChanged(TaskChangedEvent.created(task()));
+        pages.get("page:0", this::query);
+
+        assertThat(queries).hasValue(2);
+        assertThat(cache.getNativeCache()).hasSize(2);
+    }
+
+    @Test
+    void shouldKeepOtherTenantsPagesAfterChange() {
+        pages.get("page:0", this::query);
+        actAs("globex");
+        pages.get("page:0", this::query);
+
+        pages.onTaskChanged(TaskChangedEvent.created(task()));
+        actAs("acme");
+        pages.get("page:0", this::query);
+
+        assertThat(queries).hasValue(2);
+        assertThat(generation.current("acme")).isZero();
+        assertThat(generation.current("globex")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMissRootPagesAfterAnyTenantChange() {
+        SecurityContextHolder.clearContext();
+        pages.get("page:0", this::query);
+
+        pages.onTaskChanged(TaskChangedEvent.created(task()).forTenant("acme"));
+        pages.get("page:0", this::query);
+
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    void shouldBumpEachTenantOncePerTransitionedChunk() {
+        pages.onTasksTransitioned(new TasksTransitionedEvent(Status.CANCELED, List.of(
+                new TasksTransitionedEvent.Transitioned("acme", task()),
+                new TasksTransitionedEvent.Transitioned("acme", task()),
+                new TasksTransitionedEvent.Transitioned("globex", task()))));
+
+        assertThat(generation.current("acme")).isEqualTo(1);
+        assertThat(generation.current("globex")).isEqualTo(1);
+        assertThat(generation.current("*")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadGenerationOncePerTtlAndDropItOnLocalBump() {
+        AtomicInteger reads = new AtomicInteger();
+        GenerationCounter counting = new GenerationCounter() {
+            @Override
+            public long current(String scope) {
+                reads.incrementAndGet();
+                return generation.current(scope);
+            }
+
+            @Override
+            public void increment(Collection<String> scopes) {
+                generation.increment(scopes);
+            }
+        };
+        TaskPageCache cached = new TaskPageCache(cache,
+                new CachedGenerationCounter(counting, Duration.ofMinutes(1), 100), new TenantResolver("tenant"));
+
+        cached.get("page:0", this::query);
+        cached.get("page:0", this::query);
+        cached.onTaskChanged(TaskChangedEvent.created(task()));
+        cached.get("page:0", this::query);
+
+        assertThat(reads).hasValue(2);
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    void shouldQueryDirectlyWhenDisabled() {
+        TaskPageCache disabled = TaskPageCache.disabled();
+
+        disabled.get("page:0", this::query);
+        disabled.get("page:0", this::query);
+        disabled.onTaskChanged(TaskChangedEvent.created(task()));
+
+        assertThat(queries).hasValue(2);
+    }
+
+    private static void actAs(String tenant) {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").subject("user").claim("tenant", tenant).build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+    private CursorPageDTO<TaskResponseDTO> query() {
+        queries.incrementAndGet();
+        return new CursorPageDTO<>(List.of(task()), null, false, 1L);
+    }
+
+    private TaskResponseDTO task() {
+        return new TaskResponseDTO(1L, "Task", "Description", Status.PENDING, LocalDate.now(), 0L);
+    }
+}
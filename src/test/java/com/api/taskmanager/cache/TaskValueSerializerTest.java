@@ -0,0 +1,51 @@
+package com.api.taskmanager.cache;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.model.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskValueSerializerTest {
+
+    private final Jackson2JsonRedisSerializer<TaskResponseDTO> json =
+            new Jackson2JsonRedisSerializer<>(new ObjectMapper().registerModule(new JavaTimeModule()), TaskResponseDTO.class);
+
+    private final TaskResponseDTO task = new TaskResponseDTO(123456789L, "Prepare report", "Ação: números do trimestre",
+            Status.IN_PROGRESS, LocalDate.of(1969, 12, 30), 7L);
+
+    @Test
+    void shouldRoundTripBinaryFormatSmallerThanJson() {
+        TaskValueSerializer binary = new TaskValueSerializer(json, CacheValueFormat.BINARY, 512);
+
+        byte[] bytes = binary.serialize(task);
+
+        assertThat(bytes[0]).isEqualTo(TaskBinaryCodec.VERSION_1);
+        assertThat(bytes.length).isLessThan(json.serialize(task).length / 2);
+        assertThat(binary.deserialize(bytes)).isEqualTo(task);
+    }
+
+    @Test
+    void shouldReadJsonWrittenBeforeTheSwitch() {
+        TaskValueSerializer binary = new TaskValueSerializer(json, CacheValueFormat.BINARY, 512);
+
+        assertThat(binary.deserialize(json.serialize(task))).isEqualTo(task);
+    }
+
+    @Test
+    void shouldCompressLongDescriptionsAndKeepNulls() {
+        TaskValueSerializer binary = new TaskValueSerializer(json, CacheValueFormat.BINARY, 64);
+        TaskResponseDTO longTask = new TaskResponseDTO(1L, "Long", "lorem ipsum ".repeat(200),
+                Status.PENDING, null, null);
+
+        byte[] bytes = binary.serialize(longTask);
+
+        assertThat(bytes.length).isLessThan(200);
+        assertThat(binary.deserialize(bytes)).isEqualTo(longTask);
+    }
+}
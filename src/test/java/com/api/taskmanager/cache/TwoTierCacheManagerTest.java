@@ -0,0 +1,168 @@
+package com.api.taskmanager.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoTierCacheManagerTest {
+
+    private ConcurrentMapCacheManager redis;
+    private TwoTierCacheManager nodeA;
+    private TwoTierCacheManager nodeB;
+
+    @BeforeEach
+    void setup() {
+        redis = new ConcurrentMapCacheManager();
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        nodeA = new TwoTierCacheManager(redis, bus, Set.of("taskById"), 100, Duration.ofMinutes(1));
+        nodeB = new TwoTierCacheManager(redis, bus, Set.of("taskById"), 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromLocalTier() {
+        redis.getCache("taskById").put(1L, "task-1");
+        Cache cache = nodeA.getCache("taskById");
+
+        assertThat(cache.get(1L).get()).isEqualTo("task-1");
+        assertThat(cache.get(1L).get()).isEqualTo("task-1");
+
+        TwoTierCacheStats stats = nodeA.stats().get("taskById");
+        assertThat(stats.localHits()).isEqualTo(1);
+        assertThat(stats.localMisses()).isEqualTo(1);
+        assertThat(stats.remoteHits()).isEqualTo(1);
+        assertThat(stats.remoteMisses()).isZero();
+    }
+
+    @Test
+    void shouldInvalidateOtherNodesOnPut() {
+        nodeA.getCache("taskById").put(1L, "v1");
+        assertThat(nodeB.getCache("taskById").get(1L).get()).isEqualTo("v1");
+
+        nodeA.getCache("taskById").put(1L, "v2");
+
+        assertThat(nodeB.getCache("taskById").get(1L).get()).isEqualTo("v2");
+    }
+
+    @Test
+    void shouldInvalidateOtherNodesOnEvict() {
+        nodeA.getCache("taskById").put(1L, "v1");
+        nodeB.getCache("taskById").get(1L);
+
+        nodeA.getCache("taskById").evict(1L);
+
+        assertThat(nodeB.getCache("taskById").get(1L)).isNull();
+        assertThat(nodeB.stats().get("taskById").remoteMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropLocalEntriesEverywhereWhenRemoteEvictFails() {
+        AtomicBoolean remoteDown = new AtomicBoolean();
+        ConcurrentMapCacheManager flaky = new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    public void evict(Object key) {
+                        if (remoteDown.get()) {
+                            throw new IllegalStateException("remote down");
+                        }
+                        super.evict(key);
+                    }
+                };
+            }
+        };
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        TwoTierCacheManager writer = new TwoTierCacheManager(flaky, bus, Set.of("taskById"), 100, Duration.ofMinutes(1));
+        TwoTierCacheManager reader = new TwoTierCacheManager(flaky, bus, Set.of("taskById"), 100, Duration.ofMinutes(1));
+        writer.getCache("taskById").put(1L, "v1");
+        reader.getCache("taskById").get(1L);
+
+        remoteDown.set(true);
+        assertThatThrownBy(() -> writer.getCache("taskById").evict(1L)).isInstanceOf(IllegalStateException.class);
+        flaky.getCache("taskById").put(1L, "v2");
+
+        assertThat(writer.getCache("taskById").get(1L).get()).isEqualTo("v2");
+        assertThat(reader.getCache("taskById").get(1L).get()).isEqualTo("v2");
+        assertThat(writer.stats().get("taskById").remoteErrors()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPassThroughCachesWithoutNearTier() {
+        assertThat(nodeA.getCache("other")).isNotInstanceOf(TwoTierCache.class);
+    }
+
+    @Test
+    void shouldLoadConcurrentMissesForSameKeyOnce() throws Exception {
+        Cache cache = nodeA.getCache("taskById");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(pool.submit(() -> {
+                go.await();
+                return cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(100);
+                    return "task-1";
+                });
+            }));
+        }
+        go.countDown();
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("task-1");
+        }
+        pool.shutdown();
+
+        assertThat(loads).hasValue(1);
+        assertThat(redis.getCache("taskById").get(1L).get()).isEqualTo("task-1");
+    }
+
+    @Test
+    void shouldWaitForOtherNodeHoldingLoadLock() {
+        CacheLoadLock heldElsewhere = new CacheLoadLock() {
+            @Override
+            public String tryLock(String cacheName, String key) {
+                redis.getCache(cacheName).put(1L, "loaded-by-other-node");
+                return null;
+            }
+
+            @Override
+            public void unlock(String cacheName, String key, String token) {
+            }
+        };
+        TwoTierCacheManager node = new TwoTierCacheManager(redis, new InMemoryCacheInvalidationBus(),
+                Set.of("taskById"), 100, Duration.ofMinutes(1), heldElsewhere, Duration.ofSeconds(1));
+
+        String value = node.getCache("taskById").get(1L, () -> "loaded-here");
+
+        assertThat(value).isEqualTo("loaded-by-other-node");
+        assertThat(node.stats().get("taskById").loads()).isZero();
+    }
+
+    @Test
+    void shouldSpreadTtlAboveBase() {
+        JitteredTtlFunction ttl = new JitteredTtlFunction(Duration.ofHours(1), 0.1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(ttl.getTimeToLive(i, null)).isBetween(Duration.ofHours(1), Duration.ofMinutes(66));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.dto.BatchItemResultDTO;
+import com.api.taskmanager.dto.BatchResultDTO;
+import com.api.taskmanager.dto.BulkTransitionResultDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.service.TaskBatchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskBatchController.class)
+class TaskBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskBatchService batchService;
+
+    @Test
+    void shouldReportPerItemResultsForBatchCreate() throws Exception {
+        TaskResponseDTO created = new TaskResponseDTO(1L, "Task", "Description", Status.PENDING, LocalDate.now(), 0L);
+        when(batchService.createAll(anyList())).thenReturn(BatchResultDTO.of(List.of(
+                BatchItemResultDTO.ok(0, created),
+                BatchItemResultDTO.failed(1, null, "title: Title cannot be empty"))));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            [
+                              {"title": "Task", "description": "Description", "dueDate": "%s"},
+                              {"title": "", "description": "Description", "dueDate": "%s"}
+                            ]
+                            """.formatted(LocalDate.now(), LocalDate.now()))
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].error").value("title: Title cannot be empty"));
+    }
+
+    @Test
+    void shouldTransitionManyTasks() throws Exception {
+        when(batchService.transitionAll(eq(List.of(1L, 2L)), eq(Status.DONE)))
+                .thenReturn(BatchResultDTO.of(List.of()));
+
+        mockMvc.perform(post("/api/tasks/batch/done")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1, 2]}")
+                        .with(jwt()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRejectEmptyTransitionBatch() throws Exception {
+        mockMvc.perform(post("/api/tasks/batch/start")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}")
+                        .with(jwt()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldTransitionTasksMatchingFilter() throws Exception {
+        when(batchService.transitionMatching(new TaskFilterDTO(List.of(Status.PENDING), null, null, true, null), Status.CANCELED))
+                .thenReturn(new BulkTransitionResultDTO(Status.CANCELED, 1200));
+
+        mockMvc.perform(post("/api/tasks/batch/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"filter": {"status": ["PENDING"], "overdue": true}, "status": "CANCELED"}
+                            """)
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1200));
+    }
+
+    @Test
+    void shouldRejectBulkTransitionWithEmptyFilter() throws Exception {
+        mockMvc.perform(post("/api/tasks/batch/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {}, \"status\": \"CANCELED\"}")
+                        .with(jwt()))
+                .andExpect(status().isBadRequest());
+    }
+}
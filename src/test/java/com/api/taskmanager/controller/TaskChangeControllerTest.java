@@ -0,0 +1,49 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.exception.InvalidCursorException;
+import com.api.taskmanager.outbox.TaskChangeBroadcaster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskChangeController.class)
+class TaskChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskChangeBroadcaster broadcaster;
+
+    @Test
+    void shouldResumeFromLastEventId() throws Exception {
+        when(broadcaster.subscribe("1700000000000-0")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/tasks/changes")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "1700000000000-0")
+                        .with(jwt()))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() throws Exception {
+        when(broadcaster.subscribe("nope")).thenThrow(new InvalidCursorException("nope"));
+
+        mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", "nope")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(jwt()))
+                .andExpect(status().isBadRequest());
+    }
+}
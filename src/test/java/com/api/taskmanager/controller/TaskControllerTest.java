@@ -1,8 +1,12 @@
 package com.api.taskmanager.controller;
 
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
 import com.api.taskmanager.dto.TaskRequestDTO;
 import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.exception.PreconditionFailedException;
 import com.api.taskmanager.model.Status;
+import com.api.taskmanager.pagination.CursorOrder;
 import com.api.taskmanager.service.TaskService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +15,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
@@ -21,8 +26,14 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,7 +53,8 @@ public class TaskControllerTest {
                 "Task 1",
                 "Description task 1",
                 Status.IN_PROGRESS,
-                LocalDate.now().plusDays(1)
+                LocalDate.now().plusDays(1),
+                3L
         );
 
         Page<TaskResponseDTO> page = new PageImpl<>(List.of(task), PageRequest.of(0, 20), 1);
@@ -58,6 +70,47 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.content[0].status").value("IN_PROGRESS"));
     }
 
+    @Test
+    void shouldBindFilterParameters() throws Exception {
+        LocalDate from = LocalDate.now();
+        TaskFilterDTO expected = new TaskFilterDTO(List.of(Status.PENDING, Status.IN_PROGRESS),
+                from, null, null, "Rep");
+        when(taskService.findAll(eq(expected), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("status", "PENDING", "IN_PROGRESS")
+                        .param("dueFrom", from.toString())
+                        .param("titlePrefix", "Rep")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty());
+    }
+
+    @Test
+    void shouldListTasksByCursor() throws Exception {
+        TaskResponseDTO task = new TaskResponseDTO(
+                1L,
+                "Task 1",
+                "Description task 1",
+                Status.PENDING,
+                LocalDate.now().plusDays(1),
+                3L
+        );
+
+        when(taskService.findAll(any(TaskFilterDTO.class), eq(""), eq(20), eq(CursorOrder.DUE_DATE), eq(false)))
+                .thenReturn(new CursorPageDTO<>(List.of(task), "next", true, null));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("cursor", "")
+                        .param("orderBy", "DUE_DATE")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     void shouldGetTaskById() throws Exception {
         TaskResponseDTO task = new TaskResponseDTO(
@@ -65,7 +118,8 @@ public class TaskControllerTest {
                 "Task 1",
                 "Description task 1",
                 Status.IN_PROGRESS,
-                LocalDate.now().plusDays(1)
+                LocalDate.now().plusDays(1),
+                3L
         );
 
         when(taskService.findById(1L)).thenReturn(task);
@@ -91,7 +145,8 @@ public class TaskControllerTest {
                 requestDTO.title(),
                 requestDTO.description(),
                 Status.IN_PROGRESS,
-                requestDTO.dueDate()
+                requestDTO.dueDate(),
+                3L
         );
 
         when(taskService.create(any(TaskRequestDTO.class))).thenReturn(responseDTO);
@@ -130,10 +185,11 @@ public class TaskControllerTest {
                 requestDTO.title(),
                 requestDTO.description(),
                 Status.IN_PROGRESS,
-                requestDTO.dueDate()
+                requestDTO.dueDate(),
+                3L
         );
 
-        when(taskService.update(any(Long.class), any(TaskRequestDTO.class))).thenReturn(responseDTO);
+        when(taskService.update(any(Long.class), any(TaskRequestDTO.class), isNull())).thenReturn(responseDTO);
 
         String jsonRequest = """
             {
@@ -160,4 +216,104 @@ public class TaskControllerTest {
                         .with(jwt()))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void shouldAnswerNotModifiedWhenETagMatches() throws Exception {
+        TaskResponseDTO task = new TaskResponseDTO(1L, "Task 1", "Description task 1",
+                Status.PENDING, LocalDate.now().plusDays(1), 3L);
+        when(taskService.findById(1L)).thenReturn(task);
+
+        mockMvc.perform(get("/api/tasks/1")
+                        .header("If-None-Match", "\"3\"")
+                        .with(jwt()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    void shouldPassIfMatchVersionToTransition() throws Exception {
+        TaskResponseDTO task = new TaskResponseDTO(1L, "Task 1", "Description task 1",
+                Status.IN_PROGRESS, LocalDate.now().plusDays(1), 4L);
+        when(taskService.start(1L, 3L)).thenReturn(task);
+
+        mockMvc.perform(post("/api/tasks/1/start")
+                        .header("If-Match", "\"3\"")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void shouldUpdateStatusThroughGenericEndpoint() throws Exception {
+        TaskResponseDTO task = new TaskResponseDTO(1L, "Task 1", "Description task 1",
+                Status.CANCELED, LocalDate.now().plusDays(1), 4L);
+        when(taskService.updateStatus(1L, Status.CANCELED, 3L)).thenReturn(task);
+
+        mockMvc.perform(patch("/api/tasks/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"CANCELED\"}")
+                        .header("If-Match", "\"3\"")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELED"))
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void shouldRejectStatusUpdateWithoutStatus() throws Exception {
+        mockMvc.perform(patch("/api/tasks/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}")
+                        .with(jwt()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectStaleIfMatchOnDelete() throws Exception {
+        doThrow(new PreconditionFailedException(1L, 4L)).when(taskService).delete(1L, 3L);
+
+        mockMvc.perform(delete("/api/tasks/1")
+                        .header("If-Match", "\"3\"")
+                        .with(jwt()))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void shouldRejectWeakIfMatch() throws Exception {
+        mockMvc.perform(post("/api/tasks/1/start")
+                        .header("If-Match", "W/\"3\"")
+                        .with(jwt()))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(taskService, never()).start(any(), any());
+    }
+
+    @Test
+    void shouldMatchAnyTagInIfMatchList() throws Exception {
+        TaskResponseDTO current = new TaskResponseDTO(1L, "Task 1", "Description task 1",
+                Status.PENDING, LocalDate.now().plusDays(1), 3L);
+        TaskResponseDTO task = new TaskResponseDTO(1L, "Task 1", "Description task 1",
+                Status.IN_PROGRESS, LocalDate.now().plusDays(1), 4L);
+        when(taskService.findById(1L)).thenReturn(current);
+        when(taskService.start(1L, 3L)).thenReturn(task);
+
+        mockMvc.perform(post("/api/tasks/1/start")
+                        .header("If-Match", "\"2\", W/\"5\", \"3\"")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void shouldFailIfMatchListWithoutCurrentVersion() throws Exception {
+        TaskResponseDTO current = new TaskResponseDTO(1L, "Task 1", "Description task 1",
+                Status.PENDING, LocalDate.now().plusDays(1), 3L);
+        when(taskService.findById(1L)).thenReturn(current);
+        when(taskService.start(1L, 1L)).thenThrow(new PreconditionFailedException(1L, 3L));
+
+        mockMvc.perform(post("/api/tasks/1/start")
+                        .header("If-Match", "\"1\", \"2\"")
+                        .with(jwt()))
+                .andExpect(status().isPreconditionFailed());
+    }
 }
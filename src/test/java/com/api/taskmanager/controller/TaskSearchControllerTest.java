@@ -0,0 +1,53 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.dto.TaskSearchHitDTO;
+import com.api.taskmanager.exception.InvalidCursorException;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.service.TaskSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskSearchController.class)
+class TaskSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskSearchService service;
+
+    @Test
+    void shouldReturnRankedHighlightedHits() throws Exception {
+        TaskResponseDTO task = new TaskResponseDTO(1L, "Quarterly report", "Numbers", Status.PENDING, LocalDate.now(), 0L);
+        TaskSearchHitDTO hit = new TaskSearchHitDTO(task, 1.5, "Quarterly <mark>report</mark>", "Numbers");
+        when(service.search("report", null, 20)).thenReturn(new CursorPageDTO<>(List.of(hit), "next", true, null));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "report").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].task.id").value(1))
+                .andExpect(jsonPath("$.content[0].titleHighlight").value("Quarterly <mark>report</mark>"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() throws Exception {
+        when(service.search("report", "bad", 20)).thenThrow(new InvalidCursorException("bad"));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "report").param("cursor", "bad").with(jwt()))
+                .andExpect(status().isBadRequest());
+    }
+}
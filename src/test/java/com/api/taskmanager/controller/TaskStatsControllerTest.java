@@ -0,0 +1,41 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.dto.TaskStatsDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.service.TaskStatsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskStatsController.class)
+class TaskStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskStatsService service;
+
+    @Test
+    void shouldReturnStats() throws Exception {
+        when(service.stats()).thenReturn(new TaskStatsDTO(Map.of(Status.PENDING, 3L), 1L, 2L, 3L));
+
+        mockMvc.perform(get("/api/tasks/stats")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byStatus.PENDING").value(3))
+                .andExpect(jsonPath("$.overdue").value(1))
+                .andExpect(jsonPath("$.dueToday").value(2))
+                .andExpect(jsonPath("$.dueThisWeek").value(3));
+    }
+}
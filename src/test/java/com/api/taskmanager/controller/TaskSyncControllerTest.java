@@ -0,0 +1,52 @@
+package com.api.taskmanager.controller;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.dto.TaskSyncDTO;
+import com.api.taskmanager.exception.SyncTokenExpiredException;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.service.TaskSyncService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskSyncController.class)
+class TaskSyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskSyncService service;
+
+    @Test
+    void shouldReturnChangesAndDeletesSinceToken() throws Exception {
+        TaskResponseDTO task = new TaskResponseDTO(1L, "Task", "Description", Status.DONE, LocalDate.now(), 3L);
+        when(service.changesSince("abc", 500)).thenReturn(new TaskSyncDTO(List.of(task), List.of(2L), "def", false));
+
+        mockMvc.perform(get("/api/tasks/sync").param("since", "abc").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(1))
+                .andExpect(jsonPath("$.deleted[0]").value(2))
+                .andExpect(jsonPath("$.nextToken").value("def"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void shouldAskForFullSyncWhenTokenExpired() throws Exception {
+        when(service.changesSince("old", 500)).thenThrow(new SyncTokenExpiredException("old"));
+
+        mockMvc.perform(get("/api/tasks/sync").param("since", "old").with(jwt()))
+                .andExpect(status().isGone());
+    }
+}
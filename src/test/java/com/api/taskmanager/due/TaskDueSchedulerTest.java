@@ -0,0 +1,117 @@
+package com.api.taskmanager.due;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDueSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 3, 2);
+
+    @Mock
+    private TaskDueSweeper sweeper;
+
+    @Mock
+    private SweepLease lease;
+
+    private final MutableClock clock = new MutableClock();
+
+    private TaskDueScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        // Mockito answers 0 for a Long, which would read as "continue after id 0" forever
+        lenient().when(sweeper.sweepBatch(any(), any(), anyLong())).thenReturn(null);
+        scheduler = new TaskDueScheduler(sweeper, lease, Duration.ofHours(24), Duration.ofHours(1),
+                Duration.ofHours(24), clock);
+    }
+
+    @Test
+    void shouldCatchUpOnTakeoverAndNotRepeatOnNextTick() {
+        when(lease.tryAcquire()).thenReturn(true);
+        at(TODAY.atTime(9, 0).toInstant(ZoneOffset.UTC));
+
+        scheduler.tick();
+        scheduler.tick();
+
+        verify(sweeper).sweepBatch(DueKind.OVERDUE, TODAY.minusDays(1), 0);
+        verify(sweeper).sweepBatch(DueKind.DUE_SOON, TODAY, 0);
+        verifyNoMoreInteractions(sweeper);
+        assertThat(scheduler.queued()).isZero();
+    }
+
+    @Test
+    void shouldSweepEachDateWhenItEnds() {
+        when(lease.tryAcquire()).thenReturn(true);
+        at(TODAY.atTime(23, 30).toInstant(ZoneOffset.UTC));
+        scheduler.tick();
+        clearInvocations(sweeper);
+
+        // planned on the previous tick, fired once midnight has passed
+        at(TODAY.plusDays(1).atStartOfDay().plusSeconds(5).toInstant(ZoneOffset.UTC));
+        scheduler.tick();
+
+        verify(sweeper).sweepBatch(DueKind.OVERDUE, TODAY, 0);
+        verify(sweeper).sweepBatch(DueKind.DUE_SOON, TODAY.plusDays(1), 0);
+        verifyNoMoreInteractions(sweeper);
+    }
+
+    @Test
+    void shouldFollowBatchesUntilTheDateIsDone() {
+        when(lease.tryAcquire()).thenReturn(true);
+        at(TODAY.atTime(9, 0).toInstant(ZoneOffset.UTC));
+        when(sweeper.sweepBatch(DueKind.OVERDUE, TODAY.minusDays(1), 0)).thenReturn(42L);
+
+        scheduler.tick();
+
+        verify(sweeper).sweepBatch(DueKind.OVERDUE, TODAY.minusDays(1), 42);
+    }
+
+    @Test
+    void shouldNotSweepWithoutTheLease() {
+        when(lease.tryAcquire()).thenReturn(false);
+
+        scheduler.tick();
+
+        verify(sweeper, never()).sweepBatch(any(), any(), anyLong());
+    }
+
+    private void at(Instant instant) {
+        clock.now = instant;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.EPOCH;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
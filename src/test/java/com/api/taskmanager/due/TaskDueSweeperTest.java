@@ -0,0 +1,143 @@
+package com.api.taskmanager.due;
+
+import com.api.taskmanager.event.TasksTransitionedEvent;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.state.TaskBulkTransition;
+import com.api.taskmanager.state.TaskStateMachine;
+import com.api.taskmanager.tenant.TenantResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@RecordApplicationEvents
+@Import({TaskDueSweeper.class, TaskBulkTransition.class, TaskMapper.class, TaskStateMachine.class, TenantResolver.class, TaskDueSweeperTest.Beans.class})
+@TestPropertySource(properties = {"taskmanager.due.auto-transition=CANCELED", "taskmanager.due.batch-size=2"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskDueSweeperTest {
+
+    private static final LocalDate DUE = LocalDate.of(2030, 3, 1);
+
+    @Autowired
+    private TaskDueSweeper sweeper;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void cleanup() {
+        repository.deleteAll();
+        sink.received.clear();
+    }
+
+    @Test
+    void shouldNotifyOpenTasksDueOnDateInBatchesWithoutTransitioning() {
+        Task first = repository.save(task("acme", Status.PENDING, DUE));
+        Task second = repository.save(task("globex", Status.IN_PROGRESS, DUE));
+        Task third = repository.save(task("acme", Status.PENDING, DUE));
+        repository.save(task("acme", Status.DONE, DUE));
+        repository.save(task("acme", Status.PENDING, DUE.plusDays(1)));
+
+        Long afterId = sweeper.sweepBatch(DueKind.DUE_SOON, DUE, 0);
+        Long done = sweeper.sweepBatch(DueKind.DUE_SOON, DUE, afterId);
+
+        assertThat(afterId).isEqualTo(second.getId());
+        assertThat(done).isNull();
+        assertThat(sink.received).extracting(TaskDueNotification::taskId)
+                .containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(sink.received).extracting(TaskDueNotification::tenantId).containsExactly("acme", "globex", "acme");
+        assertThat(repository.findStatusById(first.getId()).orElseThrow().status()).isEqualTo(Status.PENDING);
+    }
+
+    @Test
+    void shouldCancelOverdueTasksAndPublishTransitionsForTheirTenant() {
+        Task pending = repository.save(task("acme", Status.PENDING, DUE));
+        cacheManager.getCache("taskById").put(TenantResolver.cacheKey("acme", pending.getId()), "stale");
+
+        sweeper.sweepBatch(DueKind.OVERDUE, DUE, 0);
+
+        assertThat(repository.findStatusById(pending.getId()).orElseThrow().status()).isEqualTo(Status.CANCELED);
+        assertThat(sink.received).singleElement().satisfies(notification -> {
+            assertThat(notification.kind()).isEqualTo(DueKind.OVERDUE);
+            assertThat(notification.status()).isEqualTo(Status.CANCELED);
+        });
+        assertThat(events.stream(TasksTransitionedEvent.class)).singleElement().satisfies(event -> {
+            assertThat(event.target()).isEqualTo(Status.CANCELED);
+            assertThat(event.tasks()).singleElement().satisfies(task -> {
+                assertThat(task.tenantId()).isEqualTo("acme");
+                assertThat(event.after(task).version()).isEqualTo(task.before().version() + 1);
+            });
+        });
+        assertThat(cacheManager.getCache("taskById").get(TenantResolver.cacheKey("acme", pending.getId()))).isNull();
+    }
+
+    private static Task task(String tenant, Status status, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTenantId(tenant);
+        task.setTitle("Renew contract");
+        task.setDescription("Before it lapses");
+        task.setDueDate(dueDate);
+        task.setStatus(status);
+        return task;
+    }
+
+    static class RecordingSink implements TaskDueSink {
+
+        private final List<TaskDueNotification> received = new ArrayList<>();
+
+        @Override
+        public void publish(List<TaskDueNotification> notifications) {
+            received.addAll(notifications);
+        }
+    }
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("taskById");
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
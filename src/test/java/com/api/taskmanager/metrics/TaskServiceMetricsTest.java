@@ -0,0 +1,62 @@
+package com.api.taskmanager.metrics;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.exception.InvalidTaskStateException;
+import com.api.taskmanager.exception.TaskNotFoundException;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.service.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskServiceMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private TaskService target;
+    private TaskService service;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        target = mock(TaskService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new TaskServiceMetrics(registry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void shouldTimeSuccessfulOperation() {
+        when(target.findById(1L)).thenReturn(new TaskResponseDTO(1L, "Task", "Description",
+                Status.PENDING, LocalDate.now(), 0L));
+
+        service.findById(1L);
+
+        assertThat(registry.get(TaskServiceMetrics.OPERATION_TIMER)
+                .tags("operation", "findById", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTagOutcomeOfFailedOperations() {
+        when(target.findById(9L)).thenThrow(new TaskNotFoundException(9L));
+        when(target.done(1L)).thenThrow(new InvalidTaskStateException("Task cannot be done with status: PENDING"));
+
+        assertThatThrownBy(() -> service.findById(9L)).isInstanceOf(TaskNotFoundException.class);
+        assertThatThrownBy(() -> service.done(1L)).isInstanceOf(InvalidTaskStateException.class);
+
+        assertThat(registry.get(TaskServiceMetrics.OPERATION_TIMER)
+                .tags("operation", "findById", "outcome", "not_found")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get(TaskServiceMetrics.OPERATION_TIMER)
+                .tags("operation", "done", "outcome", "invalid_state", "exception", "InvalidTaskStateException")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.api.taskmanager.metrics;
+
+import com.api.taskmanager.cache.InMemoryCacheInvalidationBus;
+import com.api.taskmanager.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheMetricsTest {
+
+    @Test
+    void shouldExposeHitsMissesAndEvictionsPerTier() {
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(new ConcurrentMapCacheManager(),
+                new InMemoryCacheInvalidationBus(), Set.of("taskById"), 100, Duration.ofMinutes(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new TwoTierCacheMetrics(cacheManager).bindTo(registry);
+
+        Cache cache = cacheManager.getCache("taskById");
+        cache.get(1L);
+        cache.put(1L, "task");
+        cache.get(1L);
+        cache.evict(1L);
+
+        assertThat(count(registry, "local", "hit")).isEqualTo(1);
+        assertThat(count(registry, "local", "miss")).isEqualTo(1);
+        assertThat(count(registry, "remote", "miss")).isEqualTo(1);
+        assertThat(registry.get("cache.evictions").tags("cache", "taskById", "cause", "explicit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    private double count(SimpleMeterRegistry registry, String tier, String result) {
+        return registry.get("cache.gets")
+                .tags("cache", "taskById", "tier", tier, "result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,45 @@
+package com.api.taskmanager.outbox;
+
+import com.api.taskmanager.dto.TaskChangeDTO;
+import com.api.taskmanager.event.ChangeType;
+import com.api.taskmanager.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryTaskChangeSinkTest {
+
+    private final InMemoryTaskChangeSink sink = new InMemoryTaskChangeSink(3);
+
+    @Test
+    void shouldReadChangesAfterCursor() {
+        sink.publish(List.of(change(1L), change(2L), change(3L)));
+
+        List<TaskChangeDTO> changes = sink.read("1", 10);
+
+        assertThat(changes).extracting(TaskChangeDTO::eventId).containsExactly(2L, 3L);
+        assertThat(changes).extracting(TaskChangeDTO::cursor).containsExactly("2", "3");
+        assertThat(sink.head()).isEqualTo("3");
+    }
+
+    @Test
+    void shouldDropOldestChangesBeyondCapacity() {
+        sink.publish(List.of(change(1L), change(2L), change(3L), change(4L)));
+
+        assertThat(sink.read(null, 10)).extracting(TaskChangeDTO::eventId).containsExactly(2L, 3L, 4L);
+        assertThat(sink.read(null, 2)).extracting(TaskChangeDTO::eventId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> sink.read("abc", 10)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    private TaskChangeDTO change(Long eventId) {
+        return new TaskChangeDTO(null, eventId, ChangeType.UPDATED, 7L, null, Instant.now(), "acme");
+    }
+}
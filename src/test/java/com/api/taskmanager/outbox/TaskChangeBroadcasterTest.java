@@ -0,0 +1,60 @@
+package com.api.taskmanager.outbox;
+
+import com.api.taskmanager.service.TaskChangeService;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskChangeBroadcasterTest {
+
+    @Mock
+    private TaskChangeService service;
+
+    @Mock
+    private TenantResolver tenants;
+
+    private final CountDownLatch stuck = new CountDownLatch(1);
+    private TaskChangeBroadcaster broadcaster;
+
+    @AfterEach
+    void cleanup() {
+        stuck.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void shouldPollWithoutWaitingOnSlowSubscriber() {
+        broadcaster = new TaskChangeBroadcaster(service, tenants, Duration.ofMinutes(1), 10, 1);
+        when(service.head()).thenReturn("0-0");
+        when(service.changesSince(eq("0-0"), anyInt())).thenReturn(List.of()).thenAnswer(invocation -> {
+            stuck.await(10, TimeUnit.SECONDS);
+            return List.of();
+        });
+        broadcaster.subscribe(null);
+
+        // the second poll finds the subscriber still busy with the first and skips it
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            broadcaster.poll();
+            broadcaster.poll();
+        });
+
+        verify(service, after(300).times(2)).changesSince(eq("0-0"), anyInt());
+    }
+}
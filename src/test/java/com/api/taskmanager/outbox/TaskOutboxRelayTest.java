@@ -0,0 +1,42 @@
+package com.api.taskmanager.outbox;
+
+import com.api.taskmanager.due.SweepLease;
+import com.api.taskmanager.service.TaskChangeService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskOutboxRelayTest {
+
+    @Mock
+    private TaskChangeService service;
+
+    @Mock
+    private SweepLease lease;
+
+    @Test
+    void shouldDrainFullBatchesOnLeaseHolder() {
+        when(lease.tryAcquire()).thenReturn(true);
+        when(service.relay(2)).thenReturn(2, 2, 1);
+
+        new TaskOutboxRelay(service, lease, 2, 5).relay();
+
+        verify(service, times(3)).relay(2);
+    }
+
+    @Test
+    void shouldLeaveOutboxToLeaseHolder() {
+        when(lease.tryAcquire()).thenReturn(false);
+
+        new TaskOutboxRelay(service, lease, 2, 5).relay();
+
+        verifyNoInteractions(service);
+    }
+}
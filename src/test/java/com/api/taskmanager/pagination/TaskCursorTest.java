@@ -0,0 +1,32 @@
+package com.api.taskmanager.pagination;
+
+import com.api.taskmanager.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskCursorTest {
+
+    @Test
+    void shouldRoundTripIdCursor() {
+        TaskCursor cursor = new TaskCursor(CursorOrder.ID, null, 42L);
+
+        assertThat(TaskCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRoundTripDueDateCursor() {
+        TaskCursor cursor = new TaskCursor(CursorOrder.DUE_DATE, LocalDate.of(2030, 1, 15), 7L);
+
+        assertThat(TaskCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        assertThatThrownBy(() -> TaskCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.api.taskmanager.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final InMemoryRateLimiter limiter = new InMemoryRateLimiter(Map.of(
+            RateLimitTier.READ, new RateLimit(10, Duration.ofSeconds(10)),
+            RateLimitTier.WRITE, new RateLimit(10, Duration.ofSeconds(10)),
+            RateLimitTier.BULK, new RateLimit(2, Duration.ofMinutes(1))
+    ), 1000, nanos::get);
+
+    @Test
+    void shouldAllowBurstUpToCapacityThenReject() {
+        for (int i = 0; i < 10; i++) {
+            RateLimitDecision decision = limiter.tryAcquire("alice", RateLimitTier.READ);
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(9 - i);
+        }
+
+        RateLimitDecision rejected = limiter.tryAcquire("alice", RateLimitTier.READ);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldRefillOneTokenPerInterval() {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("alice", RateLimitTier.READ);
+        }
+
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertThat(limiter.tryAcquire("alice", RateLimitTier.READ).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("alice", RateLimitTier.READ).allowed()).isFalse();
+    }
+
+    @Test
+    void shouldKeepClientsAndTiersApart() {
+        limiter.tryAcquire("alice", RateLimitTier.BULK);
+        limiter.tryAcquire("alice", RateLimitTier.BULK);
+
+        assertThat(limiter.tryAcquire("alice", RateLimitTier.BULK).allowed()).isFalse();
+        assertThat(limiter.tryAcquire("alice", RateLimitTier.WRITE).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("bob", RateLimitTier.BULK).allowed()).isTrue();
+    }
+
+    @Test
+    void shouldNeverGrantMoreThanCapacityUnderContention() throws Exception {
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(pool.submit(() -> {
+                go.await();
+                int granted = 0;
+                for (int j = 0; j < 10; j++) {
+                    if (limiter.tryAcquire("alice", RateLimitTier.WRITE).allowed()) {
+                        granted++;
+                    }
+                }
+                return granted;
+            }));
+        }
+        go.countDown();
+
+        int granted = 0;
+        for (Future<Integer> result : results) {
+            granted += result.get();
+        }
+        pool.shutdown();
+
+        assertThat(granted).isEqualTo(10);
+    }
+}
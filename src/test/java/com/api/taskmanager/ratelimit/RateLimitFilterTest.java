@@ -0,0 +1,77 @@
+package com.api.taskmanager.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(new InMemoryRateLimiter(Map.of(
+            RateLimitTier.READ, new RateLimit(100, Duration.ofMinutes(1)),
+            RateLimitTier.WRITE, new RateLimit(100, Duration.ofMinutes(1)),
+            RateLimitTier.BULK, new RateLimit(1, Duration.ofMinutes(1))
+    ), 1000), new ObjectMapper(), registry);
+
+    @BeforeEach
+    void authenticate() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("alice").build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAdvertiseRemainingBudget() throws Exception {
+        MockHttpServletResponse response = perform("GET", "/api/tasks/1");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("100");
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("99");
+        assertThat(response.getHeader("RateLimit-Policy")).isEqualTo("100;w=60");
+    }
+
+    @Test
+    void shouldRejectBulkCallsPastTheirOwnLimit() throws Exception {
+        perform("POST", "/api/tasks/batch");
+
+        MockHttpServletResponse response = perform("POST", "/api/tasks/batch");
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(response.getContentAsString()).contains("Too Many Requests");
+        assertThat(registry.get("ratelimit.rejected").tag("tier", "bulk").counter().count()).isEqualTo(1);
+        assertThat(perform("POST", "/api/tasks").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldLeaveAnonymousRequestsToAuthorization() throws Exception {
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletResponse response = perform("GET", "/actuator/health");
+
+        assertThat(response.getHeader("RateLimit-Limit")).isNull();
+    }
+
+    private MockHttpServletResponse perform(String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain());
+        return response;
+    }
+}
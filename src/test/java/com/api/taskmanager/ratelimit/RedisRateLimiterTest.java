@@ -0,0 +1,61 @@
+package com.api.taskmanager.ratelimit;
+
+import com.api.taskmanager.cache.CacheCircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisRateLimiterTest {
+
+    private final Map<RateLimitTier, RateLimit> limits = Map.of(
+            RateLimitTier.READ, new RateLimit(1, Duration.ofMinutes(1)),
+            RateLimitTier.WRITE, new RateLimit(1, Duration.ofMinutes(1)),
+            RateLimitTier.BULK, new RateLimit(1, Duration.ofMinutes(1)));
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final CacheCircuitBreaker breaker = new CacheCircuitBreaker(2, Duration.ofSeconds(30));
+    private final RedisRateLimiter limiter =
+            new RedisRateLimiter(redis, breaker, limits, new InMemoryRateLimiter(limits, 100), "rl:");
+
+    @Test
+    void shouldMapScriptResult() {
+        when(redis.execute(any(), anyList(), any(Object[].class))).thenReturn(List.of(0L, 60_000_000L, 30_000_000L));
+
+        RateLimitDecision decision = limiter.tryAcquire("alice", RateLimitTier.READ);
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfter()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(decision.remaining()).isZero();
+    }
+
+    @Test
+    void shouldFallBackToLocalBucketWhenRedisIsDown() {
+        when(redis.execute(any(), anyList(), any(Object[].class))).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(limiter.tryAcquire("alice", RateLimitTier.READ).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("alice", RateLimitTier.READ).allowed()).isFalse();
+    }
+
+    @Test
+    void shouldSkipRedisWhileBreakerIsOpen() {
+        when(redis.execute(any(), anyList(), any(Object[].class))).thenThrow(new RedisConnectionFailureException("down"));
+
+        limiter.tryAcquire("alice", RateLimitTier.READ);
+        limiter.tryAcquire("bob", RateLimitTier.READ);
+        limiter.tryAcquire("carol", RateLimitTier.READ);
+
+        assertThat(breaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        verify(redis, times(2)).execute(any(), anyList(), any(Object[].class));
+    }
+}
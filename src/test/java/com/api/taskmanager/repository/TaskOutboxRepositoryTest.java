@@ -0,0 +1,94 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.ChangeType;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.event.TasksTransitionedEvent;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.TaskOutboxEvent;
+import com.api.taskmanager.outbox.TaskOutboxWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import({TaskOutboxWriter.class, TenantResolver.class, TaskOutboxRepositoryTest.Json.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskOutboxRepositoryTest {
+
+    @Autowired
+    private TaskOutboxRepository repository;
+
+    @Autowired
+    private TaskOutboxWriter writer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldWriteChangeOnlyWhenTransactionCommits() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        TaskResponseDTO task = new TaskResponseDTO(7L, "Task", "Description", Status.PENDING, LocalDate.now(), 0L);
+
+        tx.executeWithoutResult(status -> {
+            writer.onTaskChanged(TaskChangedEvent.created(task));
+            status.setRollbackOnly();
+        });
+        tx.executeWithoutResult(status -> writer.onTaskChanged(TaskChangedEvent.deleted(task)));
+
+        List<TaskOutboxEvent> pending = tx.execute(status -> repository.findAllByOrderByIdAsc(Limit.of(10)));
+        assertThat(pending).singleElement().satisfies(event -> {
+            assertThat(event.getType()).isEqualTo(ChangeType.DELETED);
+            assertThat(event.getTaskId()).isEqualTo(7L);
+            assertThat(event.getPayload()).contains("\"title\":\"Task\"");
+        });
+    }
+
+    @Test
+    void shouldWriteOneRowPerTaskOfTransitionedChunk() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        TaskResponseDTO first = new TaskResponseDTO(1L, "First", "Description", Status.PENDING, LocalDate.now(), 0L);
+        TaskResponseDTO second = new TaskResponseDTO(2L, "Second", "Description", Status.IN_PROGRESS, LocalDate.now(), 3L);
+
+        tx.executeWithoutResult(status -> writer.onTasksTransitioned(new TasksTransitionedEvent(Status.CANCELED, List.of(
+                new TasksTransitionedEvent.Transitioned("acme", first),
+                new TasksTransitionedEvent.Transitioned("globex", second)))));
+
+        List<TaskOutboxEvent> pending = tx.execute(status -> repository.findAllByOrderByIdAsc(Limit.of(10)));
+        assertThat(pending).extracting(TaskOutboxEvent::getTaskId, TaskOutboxEvent::getTenantId, TaskOutboxEvent::getType)
+                .containsExactly(tuple(1L, "acme", ChangeType.TRANSITIONED), tuple(2L, "globex", ChangeType.TRANSITIONED));
+        assertThat(pending.get(1).getPayload()).contains("\"status\":\"CANCELED\"", "\"version\":4");
+    }
+
+    @TestConfiguration
+    static class Json {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().registerModule(new JavaTimeModule());
+        }
+    }
+}
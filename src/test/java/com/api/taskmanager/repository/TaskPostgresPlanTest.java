@@ -0,0 +1,131 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.tenant.TenantResolver;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The H2 plans in TaskRepositoryTest only show an index is picked. These run against a real Postgres with
+// enough rows for the planner to weigh the indexes, and only when one is given:
+// mvn test -Dtest=TaskPostgresPlanTest -Dtaskmanager.test.postgres.url=jdbc:postgresql://localhost:5432/tasks
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "taskmanager.test.postgres.url", matches = ".+")
+@Import(TenantResolver.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskPostgresPlanTest {
+
+    private static final int ROWS = 200_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("taskmanager.test.postgres.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("taskmanager.test.postgres.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("taskmanager.test.postgres.password", "postgres"));
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    // ten tenants, 'acme' holds a tenth of the rows, statuses and due dates spread evenly over a year
+    @BeforeAll
+    void seed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("""
+                    INSERT INTO tasks (id, tenant_id, title, due_date, status, version, change_seq)
+                    SELECT g, CASE WHEN g % 10 = 0 THEN 'acme' ELSE 'tenant-' || g % 10 END, 'Task ' || g,
+                           DATE '2030-01-01' + g % 365,
+                           (ARRAY['PENDING', 'IN_PROGRESS', 'DONE', 'CANCELED'])[g % 4 + 1], 0, g
+                    FROM generate_series(1, :rows) AS g
+                    """).setParameter("rows", ROWS).executeUpdate();
+            entityManager.createNativeQuery("ANALYZE tasks").executeUpdate();
+        });
+    }
+
+    @AfterAll
+    void cleanup() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.createNativeQuery("DELETE FROM tasks").executeUpdate());
+    }
+
+    @Test
+    void shouldWalkKeysetPagesInIndexOrder() {
+        String plan = explain("""
+                SELECT id FROM tasks
+                WHERE tenant_id = 'acme' AND due_date >= DATE '2030-06-01' AND (due_date > DATE '2030-06-01' OR id > 50)
+                ORDER BY due_date, id LIMIT 20
+                """);
+
+        assertThat(plan).contains("idx_tasks_tenant_due_date_id").doesNotContain("Sort");
+    }
+
+    @Test
+    void shouldPlanStatusAndDueDateFilterOnCompositeIndex() {
+        String plan = explain("""
+                SELECT id FROM tasks
+                WHERE tenant_id = 'acme' AND status IN ('PENDING', 'IN_PROGRESS')
+                  AND due_date BETWEEN DATE '2030-03-01' AND DATE '2030-03-31'
+                """);
+
+        assertThat(plan).contains("idx_tasks_tenant_status_due_date_id");
+    }
+
+    @Test
+    void shouldPlanDeltaSyncOnChangeSeqIndex() {
+        String plan = explain("""
+                SELECT id FROM tasks WHERE tenant_id = 'acme' AND change_seq > 199000 ORDER BY change_seq LIMIT 100
+                """);
+
+        assertThat(plan).contains("idx_tasks_tenant_change_seq").doesNotContain("Sort");
+    }
+
+    @Test
+    void shouldPlanCrossTenantSweepOnStatusIndex() {
+        String plan = explain("""
+                SELECT id FROM tasks WHERE status = 'PENDING' AND due_date < DATE '2030-01-05'
+                ORDER BY due_date, id LIMIT 500
+                """);
+
+        assertThat(plan).contains("idx_tasks_status_due_date_id");
+    }
+
+    @Test
+    void shouldPlanDueSweepOnDueDateIndexWithoutSort() {
+        String plan = explain("""
+                SELECT id FROM tasks
+                WHERE status IN ('PENDING', 'IN_PROGRESS') AND due_date = DATE '2030-03-01' AND id > 0
+                ORDER BY id LIMIT 500
+                """);
+
+        assertThat(plan).contains("idx_tasks_due_date_id").doesNotContain("Sort");
+    }
+
+    @SuppressWarnings("unchecked")
+    private String explain(String sql) {
+        List<Object> lines = entityManager.createNativeQuery("EXPLAIN " + sql).getResultList();
+        return lines.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+    }
+}
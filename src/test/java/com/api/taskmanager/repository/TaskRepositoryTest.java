@@ -0,0 +1,266 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.pagination.CursorOrder;
+import com.api.taskmanager.pagination.TaskCursor;
+import com.api.taskmanager.state.TaskStateMachine;
+import jakarta.persistence.EntityManager;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TenantResolver.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskRepositoryTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final TaskStateMachine state = new TaskStateMachine();
+
+    @AfterEach
+    void cleanup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldLetExactlyOneConcurrentTransitionWin() throws Exception {
+        Long id = repository.save(pendingTask()).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(pool.submit(() -> {
+                ready.countDown();
+                go.await();
+                return tx.execute(status -> repository.transition(id, Status.IN_PROGRESS, state.sourcesOf(Status.IN_PROGRESS), null));
+            }));
+        }
+        ready.await();
+        go.countDown();
+
+        int winners = 0;
+        for (Future<Integer> result : results) {
+            winners += result.get();
+        }
+        pool.shutdown();
+
+        assertThat(winners).isEqualTo(1);
+        assertThat(repository.findStatusById(id)).contains(new TaskStatusView(Status.IN_PROGRESS, 1L));
+    }
+
+    @Test
+    void shouldNotUpdateWhenSourceStatusDoesNotMatch() {
+        Long id = repository.save(pendingTask()).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Integer updated = tx.execute(status -> repository.transition(id, Status.DONE, state.sourcesOf(Status.DONE), null));
+
+        assertThat(updated).isZero();
+        assertThat(repository.findStatusById(id)).contains(new TaskStatusView(Status.PENDING, 0L));
+    }
+
+    @Test
+    void shouldSeekPastDueDateCursor() {
+        Task first = repository.save(pendingTask());
+        Task second = pendingTask();
+        second.setDueDate(first.getDueDate().plusDays(1));
+        repository.save(second);
+        Task third = repository.save(pendingTask());
+
+        List<Task> page = repository.findPageAfterDueDate(first.getDueDate(), first.getId(), Limit.of(10));
+
+        assertThat(page).extracting(Task::getId).containsExactly(third.getId(), second.getId());
+    }
+
+    @Test
+    void shouldNotUpdateWhenVersionIsStale() {
+        Long id = repository.save(pendingTask()).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Integer updated = tx.execute(status ->
+                repository.transition(id, Status.IN_PROGRESS, state.sourcesOf(Status.IN_PROGRESS), 7L));
+
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    void shouldFilterWithSpecification() {
+        Task overdue = pendingTask();
+        overdue.setTitle("Report Q3");
+        overdue.setDueDate(LocalDate.now().minusDays(2));
+        repository.save(overdue);
+        Task done = pendingTask();
+        done.setTitle("Report Q2");
+        done.setDueDate(LocalDate.now().minusDays(2));
+        done.setStatus(Status.DONE);
+        repository.save(done);
+        repository.save(pendingTask());
+
+        TaskFilterDTO filter = new TaskFilterDTO(null, null, null, true, "Report");
+        List<Task> result = repository.findAll(TaskSpecifications.matching(filter, LocalDate.now()));
+
+        assertThat(result).extracting(Task::getTitle).containsExactly("Report Q3");
+    }
+
+    @Test
+    void shouldSeekFilteredRowsPastCursor() {
+        Task first = repository.save(pendingTask());
+        Task second = repository.save(pendingTask());
+        Task third = repository.save(pendingTask());
+
+        TaskFilterDTO filter = new TaskFilterDTO(List.of(Status.PENDING), null, null, null, null);
+        Specification<Task> spec = TaskSpecifications.matching(filter, LocalDate.now())
+                .and(TaskSpecifications.after(new TaskCursor(CursorOrder.ID, null, first.getId())));
+        List<Task> page = repository.findBy(spec, query -> query.sortBy(Sort.by("id")).limit(1).all());
+
+        assertThat(page).extracting(Task::getId).containsExactly(second.getId());
+        assertThat(third.getId()).isGreaterThan(second.getId());
+    }
+
+    @Test
+    void shouldPlanStatusAndDueDateQueriesOnCompositeIndex() {
+        for (int i = 0; i < 200; i++) {
+            Task task = pendingTask();
+            task.setStatus(Status.values()[i % Status.values().length]);
+            task.setDueDate(LocalDate.now().plusDays(i % 30));
+            repository.save(task);
+        }
+
+        String plan = (String) entityManager.createNativeQuery("""
+                EXPLAIN SELECT id FROM tasks
+                WHERE tenant_id = 'acme' AND status IN ('PENDING', 'IN_PROGRESS') AND due_date < DATE '2100-01-01'
+                ORDER BY due_date, id
+                """).getSingleResult();
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_TENANT_STATUS_DUE_DATE_ID");
+    }
+
+    @Test
+    void shouldStartKeysetSeekAtCursorDueDate() {
+        String plan = (String) entityManager.createNativeQuery("""
+                EXPLAIN SELECT id FROM tasks
+                WHERE tenant_id = 'acme' AND due_date >= DATE '2030-06-01' AND (due_date > DATE '2030-06-01' OR id > 50)
+                ORDER BY due_date, id
+                """).getSingleResult();
+
+        // the date bound is part of the index condition, not only a filter on the rows the index returns
+        assertThat(plan).containsIgnoringWhitespaces(
+                "IDX_TASKS_TENANT_DUE_DATE_ID: TENANT_ID = 'acme' AND DUE_DATE >= DATE '2030-06-01' */");
+    }
+
+    @Test
+    void shouldFindOpenTaskIdsDueSoonForWarmUp() {
+        Task soon = repository.save(pendingTask());
+        Task done = pendingTask();
+        done.setStatus(Status.DONE);
+        repository.save(done);
+        Task later = pendingTask();
+        later.setDueDate(LocalDate.now().plusDays(30));
+        repository.save(later);
+
+        List<Long> ids = repository.findIdsDueBetween(Status.open(), LocalDate.now(), LocalDate.now().plusDays(7), Limit.of(10));
+
+        assertThat(ids).containsExactly(soon.getId());
+        assertThat(repository.findLatestIds(Limit.of(1))).containsExactly(later.getId());
+    }
+
+    @Test
+    void shouldBumpChangeSeqOnInsertUpdateAndTransition() {
+        Task task = repository.save(pendingTask());
+        Long inserted = task.getChangeSeq();
+
+        task.setTitle("Renamed");
+        Long updated = repository.save(task).getChangeSeq();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.execute(status -> repository.transition(task.getId(), Status.IN_PROGRESS, state.sourcesOf(Status.IN_PROGRESS), null));
+        Task moved = repository.findById(task.getId()).orElseThrow();
+        Long transitioned = moved.getChangeSeq();
+        assertThat(moved.getPreviousStatus()).isEqualTo(Status.PENDING);
+        assertThat(moved.getStatus()).isEqualTo(Status.IN_PROGRESS);
+
+        assertThat(inserted).isNotNull();
+        assertThat(updated).isGreaterThan(inserted);
+        assertThat(transitioned).isGreaterThan(updated);
+        assertThat(repository.findChangedBetween(inserted, Long.MAX_VALUE, Limit.of(10))).extracting(Task::getId).containsExactly(task.getId());
+        assertThat(repository.findChangedBetween(transitioned, Long.MAX_VALUE, Limit.of(10))).isEmpty();
+    }
+
+    @Test
+    void shouldPlanDeltaSyncOnChangeSeqIndex() {
+        for (int i = 0; i < 200; i++) {
+            repository.save(pendingTask());
+        }
+
+        String plan = (String) entityManager.createNativeQuery(
+                "EXPLAIN SELECT id FROM tasks WHERE tenant_id = 'acme' AND change_seq > 150 ORDER BY change_seq").getSingleResult();
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_TENANT_CHANGE_SEQ");
+    }
+
+    @Test
+    void shouldMoveLockedChunkOfMatchingTasksInOneUpdate() {
+        for (int i = 0; i < 3; i++) {
+            Task overdue = pendingTask();
+            overdue.setDueDate(LocalDate.now().minusDays(1));
+            repository.save(overdue);
+        }
+        Long upcoming = repository.save(pendingTask()).getId();
+        Specification<Task> spec = TaskSpecifications.matching(new TaskFilterDTO(null, null, null, true, null), LocalDate.now())
+                .and(TaskSpecifications.inStatus(state.sourcesOf(Status.CANCELED)));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Integer moved = tx.execute(status -> {
+            List<Task> chunk = repository.findChunkForUpdate(spec, 0, 2);
+            return repository.transitionAll(chunk.stream().map(Task::getId).toList(), Status.CANCELED,
+                    state.sourcesOf(Status.CANCELED));
+        });
+
+        assertThat(moved).isEqualTo(2);
+        assertThat(repository.findAll(TaskSpecifications.inStatus(List.of(Status.CANCELED)))).hasSize(2);
+        assertThat(repository.findStatusById(upcoming)).contains(new TaskStatusView(Status.PENDING, 0L));
+    }
+
+    private Task pendingTask() {
+        Task task = new Task();
+        task.setTitle("Concurrent");
+        task.setDescription("Hammered from many threads");
+        task.setDueDate(LocalDate.now().plusDays(1));
+        task.setStatus(Status.PENDING);
+        return task;
+    }
+}
@@ -0,0 +1,162 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.config.JpaConfig;
+import com.api.taskmanager.export.ExportFormat;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.service.impl.TaskExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JpaConfig.class, TenantResolver.class, TaskSecondLevelCacheTest.Sql.class})
+@TestPropertySource(properties = "taskmanager.jpa.l2.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskSecondLevelCacheTest {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldUpdateWithoutSelectingTheTaskAgain() {
+        Long id = repository.save(pendingTask()).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        statistics.clear();
+        STATEMENTS.clear();
+
+        tx.executeWithoutResult(status -> {
+            Task task = repository.findById(id).orElseThrow();
+            task.setTitle("Renamed");
+        });
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // only the UPDATE, never a SELECT of the row itself; change_seq is drawn before the statement runs
+        assertThat(STATEMENTS).singleElement().asString().startsWith("update tasks");
+    }
+
+    @Test
+    void shouldDeleteWithoutSelectingTheTaskAgain() {
+        Long id = repository.save(pendingTask()).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        statistics.clear();
+        STATEMENTS.clear();
+
+        tx.executeWithoutResult(status -> repository.delete(repository.findById(id).orElseThrow()));
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(STATEMENTS).singleElement().asString().startsWith("delete from tasks");
+    }
+
+    @Test
+    void shouldRunEveryListingAgainstTheDatabase() {
+        repository.save(pendingTask());
+        repository.save(pendingTask());
+        statistics.clear();
+        STATEMENTS.clear();
+
+        repository.findAllByOrderByIdAsc(Limit.of(10));
+        repository.findAllByOrderByIdAsc(Limit.of(10));
+
+        // no query cache: its invalidation is node-local, another node's write would not reach it
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(STATEMENTS).hasSize(2);
+    }
+
+    @Test
+    void shouldExportWithoutFillingSecondLevelCache() {
+        repository.save(pendingTask());
+        repository.save(pendingTask());
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        TaskExportServiceImpl export = new TaskExportServiceImpl(repository, new TaskMapper(), entityManager, new ObjectMapper());
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        Long exported = tx.execute(status -> {
+            try {
+                return export.export(ExportFormat.CSV, OutputStream.nullOutputStream());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        assertThat(exported).isEqualTo(2);
+        assertThat(statistics.getSecondLevelCachePutCount()).isZero();
+    }
+
+    private Task pendingTask() {
+        Task task = new Task();
+        task.setTitle("Cached");
+        task.setDescription("Read once");
+        task.setDueDate(LocalDate.now().plusDays(1));
+        task.setStatus(Status.PENDING);
+        return task;
+    }
+
+    @TestConfiguration
+    static class Sql {
+
+        @Bean
+        HibernatePropertiesCustomizer statementRecorder() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                STATEMENTS.add(sql);
+                return sql;
+            });
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.api.taskmanager.repository;
+
+import com.api.taskmanager.config.JpaConfig;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.state.TaskStateMachine;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({JpaConfig.class, TenantResolver.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskTenancyTest {
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final TaskStateMachine state = new TaskStateMachine();
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldStampAndScopeTasksByTenantClaim() {
+        actAs("alice", "acme");
+        Task task = repository.save(pendingTask());
+        assertThat(task.getTenantId()).isEqualTo("acme");
+
+        actAs("bob", "acme");
+        assertThat(repository.findById(task.getId())).isPresent();
+
+        actAs("carol", "globex");
+        assertThat(repository.findById(task.getId())).isEmpty();
+        assertThat(repository.findAll(PageRequest.of(0, 10))).isEmpty();
+        assertThat(repository.findAllByOrderByIdAsc(Limit.of(10))).isEmpty();
+        assertThat(repository.countByStatus()).isEmpty();
+    }
+
+    @Test
+    void shouldFallBackToSubjectWithoutTenantClaim() {
+        actAs("alice", null);
+        Task task = repository.save(pendingTask());
+
+        assertThat(task.getTenantId()).isEqualTo("alice");
+        actAs("bob", null);
+        assertThat(repository.findById(task.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldNotTransitionAnotherTenantsTask() {
+        actAs("alice", "acme");
+        Long id = repository.save(pendingTask()).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        actAs("carol", "globex");
+        Integer updated = tx.execute(status -> repository.transition(id, Status.IN_PROGRESS, state.sourcesOf(Status.IN_PROGRESS), null));
+
+        assertThat(updated).isZero();
+        actAs("alice", "acme");
+        assertThat(repository.findStatusById(id)).contains(new TaskStatusView(Status.PENDING, 0L));
+    }
+
+    @Test
+    void shouldLetRootSeeEveryTenant() {
+        actAs("alice", "acme");
+        repository.save(pendingTask());
+        actAs("carol", "globex");
+        repository.save(pendingTask());
+
+        SecurityContextHolder.clearContext();
+
+        assertThat(repository.findAllByOrderByIdAsc(Limit.of(10))).extracting(Task::getTenantId)
+                .containsExactly("acme", "globex");
+    }
+
+    @Test
+    void shouldGroupCountsByTenantForRoot() {
+        actAs("alice", "acme");
+        repository.save(pendingTask());
+        repository.save(pendingTask());
+        actAs("carol", "globex");
+        repository.save(pendingTask());
+
+        SecurityContextHolder.clearContext();
+
+        assertThat(repository.countByTenantAndStatus()).containsExactlyInAnyOrder(
+                new TenantStatusCount("acme", Status.PENDING, 2L), new TenantStatusCount("globex", Status.PENDING, 1L));
+        assertThat(repository.countByTenantAndDueDate(Status.open())).extracting(TenantDueDateCount::tenantId)
+                .containsExactlyInAnyOrder("acme", "globex");
+    }
+
+    @Test
+    void shouldNotTreatStarOrBlankClaimAsRoot() {
+        actAs("alice", "acme");
+        repository.save(pendingTask());
+
+        actAs("mallory", "*");
+        assertThatThrownBy(() -> repository.findAllByOrderByIdAsc(Limit.of(10)))
+                .isInstanceOf(InvalidBearerTokenException.class);
+        actAs("mallory", " ");
+        assertThatThrownBy(() -> repository.findAllByOrderByIdAsc(Limit.of(10)))
+                .isInstanceOf(InvalidBearerTokenException.class);
+        actAs("*", null);
+        assertThatThrownBy(() -> repository.findAllByOrderByIdAsc(Limit.of(10)))
+                .isInstanceOf(InvalidBearerTokenException.class);
+    }
+
+    private static void actAs(String subject, String tenant) {
+        Jwt.Builder jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject(subject);
+        if (tenant != null) {
+            jwt.claim("tenant", tenant);
+        }
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt.build()));
+    }
+
+    private Task pendingTask() {
+        Task task = new Task();
+        task.setTitle("Tenant task");
+        task.setDescription("Visible to its tenant only");
+        task.setDueDate(LocalDate.now().plusDays(1));
+        task.setStatus(Status.PENDING);
+        return task;
+    }
+}
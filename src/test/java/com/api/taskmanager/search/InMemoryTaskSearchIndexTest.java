@@ -0,0 +1,78 @@
+package com.api.taskmanager.search;
+
+import com.api.taskmanager.pagination.SearchCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTaskSearchIndexTest {
+
+    private InMemoryTaskSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new InMemoryTaskSearchIndex();
+        index.index("acme", 1L, "Quarterly report", "Collect the numbers for the board");
+        index.index("acme", 2L, "Board meeting", "Present the quarterly report to the board");
+        index.index("acme", 3L, "Groceries", "Milk and bread");
+        index.index("globex", 4L, "Quarterly report", "Their report, not ours");
+    }
+
+    @Test
+    void shouldRankTitleMatchesAboveDescriptionMatches() {
+        List<TaskSearchHit> hits = index.search("acme", "quarterly REPORT", null, 10);
+
+        assertThat(hits).extracting(TaskSearchHit::id).containsExactly(1L, 2L);
+        assertThat(hits.get(0).rank()).isGreaterThan(hits.get(1).rank());
+    }
+
+    @Test
+    void shouldRequireEveryTermAndStayInsideTenant() {
+        assertThat(index.search("acme", "report milk", null, 10)).isEmpty();
+        assertThat(index.search("globex", "report", null, 10)).extracting(TaskSearchHit::id).containsExactly(4L);
+        assertThat(index.search(null, "report", null, 10)).hasSize(3);
+    }
+
+    @Test
+    void shouldPageByKeyset() {
+        List<TaskSearchHit> first = index.search(null, "report", null, 2);
+        List<TaskSearchHit> second = index.search(null, "report", SearchCursor.after(first.get(1)), 2);
+
+        assertThat(first).hasSize(2);
+        assertThat(second).extracting(TaskSearchHit::id)
+                .hasSize(1)
+                .doesNotContainAnyElementsOf(first.stream().map(TaskSearchHit::id).toList());
+    }
+
+    @Test
+    void shouldHighlightMatchedWords() {
+        TaskSearchHit hit = index.search("acme", "board", null, 10).get(0);
+
+        assertThat(hit.titleHighlight()).isEqualTo("<mark>Board</mark> meeting");
+        assertThat(hit.descriptionHighlight()).isEqualTo("Present the quarterly report to the <mark>board</mark>");
+    }
+
+    @Test
+    void shouldEscapeMarkupAroundHighlights() {
+        index.index("acme", 5L, "<b>Launch</b> & review", "<script>alert('launch')</script>");
+
+        TaskSearchHit hit = index.search("acme", "launch", null, 10).get(0);
+
+        assertThat(hit.titleHighlight()).isEqualTo("&lt;b&gt;<mark>Launch</mark>&lt;/b&gt; &amp; review");
+        assertThat(hit.descriptionHighlight())
+                .isEqualTo("&lt;script&gt;alert(&#39;<mark>launch</mark>&#39;)&lt;/script&gt;");
+    }
+
+    @Test
+    void shouldReindexUpdatesAndDropRemovedTasks() {
+        index.index(null, 3L, "Groceries", "Milk, eggs and bread");
+        index.remove(1L);
+
+        assertThat(index.search("acme", "eggs", null, 10)).extracting(TaskSearchHit::id).containsExactly(3L);
+        assertThat(index.search("acme", "collect", null, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,85 @@
+package com.api.taskmanager.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingJwtDecoderTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void shouldVerifyRepeatedTokenOnce() {
+        CachingJwtDecoder decoder = decoder(expiringIn(Duration.ofHours(1)), Duration.ofMinutes(5));
+
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+        decoder.decode("token-b");
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void shouldNotKeepTokenPastItsExpiry() {
+        CachingJwtDecoder decoder = decoder(expiringIn(Duration.ofSeconds(30)), Duration.ofMinutes(5));
+
+        decoder.decode("token-a");
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        decoder.decode("token-a");
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void shouldNotKeepTokenPastMaxTtl() {
+        CachingJwtDecoder decoder = decoder(expiringIn(Duration.ofHours(1)), Duration.ofMinutes(5));
+
+        decoder.decode("token-a");
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        decoder.decode("token-a");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        decoder.decode("token-a");
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheRejectedTokens() {
+        CachingJwtDecoder decoder = decoder(token -> {
+            verifications.incrementAndGet();
+            throw new BadJwtException("bad signature");
+        }, Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        assertThat(verifications).hasValue(2);
+    }
+
+    private CachingJwtDecoder decoder(JwtDecoder delegate, Duration maxTtl) {
+        return new CachingJwtDecoder(delegate, 100, maxTtl, nanos::get);
+    }
+
+    private JwtDecoder expiringIn(Duration lifetime) {
+        return token -> {
+            verifications.incrementAndGet();
+            Instant now = Instant.now();
+            return Jwt.withTokenValue(token)
+                    .header("alg", "RS256")
+                    .subject("alice")
+                    .issuedAt(now)
+                    .expiresAt(now.plus(lifetime))
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,175 @@
+package com.api.taskmanager.security;
+
+import com.api.taskmanager.tenant.TenantResolver;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalJwtDecoderTest {
+
+    private static final String ISSUER = "https://issuer.test";
+
+    @TempDir
+    private Path dir;
+
+    private Path jwks;
+    private RSAKey key;
+    private RefreshingJwkSource source;
+    private JwtDecoder decoder;
+
+    @BeforeEach
+    void setup() throws Exception {
+        key = new RSAKeyGenerator(2048).keyID("k1").generate();
+        jwks = dir.resolve("jwks.json");
+        publish(key);
+        source = new RefreshingJwkSource("file:" + jwks, Duration.ofHours(1), Duration.ZERO);
+        decoder = SecurityConfig.localDecoder(source, ISSUER, Set.of("RS256"), new TenantResolver("tenant").tokenValidator());
+    }
+
+    @AfterEach
+    void close() {
+        source.close();
+    }
+
+    @Test
+    void shouldValidateTokenSignedByLocalKey() throws Exception {
+        source.refresh();
+
+        assertThat(decoder.decode(sign(key, ISSUER, Instant.now().plusSeconds(60))).getSubject()).isEqualTo("alice");
+    }
+
+    @Test
+    void shouldRejectForeignSignatureWrongIssuerAndExpiredToken() throws Exception {
+        source.refresh();
+        RSAKey foreign = new RSAKeyGenerator(2048).keyID("k1").generate();
+
+        assertThatThrownBy(() -> decoder.decode(sign(foreign, ISSUER, Instant.now().plusSeconds(60))))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(sign(key, "https://other.test", Instant.now().plusSeconds(60))))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(sign(key, ISSUER, Instant.now().minusSeconds(600))))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void shouldLoadKeysLazilyAndPickUpRotatedKey() throws Exception {
+        // never refreshed: the first unknown key id triggers the load instead of startup
+        assertThat(decoder.decode(sign(key, ISSUER, Instant.now().plusSeconds(60))).getSubject()).isEqualTo("alice");
+
+        RSAKey rotated = new RSAKeyGenerator(2048).keyID("k2").generate();
+        publish(rotated);
+
+        // once keys are loaded an unknown key id only starts the reload, the request itself is not held up
+        assertThatThrownBy(() -> decoder.decode(sign(rotated, ISSUER, Instant.now().plusSeconds(60))))
+                .isInstanceOf(JwtException.class);
+        awaitKey("k2");
+        assertThat(decoder.decode(sign(rotated, ISSUER, Instant.now().plusSeconds(60))).getSubject()).isEqualTo("alice");
+        assertThat(source.keys().getKeyByKeyId("k1")).isNull();
+    }
+
+    @Test
+    void shouldNotReloadForUnknownKeysWithinMinInterval() throws Exception {
+        source.close();
+        source = new RefreshingJwkSource("file:" + jwks, Duration.ofHours(1), Duration.ofHours(1));
+        decoder = SecurityConfig.localDecoder(source, ISSUER, Set.of("RS256"), new TenantResolver("tenant").tokenValidator());
+        decoder.decode(sign(key, ISSUER, Instant.now().plusSeconds(60)));
+        publish(new RSAKeyGenerator(2048).keyID("k2").generate());
+        RSAKey unknown = new RSAKeyGenerator(2048).keyID("k9").generate();
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> decoder.decode(sign(unknown, ISSUER, Instant.now().plusSeconds(60))))
+                    .isInstanceOf(JwtException.class);
+        }
+
+        // the first load was moments ago, so none of the misses reached the JWKS file again
+        assertThat(source.keys().getKeyByKeyId("k1")).isNotNull();
+    }
+
+    @Test
+    void shouldKeepLastKnownKeysWhenRefreshFails() throws Exception {
+        source.refresh();
+        Files.writeString(jwks, "not json");
+        RSAKey unknown = new RSAKeyGenerator(2048).keyID("k9").generate();
+
+        assertThatThrownBy(() -> decoder.decode(sign(unknown, ISSUER, Instant.now().plusSeconds(60))))
+                .isInstanceOf(JwtException.class);
+        assertThat(decoder.decode(sign(key, ISSUER, Instant.now().plusSeconds(60))).getSubject()).isEqualTo("alice");
+        assertThat(source.keys().getKeys()).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectTokenWithoutIssuer() throws Exception {
+        source.refresh();
+
+        assertThatThrownBy(() -> decoder.decode(sign(key, null, Instant.now().plusSeconds(60))))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> SecurityConfig.localDecoder(source, " ", Set.of("RS256"),
+                new TenantResolver("tenant").tokenValidator()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectTokenNamingRootOrBlankTenant() throws Exception {
+        source.refresh();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        assertThat(decoder.decode(sign(key, ISSUER, expiresAt, "acme")).getClaimAsString("tenant")).isEqualTo("acme");
+        assertThatThrownBy(() -> decoder.decode(sign(key, ISSUER, expiresAt, "*"))).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(sign(key, ISSUER, expiresAt, " "))).isInstanceOf(JwtException.class);
+    }
+
+    private void awaitKey(String keyId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (source.keys().getKeyByKeyId(keyId) == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void publish(RSAKey... keys) throws IOException {
+        List<JWK> published = Arrays.stream(keys).<JWK>map(RSAKey::toPublicJWK).toList();
+        Files.writeString(jwks, new JWKSet(published).toString());
+    }
+
+    private static String sign(RSAKey key, String issuer, Instant expiresAt) throws JOSEException {
+        return sign(key, issuer, expiresAt, null);
+    }
+
+    private static String sign(RSAKey key, String issuer, Instant expiresAt, String tenant) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("alice")
+                .claim("tenant", tenant)
+                .issuer(issuer)
+                .issueTime(Date.from(Instant.now().minusSeconds(1200)))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
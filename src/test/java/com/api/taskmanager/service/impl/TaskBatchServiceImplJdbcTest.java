@@ -0,0 +1,136 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.config.JpaConfig;
+import com.api.taskmanager.dto.BatchItemResultDTO;
+import com.api.taskmanager.dto.BatchResultDTO;
+import com.api.taskmanager.dto.TaskPatchItemDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.state.TaskBulkTransition;
+import com.api.taskmanager.state.TaskStateMachine;
+import com.api.taskmanager.tenant.TenantResolver;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JpaConfig.class, TenantResolver.class, TaskBatchServiceImpl.class, TaskBulkTransition.class,
+        TaskStateMachine.class, TaskMapper.class, TaskBatchServiceImplJdbcTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskBatchServiceImplJdbcTest {
+
+    private static final int TASKS = 120;
+
+    @Autowired
+    private TaskBatchServiceImpl service;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldSendCreatesAsBatchedInserts() {
+        statistics.clear();
+
+        BatchResultDTO result = service.createAll(IntStream.range(0, TASKS)
+                .mapToObj(i -> new TaskRequestDTO("Task " + i, "Description", LocalDate.now().plusDays(1)))
+                .toList());
+
+        assertThat(result.succeeded()).isEqualTo(TASKS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TASKS);
+        // batch size 50: three INSERT batches plus the id sequence, a statement per row would be over 120
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(repository.findAll()).extracting(Task::getChangeSeq).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldSendUpdatesAsBatchedUpdates() {
+        List<Long> ids = service.createAll(IntStream.range(0, TASKS)
+                        .mapToObj(i -> new TaskRequestDTO("Task " + i, "Description", LocalDate.now().plusDays(1)))
+                        .toList())
+                .items().stream().map(BatchItemResultDTO::id).toList();
+        statistics.clear();
+
+        BatchResultDTO result = service.updateAll(ids.stream()
+                .map(id -> new TaskPatchItemDTO(id, new TaskRequestDTO("Renamed " + id, "Description", LocalDate.now().plusDays(2))))
+                .toList());
+
+        assertThat(result.succeeded()).isEqualTo(TASKS);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(TASKS);
+        // the SELECT of the tasks and three UPDATE batches
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(repository.findAll()).extracting(Task::getChangeSeq).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldTransitionWithOneGuardedUpdateAndReportRowsThatCannotMove() {
+        List<Long> ids = service.createAll(IntStream.range(0, 3)
+                        .mapToObj(i -> new TaskRequestDTO("Task " + i, "Description", LocalDate.now().plusDays(1)))
+                        .toList())
+                .items().stream().map(BatchItemResultDTO::id).toList();
+        service.transitionAll(List.of(ids.get(2)), Status.CANCELED);
+        statistics.clear();
+
+        BatchResultDTO result = service.transitionAll(List.of(ids.get(0), ids.get(1), ids.get(2), 999_999L),
+                Status.IN_PROGRESS);
+
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.items()).extracting(BatchItemResultDTO::error)
+                .containsExactly(null, null, "Task cannot be started with status: CANCELED", "Task not found with id: 999999");
+        assertThat(result.items().get(0).task().version()).isEqualTo(1);
+        // the locked SELECT and one UPDATE, no UPDATE per row
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(repository.findAllById(ids)).extracting(Task::getStatus)
+                .containsExactlyInAnyOrder(Status.IN_PROGRESS, Status.IN_PROGRESS, Status.CANCELED);
+    }
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("taskById");
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.BatchResultDTO;
+import com.api.taskmanager.dto.BulkTransitionResultDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
+import com.api.taskmanager.dto.TaskPatchItemDTO;
+import com.api.taskmanager.dto.TaskRequestDTO;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.event.TasksTransitionedEvent;
+import com.api.taskmanager.exception.BatchTooLargeException;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.state.TaskBulkTransition;
+import com.api.taskmanager.state.TaskStateMachine;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceImplTest {
+
+    @Mock
+    private TaskRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private TaskBatchServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        cacheManager = new ConcurrentMapCacheManager("taskById");
+        TaskMapper mapper = new TaskMapper();
+        service = new TaskBatchServiceImpl(repository, new TaskStateMachine(),
+                new TaskBulkTransition(repository, mapper, events, cacheManager), mapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), cacheManager, events, transactionManager);
+    }
+
+    @Test
+    void shouldCreateValidItemsAndReportInvalidOnes() {
+        AtomicLong ids = new AtomicLong();
+        when(repository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Task> tasks = invocation.getArgument(0);
+            return StreamSupport.stream(tasks.spliterator(), false)
+                    .peek(task -> task.setId(ids.incrementAndGet()))
+                    .toList();
+        });
+
+        BatchResultDTO result = service.createAll(List.of(
+                new TaskRequestDTO("First", "Description", LocalDate.now()),
+                new TaskRequestDTO("", "Description", LocalDate.now()),
+                new TaskRequestDTO("Third", "Description", LocalDate.now().plusDays(1))
+        ));
+
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.items().get(0).task().status()).isEqualTo(Status.PENDING);
+        assertThat(result.items().get(1).success()).isFalse();
+        assertThat(result.items().get(1).error()).contains("Title cannot be empty");
+        assertThat(result.items().get(2).id()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldUpdateFoundTasksAndReportMissingOnes() {
+        Task existing = task(1L, Status.PENDING);
+        existing.setTenantId("acme");
+        when(repository.findAllById(any())).thenReturn(List.of(existing));
+
+        BatchResultDTO result = service.updateAll(List.of(
+                new TaskPatchItemDTO(1L, new TaskRequestDTO("New title", "New description", LocalDate.now())),
+                new TaskPatchItemDTO(99L, new TaskRequestDTO("Other", "Other", LocalDate.now()))
+        ));
+
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(existing.getTitle()).isEqualTo("New title");
+        assertThat(result.items().get(1).error()).contains("99");
+        assertThat(cacheManager.getCache("taskById").get("acme:1")).isNotNull();
+    }
+
+    @Test
+    void shouldApplyStateMachineRulesPerItem() {
+        when(repository.findAllByIdForUpdate(any())).thenReturn(List.of(task(1L, Status.PENDING), task(2L, Status.DONE)));
+        cacheManager.getCache("taskById").put("acme:1", "stale");
+
+        BatchResultDTO result = service.transitionAll(List.of(1L, 2L, 1L), Status.IN_PROGRESS);
+
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.items().get(0).task().status()).isEqualTo(Status.IN_PROGRESS);
+        assertThat(result.items().get(0).task().version()).isEqualTo(1);
+        assertThat(result.items().get(1).error()).isEqualTo("Task cannot be started with status: DONE");
+        assertThat(result.items().get(2).task()).isEqualTo(result.items().get(0).task());
+        verify(repository).transitionAll(List.of(1L), Status.IN_PROGRESS, EnumSet.of(Status.PENDING));
+        verify(repository, never()).saveAll(anyIterable());
+        verify(events).publishEvent(any(TasksTransitionedEvent.class));
+        assertThat(cacheManager.getCache("taskById").get("acme:1")).isNull();
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        List<Long> ids = Collections.nCopies(TaskBatchServiceImpl.MAX_BATCH_SIZE + 1, 1L);
+
+        assertThatThrownBy(() -> service.transitionAll(ids, Status.DONE))
+                .isInstanceOf(BatchTooLargeException.class);
+    }
+
+    @Test
+    void shouldMoveMatchingTasksChunkByChunk() {
+        List<Task> full = LongStream.rangeClosed(1, TaskBatchServiceImpl.BULK_CHUNK_SIZE)
+                .mapToObj(id -> task(id, Status.PENDING))
+                .toList();
+        when(repository.findChunkForUpdate(any(), eq(0L), eq(TaskBatchServiceImpl.BULK_CHUNK_SIZE))).thenReturn(full);
+        when(repository.findChunkForUpdate(any(), eq((long) TaskBatchServiceImpl.BULK_CHUNK_SIZE), anyInt()))
+                .thenReturn(List.of(task(900L, Status.IN_PROGRESS)));
+        cacheManager.getCache("taskById").put("acme:900", "stale");
+
+        BulkTransitionResultDTO result = service.transitionMatching(
+                new TaskFilterDTO(null, null, null, true, null), Status.CANCELED);
+
+        assertThat(result.affected()).isEqualTo(TaskBatchServiceImpl.BULK_CHUNK_SIZE + 1);
+        verify(repository, times(2)).transitionAll(anyList(), eq(Status.CANCELED),
+                eq(EnumSet.of(Status.PENDING, Status.IN_PROGRESS)));
+        verify(events, times(2)).publishEvent(any(TasksTransitionedEvent.class));
+        verify(events, never()).publishEvent(any(TaskChangedEvent.class));
+        assertThat(cacheManager.getCache("taskById").get("acme:900")).isNull();
+    }
+
+    @Test
+    void shouldNotTouchRowsWhenFilterExcludesEverySource() {
+        BulkTransitionResultDTO result = service.transitionMatching(
+                new TaskFilterDTO(List.of(Status.DONE), null, null, null, null), Status.CANCELED);
+
+        assertThat(result.affected()).isZero();
+        verifyNoInteractions(transactionManager);
+        verify(repository, never()).findChunkForUpdate(any(), anyLong(), anyInt());
+    }
+
+    private Task task(Long id, Status status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Description");
+        task.setDueDate(LocalDate.now().plusDays(1));
+        task.setStatus(status);
+        task.setVersion(0L);
+        task.setTenantId("acme");
+        return task;
+    }
+}
@@ -0,0 +1,81 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.TaskChangeDTO;
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.ChangeType;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.TaskOutboxEvent;
+import com.api.taskmanager.outbox.InMemoryTaskChangeSink;
+import com.api.taskmanager.outbox.TaskChangeSink;
+import com.api.taskmanager.repository.TaskOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskChangeServiceImplTest {
+
+    @Mock
+    private TaskOutboxRepository repository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final InMemoryTaskChangeSink sink = new InMemoryTaskChangeSink(100);
+    private TaskChangeServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new TaskChangeServiceImpl(repository, sink, objectMapper);
+    }
+
+    @Test
+    void shouldPublishBatchInOrderAndDeleteIt() throws Exception {
+        TaskResponseDTO task = new TaskResponseDTO(7L, "Task", "Description", Status.DONE, LocalDate.now(), 2L);
+        List<TaskOutboxEvent> batch = List.of(outbox(1L, task), outbox(2L, task));
+        when(repository.findAllByOrderByIdAsc(Limit.of(10))).thenReturn(batch);
+
+        int relayed = service.relay(10);
+
+        assertThat(relayed).isEqualTo(2);
+        verify(repository).deleteAllInBatch(batch);
+        List<TaskChangeDTO> changes = service.changesSince(null, 10);
+        assertThat(changes).extracting(TaskChangeDTO::eventId).containsExactly(1L, 2L);
+        assertThat(changes.get(0).task()).isEqualTo(task);
+        assertThat(service.head()).isEqualTo(changes.get(1).cursor());
+    }
+
+    @Test
+    void shouldKeepBatchWhenSinkFails() throws Exception {
+        TaskChangeSink failing = mock(TaskChangeSink.class);
+        doThrow(new IllegalStateException("sink down")).when(failing).publish(any());
+        TaskResponseDTO task = new TaskResponseDTO(7L, "Task", "Description", Status.DONE, LocalDate.now(), 2L);
+        when(repository.findAllByOrderByIdAsc(Limit.of(10))).thenReturn(List.of(outbox(1L, task)));
+
+        assertThatThrownBy(() -> new TaskChangeServiceImpl(repository, failing, objectMapper).relay(10))
+                .isInstanceOf(IllegalStateException.class);
+        verify(repository, never()).deleteAllInBatch(any());
+    }
+
+    private TaskOutboxEvent outbox(Long id, TaskResponseDTO task) throws Exception {
+        TaskOutboxEvent event = new TaskOutboxEvent();
+        event.setId(id);
+        event.setTaskId(task.id());
+        event.setType(ChangeType.TRANSITIONED);
+        event.setPayload(objectMapper.writeValueAsString(task));
+        event.setCreatedAt(Instant.now());
+        return event;
+    }
+}
@@ -0,0 +1,85 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.export.ExportFormat;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({TaskExportServiceImpl.class, TaskMapper.class, TenantResolver.class, JacksonAutoConfiguration.class})
+class TaskExportServiceImplTest {
+
+    @Autowired
+    private TaskExportServiceImpl service;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @BeforeEach
+    void setup() {
+        repository.save(task("Plain", "No separators"));
+        repository.save(task("Quarterly, report", "Says \"hello\""));
+    }
+
+    @Test
+    void shouldWriteOneJsonDocumentPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.export(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"title\":\"Plain\"").contains("\"dueDate\":\"2030-01-01\"");
+    }
+
+    @Test
+    void shouldWriteEscapedCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).isEqualTo("id,title,description,status,dueDate,version");
+        assertThat(lines[2]).contains("\"Quarterly, report\",\"Says \"\"hello\"\"\",PENDING,2030-01-01,0");
+    }
+
+    @Test
+    void shouldPropagateClientDisconnect() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> service.export(ExportFormat.CSV, broken))
+                .isInstanceOf(IOException.class);
+    }
+
+    private Task task(String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setDueDate(LocalDate.of(2030, 1, 1));
+        task.setStatus(Status.PENDING);
+        return task;
+    }
+}
@@ -0,0 +1,76 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskSearchHitDTO;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.search.InMemoryTaskSearchIndex;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchServiceImplTest {
+
+    @Mock
+    private TaskRepository repository;
+
+    private InMemoryTaskSearchIndex index;
+    private TaskSearchServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        index = new InMemoryTaskSearchIndex();
+        service = new TaskSearchServiceImpl(index, repository, new TaskMapper(), new TenantResolver("tenant"));
+    }
+
+    @Test
+    void shouldPageRankedHitsAndSkipRowsTheRepositoryDoesNotReturn() {
+        index.index("acme", 1L, "Report", "Quarterly report");
+        index.index("acme", 2L, "Report", null);
+        index.index("acme", 3L, "Draft", "Report draft");
+        // task 2 was deleted after it was indexed
+        when(repository.findAllById(any())).thenReturn(List.of(task(1L)), List.of(task(3L)));
+
+        CursorPageDTO<TaskSearchHitDTO> first = service.search("report", null, 2);
+        CursorPageDTO<TaskSearchHitDTO> second = service.search("report", first.nextCursor(), 2);
+
+        assertThat(first.content()).extracting(hit -> hit.task().id()).containsExactly(1L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.content()).extracting(hit -> hit.task().id()).containsExactly(3L);
+        assertThat(second.content().get(0).descriptionHighlight()).isEqualTo("<mark>Report</mark> draft");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldReturnEmptyPageForBlankQuery() {
+        CursorPageDTO<TaskSearchHitDTO> page = service.search("  ", null, 20);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Report");
+        task.setDueDate(LocalDate.now());
+        task.setStatus(Status.PENDING);
+        task.setVersion(0L);
+        return task;
+    }
+}
@@ -1,29 +1,49 @@
 package com.api.taskmanager.service.impl;
 
+import com.api.taskmanager.cache.TaskPageCache;
+import com.api.taskmanager.dto.CursorPageDTO;
+import com.api.taskmanager.dto.TaskFilterDTO;
 import com.api.taskmanager.dto.TaskRequestDTO;
 import com.api.taskmanager.dto.TaskResponseDTO;
 import com.api.taskmanager.dto.TaskStatusUpdateDTO;
+import com.api.taskmanager.event.ChangeType;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.exception.InvalidCursorException;
+import com.api.taskmanager.exception.InvalidTaskStateException;
+import com.api.taskmanager.exception.PreconditionFailedException;
 import com.api.taskmanager.exception.TaskNotFoundException;
+import com.api.taskmanager.mapper.TaskMapper;
 import com.api.taskmanager.model.Status;
 import com.api.taskmanager.model.Task;
+import com.api.taskmanager.pagination.CursorOrder;
+import com.api.taskmanager.pagination.TaskCursor;
 import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.repository.TaskStatusView;
+import com.api.taskmanager.state.TaskStateMachine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +52,18 @@ public class TaskServiceImplTest {
     @Mock
     private TaskRepository repository;
 
+    @Spy
+    private TaskMapper mapper = new TaskMapper();
+
+    @Spy
+    private TaskStateMachine state = new TaskStateMachine();
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Spy
+    private TaskPageCache pageCache = TaskPageCache.disabled();
+
     @InjectMocks
     private TaskServiceImpl service;
 
@@ -160,8 +192,141 @@ public class TaskServiceImplTest {
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessageContaining("99");
 
-        verify(repository, never()).delete(any());
+        verify(repository, never()).delete(any(Task.class));
+    }
+
+    @Test
+    void shouldReturnFirstCursorPageWithoutCount() {
+        Task second = new Task();
+        second.setId(2L);
+        second.setDueDate(LocalDate.now().plusDays(3));
+        when(repository.findAllByOrderByIdAsc(Limit.of(2))).thenReturn(List.of(task, second));
+
+        CursorPageDTO<TaskResponseDTO> result = service.findAll(TaskFilterDTO.none(), null, 1, CursorOrder.ID, false);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(TaskCursor.decode(result.nextCursor()).id()).isEqualTo(1L);
+        assertThat(result.totalElements()).isNull();
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void shouldSeekAfterCursorByDueDate() {
+        TaskCursor cursor = new TaskCursor(CursorOrder.DUE_DATE, LocalDate.now(), 5L);
+        when(repository.findPageAfterDueDate(cursor.dueDate(), 5L, Limit.of(11))).thenReturn(List.of(task));
+        when(repository.count()).thenReturn(6L);
+
+        CursorPageDTO<TaskResponseDTO> result = service.findAll(TaskFilterDTO.none(), cursor.encode(), 10, CursorOrder.DUE_DATE, true);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.totalElements()).isEqualTo(6L);
+    }
+
+    @Test
+    void shouldRejectCursorFromAnotherOrdering() {
+        String cursor = new TaskCursor(CursorOrder.ID, null, 5L).encode();
+
+        assertThatThrownBy(() -> service.findAll(TaskFilterDTO.none(), cursor, 10, CursorOrder.DUE_DATE, false))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void shouldStartTaskWithGuardedUpdate() {
+        task.setStatus(Status.IN_PROGRESS);
+        when(repository.transition(1L, Status.IN_PROGRESS, Set.of(Status.PENDING), null)).thenReturn(1);
+        when(repository.findById(1L)).thenReturn(Optional.of(task));
+
+        TaskResponseDTO result = service.start(1L);
+
+        assertThat(result.status()).isEqualTo(Status.IN_PROGRESS);
+        verify(repository, never()).save(any());
+        verify(repository, never()).findStatusById(any());
+    }
+
+    @Test
+    void shouldPublishPreviousStatusFromSingleGuardedUpdate() {
+        task.setStatus(Status.CANCELED);
+        task.setPreviousStatus(Status.IN_PROGRESS);
+        task.setVersion(4L);
+        when(repository.transition(1L, Status.CANCELED, Set.of(Status.PENDING, Status.IN_PROGRESS), null)).thenReturn(1);
+        when(repository.findById(1L)).thenReturn(Optional.of(task));
+
+        service.cancel(1L);
+
+        verify(repository).transition(any(), any(), any(), any());
+
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(events).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(ChangeType.TRANSITIONED);
+        assertThat(event.getValue().before().status()).isEqualTo(Status.IN_PROGRESS);
+        assertThat(event.getValue().after().status()).isEqualTo(Status.CANCELED);
+    }
+
+    @Test
+    void shouldReportInvalidStateWhenGuardRejectsTransition() {
+        when(repository.transition(1L, Status.DONE, Set.of(Status.IN_PROGRESS), null)).thenReturn(0);
+        when(repository.findStatusById(1L)).thenReturn(Optional.of(new TaskStatusView(Status.CANCELED, 2L)));
+
+        assertThatThrownBy(() -> service.done(1L))
+                .isInstanceOf(InvalidTaskStateException.class)
+                .hasMessage("Task cannot be done with status: CANCELED");
+    }
+
+    @Test
+    void shouldReportNotFoundWhenTransitionHitsNoRow() {
+        when(repository.transition(99L, Status.CANCELED, Set.of(Status.PENDING, Status.IN_PROGRESS), null)).thenReturn(0);
+        when(repository.findStatusById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.cancel(99L))
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    @Test
+    void shouldRejectUpdateWithStaleVersion() {
+        task.setVersion(4L);
+        when(repository.findById(1L)).thenReturn(Optional.of(task));
+        TaskRequestDTO dto = new TaskRequestDTO("Title", "Description test", LocalDate.now());
+
+        assertThatThrownBy(() -> service.update(1L, dto, 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        verify(repository, never()).save(any());
     }
 
+    @Test
+    void shouldReportPreconditionFailedWhenTransitionVersionIsStale() {
+        when(repository.transition(1L, Status.CANCELED, Set.of(Status.PENDING, Status.IN_PROGRESS), 3L)).thenReturn(0);
+        when(repository.findStatusById(1L)).thenReturn(Optional.of(new TaskStatusView(Status.PENDING, 5L)));
+
+        assertThatThrownBy(() -> service.cancel(1L, 3L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("current version is 5");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldQueryWithSpecificationWhenFiltered() {
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskFilterDTO filter = new TaskFilterDTO(List.of(Status.PENDING), null, null, true, null);
+        when(repository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(task)));
+
+        Page<TaskResponseDTO> result = service.findAll(filter, pageable);
+
+        assertThat(result.getContent()).hasSize(1);
+        verify(repository, never()).findAll(pageable);
+    }
+
+    @Test
+    void shouldUsePlainPagingWhenFilterIsEmpty() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(repository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(task)));
+
+        service.findAll(TaskFilterDTO.none(), pageable);
 
+        verify(repository).findAll(pageable);
+    }
 }
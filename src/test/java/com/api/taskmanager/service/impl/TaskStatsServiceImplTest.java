@@ -0,0 +1,117 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.TaskStatsDTO;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.repository.TenantDueDateCount;
+import com.api.taskmanager.repository.TenantStatusCount;
+import com.api.taskmanager.stats.InMemoryTaskStatsStore;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsServiceImplTest {
+
+    @Mock
+    private TaskRepository repository;
+
+    private InMemoryTaskStatsStore store;
+    private TaskStatsServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        store = new InMemoryTaskStatsStore();
+        service = new TaskStatsServiceImpl(store, repository, new TenantResolver("tenant"));
+    }
+
+    @AfterEach
+    void clearTenant() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldDeriveDueBucketsFromCounters() {
+        LocalDate today = LocalDate.now();
+        store.increment("acme", Map.of(Status.PENDING, 4L, Status.DONE, 2L),
+                Map.of(today.minusDays(3), 1L, today, 2L, today.plusDays(30), 1L));
+
+        TaskStatsDTO stats = service.stats();
+
+        assertThat(stats.byStatus()).containsEntry(Status.PENDING, 4L)
+                .containsEntry(Status.DONE, 2L)
+                .containsEntry(Status.CANCELED, 0L);
+        assertThat(stats.overdue()).isEqualTo(1L);
+        assertThat(stats.dueToday()).isEqualTo(2L);
+        assertThat(stats.dueThisWeek()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldReplaceDriftedCountersOnReconcile() {
+        LocalDate today = LocalDate.now();
+        store.increment("acme", Map.of(Status.PENDING, 9L), Map.of(today, 9L));
+        when(repository.countByTenantAndStatus()).thenReturn(List.of(
+                new TenantStatusCount("acme", Status.IN_PROGRESS, 3L), new TenantStatusCount("globex", Status.IN_PROGRESS, 1L)));
+        when(repository.countByTenantAndDueDate(Status.open())).thenReturn(List.of(
+                new TenantDueDateCount("acme", today, 3L), new TenantDueDateCount("globex", today, 1L)));
+
+        assertThat(service.reconcile()).isTrue();
+
+        TaskStatsDTO stats = service.stats();
+        assertThat(stats.byStatus()).containsEntry(Status.PENDING, 0L).containsEntry(Status.IN_PROGRESS, 4L);
+        assertThat(stats.dueToday()).isEqualTo(4L);
+        actAs("acme");
+        assertThat(service.stats().byStatus()).containsEntry(Status.PENDING, 0L).containsEntry(Status.IN_PROGRESS, 3L);
+    }
+
+    @Test
+    void shouldKeepCountersThatMoveWhileReconciling() {
+        LocalDate today = LocalDate.now();
+        store.increment("acme", Map.of(Status.PENDING, 9L), Map.of(today, 9L));
+        when(repository.countByTenantAndStatus()).thenAnswer(invocation -> {
+            // a task created by another request after the counts were taken
+            store.increment("acme", Map.of(Status.PENDING, 1L), Map.of(today, 1L));
+            return List.of(new TenantStatusCount("acme", Status.PENDING, 3L));
+        });
+        when(repository.countByTenantAndDueDate(Status.open())).thenReturn(List.of(
+                new TenantDueDateCount("acme", today, 3L)));
+
+        assertThat(service.reconcile()).isFalse();
+
+        assertThat(service.stats().byStatus()).containsEntry(Status.PENDING, 10L);
+    }
+
+    @Test
+    void shouldReadOwnCountersForTenant() {
+        LocalDate today = LocalDate.now();
+        store.increment("globex", Map.of(Status.PENDING, 48L), Map.of(today, 48L));
+        store.increment("acme", Map.of(Status.PENDING, 2L), Map.of(today, 2L));
+        actAs("acme");
+
+        TaskStatsDTO stats = service.stats();
+
+        assertThat(stats.byStatus()).containsEntry(Status.PENDING, 2L);
+        assertThat(stats.dueToday()).isEqualTo(2L);
+        verifyNoInteractions(repository);
+    }
+
+    private static void actAs(String tenant) {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").subject("user").claim("tenant", tenant).build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+}
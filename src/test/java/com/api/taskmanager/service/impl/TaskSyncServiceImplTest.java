@@ -0,0 +1,156 @@
+package com.api.taskmanager.service.impl;
+
+import com.api.taskmanager.dto.TaskSyncDTO;
+import com.api.taskmanager.exception.InvalidCursorException;
+import com.api.taskmanager.exception.SyncTokenExpiredException;
+import com.api.taskmanager.mapper.TaskMapper;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.model.TaskTombstone;
+import com.api.taskmanager.pagination.SyncToken;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.repository.TaskTombstoneRepository;
+import com.api.taskmanager.sync.ChangeSequenceWatermark;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSyncServiceImplTest {
+
+    private static final long HORIZON = 1000;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ChangeSequenceWatermark watermark;
+
+    private TaskSyncServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new TaskSyncServiceImpl(taskRepository, tombstoneRepository, new TaskMapper(), watermark, Duration.ofDays(30));
+        lenient().when(watermark.horizon()).thenReturn(HORIZON);
+    }
+
+    @Test
+    void shouldMergeChangesAndDeletesInSequenceOrder() {
+        String since = new SyncToken(10, Instant.now()).encode();
+        when(taskRepository.findChangedBetween(10, HORIZON, Limit.of(4))).thenReturn(List.of(task(1L, 11), task(2L, 14)));
+        when(tombstoneRepository.findDeletedBetween(10, HORIZON, Limit.of(4))).thenReturn(List.of(tombstone(3L, 12), tombstone(4L, 13)));
+
+        TaskSyncDTO result = service.changesSince(since, 3);
+
+        assertThat(result.changed()).extracting("id").containsExactly(1L);
+        assertThat(result.deleted()).containsExactly(3L, 4L);
+        assertThat(result.hasMore()).isTrue();
+        assertThat(SyncToken.decode(result.nextToken()).changeSeq()).isEqualTo(13);
+    }
+
+    @Test
+    void shouldSkipTombstonesOnInitialSync() {
+        when(taskRepository.findChangedBetween(0, HORIZON, Limit.of(501))).thenReturn(List.of(task(1L, 5)));
+
+        TaskSyncDTO result = service.changesSince(null, 500);
+
+        assertThat(result.changed()).hasSize(1);
+        assertThat(result.deleted()).isEmpty();
+        assertThat(result.hasMore()).isFalse();
+        assertThat(SyncToken.decode(result.nextToken()).changeSeq()).isEqualTo(5);
+        verifyNoInteractions(tombstoneRepository);
+    }
+
+    @Test
+    void shouldKeepPositionWhenNothingChanged() {
+        String since = new SyncToken(42, Instant.now()).encode();
+
+        TaskSyncDTO result = service.changesSince(since, 10);
+
+        assertThat(result.changed()).isEmpty();
+        assertThat(result.deleted()).isEmpty();
+        assertThat(SyncToken.decode(result.nextToken()).changeSeq()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldNotMoveCursorPastHorizon() {
+        when(watermark.horizon()).thenReturn(12L);
+        String since = new SyncToken(10, Instant.now()).encode();
+        when(taskRepository.findChangedBetween(10, 12, Limit.of(11))).thenReturn(List.of(task(1L, 11)));
+
+        TaskSyncDTO result = service.changesSince(since, 10);
+
+        assertThat(result.changed()).extracting("id").containsExactly(1L);
+        assertThat(SyncToken.decode(result.nextToken()).changeSeq()).isEqualTo(11);
+    }
+
+    @Test
+    void shouldWaitWhileHorizonIsBehindCursor() {
+        when(watermark.horizon()).thenReturn(40L);
+        String since = new SyncToken(42, Instant.now()).encode();
+
+        TaskSyncDTO result = service.changesSince(since, 10);
+
+        assertThat(result.changed()).isEmpty();
+        assertThat(result.hasMore()).isFalse();
+        assertThat(SyncToken.decode(result.nextToken()).changeSeq()).isEqualTo(42);
+        verifyNoInteractions(taskRepository, tombstoneRepository);
+    }
+
+    @Test
+    void shouldRejectTokenOlderThanTombstoneRetention() {
+        String since = new SyncToken(42, Instant.now().minus(Duration.ofDays(31))).encode();
+
+        assertThatThrownBy(() -> service.changesSince(since, 10)).isInstanceOf(SyncTokenExpiredException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> service.changesSince("not-a-token", 10)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void shouldPruneTombstonesPastRetention() {
+        Instant now = Instant.parse("2024-05-01T00:00:00Z");
+        when(tombstoneRepository.deleteAllDeletedBefore(any())).thenReturn(3);
+
+        assertThat(service.pruneTombstones(now)).isEqualTo(3);
+        verify(tombstoneRepository).deleteAllDeletedBefore(Instant.parse("2024-04-01T00:00:00Z"));
+    }
+
+    private static Task task(Long id, long changeSeq) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDueDate(LocalDate.now());
+        task.setStatus(Status.PENDING);
+        task.setVersion(0L);
+        task.setChangeSeq(changeSeq);
+        return task;
+    }
+
+    private static TaskTombstone tombstone(Long taskId, long changeSeq) {
+        TaskTombstone tombstone = new TaskTombstone();
+        tombstone.setChangeSeq(changeSeq);
+        tombstone.setTaskId(taskId);
+        tombstone.setDeletedAt(Instant.now());
+        return tombstone;
+    }
+}
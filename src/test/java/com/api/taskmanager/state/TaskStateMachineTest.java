@@ -5,8 +5,12 @@ import com.api.taskmanager.model.Status;
 import com.api.taskmanager.model.Task;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class TaskStateMachineTest {
@@ -92,4 +96,28 @@ public class TaskStateMachineTest {
 
         assertEquals("Task cannot be cancel with status: DONE", exception.getMessage());
     }
+
+    @Test
+    void shouldLookUpTransitionsInTable() {
+        assertTrue(machine.canTransition(Status.PENDING, Status.CANCELED));
+        assertFalse(machine.canTransition(Status.DONE, Status.IN_PROGRESS));
+        assertFalse(machine.canTransition(Status.PENDING, Status.PENDING));
+        assertEquals(Set.of(Status.IN_PROGRESS, Status.CANCELED), machine.targetsOf(Status.PENDING));
+        assertEquals(Set.of(), machine.targetsOf(Status.CANCELED));
+        assertEquals(Set.of(Status.PENDING, Status.IN_PROGRESS), machine.sourcesOf(Status.CANCELED));
+    }
+
+    @Test
+    void shouldRejectTransitionBackToPending() {
+        Task task = new Task();
+        task.setStatus(Status.IN_PROGRESS);
+
+        InvalidTaskStateException exception = assertThrows(
+                InvalidTaskStateException.class,
+                () -> machine.transition(task, Status.PENDING)
+        );
+
+        assertEquals("Task cannot be moved to PENDING with status: IN_PROGRESS", exception.getMessage());
+        assertEquals(Status.IN_PROGRESS, task.getStatus());
+    }
 }
@@ -0,0 +1,96 @@
+package com.api.taskmanager.stats;
+
+import com.api.taskmanager.dto.TaskResponseDTO;
+import com.api.taskmanager.event.TaskChangedEvent;
+import com.api.taskmanager.event.TasksTransitionedEvent;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.tenant.TenantResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class TaskStatsUpdaterTest {
+
+    private final LocalDate due = LocalDate.now().plusDays(1);
+
+    private InMemoryTaskStatsStore store;
+    private TaskStatsUpdater updater;
+
+    @BeforeEach
+    void setup() {
+        store = new InMemoryTaskStatsStore();
+        updater = new TaskStatsUpdater(store, new TenantResolver("tenant"));
+    }
+
+    @Test
+    void shouldCountCreatedTaskByStatusAndDueDate() {
+        updater.onTaskChanged(TaskChangedEvent.created(task(Status.PENDING, due)));
+
+        TaskStatsSnapshot snapshot = store.read();
+        assertThat(snapshot.byStatus()).containsEntry(Status.PENDING, 1L);
+        assertThat(snapshot.openByDueDate()).containsEntry(due, 1L);
+    }
+
+    @Test
+    void shouldMoveCountsOnTransitionAndDropClosedDueDates() {
+        updater.onTaskChanged(TaskChangedEvent.created(task(Status.IN_PROGRESS, due)));
+        updater.onTaskChanged(TaskChangedEvent.transitioned(task(Status.IN_PROGRESS, due), task(Status.DONE, due)));
+
+        TaskStatsSnapshot snapshot = store.read();
+        assertThat(snapshot.byStatus()).containsOnlyKeys(Status.DONE);
+        assertThat(snapshot.openByDueDate()).isEmpty();
+    }
+
+    @Test
+    void shouldMoveDueDateCountOnUpdate() {
+        LocalDate later = due.plusDays(3);
+        updater.onTaskChanged(TaskChangedEvent.created(task(Status.PENDING, due)));
+        updater.onTaskChanged(TaskChangedEvent.updated(task(Status.PENDING, due), task(Status.PENDING, later)));
+
+        TaskStatsSnapshot snapshot = store.read();
+        assertThat(snapshot.byStatus()).containsEntry(Status.PENDING, 1L);
+        assertThat(snapshot.openByDueDate()).containsOnlyKeys(later);
+    }
+
+    @Test
+    void shouldForgetDeletedTask() {
+        updater.onTaskChanged(TaskChangedEvent.created(task(Status.PENDING, due)));
+        updater.onTaskChanged(TaskChangedEvent.deleted(task(Status.PENDING, due)));
+
+        assertThat(store.read().byStatus()).isEmpty();
+        assertThat(store.read().openByDueDate()).isEmpty();
+    }
+
+    @Test
+    void shouldCountBackgroundChangeUnderTaskTenant() {
+        updater.onTaskChanged(TaskChangedEvent.created(task(Status.PENDING, due)).forTenant("acme"));
+
+        assertThat(store.read("acme").byStatus()).containsEntry(Status.PENDING, 1L);
+        assertThat(store.read("globex").byStatus()).isEmpty();
+        assertThat(store.read().byStatus()).containsEntry(Status.PENDING, 1L);
+    }
+
+    @Test
+    void shouldApplyTransitionedChunkPerTenant() {
+        updater.onTaskChanged(TaskChangedEvent.created(task(Status.PENDING, due)).forTenant("acme"));
+        updater.onTaskChanged(TaskChangedEvent.created(task(Status.PENDING, due)).forTenant("acme"));
+        updater.onTaskChanged(TaskChangedEvent.created(task(Status.IN_PROGRESS, due)).forTenant("globex"));
+
+        updater.onTasksTransitioned(new TasksTransitionedEvent(Status.CANCELED, List.of(
+                new TasksTransitionedEvent.Transitioned("acme", task(Status.PENDING, due)),
+                new TasksTransitionedEvent.Transitioned("globex", task(Status.IN_PROGRESS, due)))));
+
+        assertThat(store.read("acme").byStatus()).containsOnly(entry(Status.PENDING, 1L), entry(Status.CANCELED, 1L));
+        assertThat(store.read("globex").byStatus()).containsOnly(entry(Status.CANCELED, 1L));
+        assertThat(store.read().openByDueDate()).containsOnly(entry(due, 1L));
+    }
+
+    private TaskResponseDTO task(Status status, LocalDate dueDate) {
+        return new TaskResponseDTO(1L, "Task", "Description", status, dueDate, 0L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.api.taskmanager.sync;
+
+import com.api.taskmanager.due.InMemorySweepLease;
+import com.api.taskmanager.due.SweepLease;
+import com.api.taskmanager.model.Status;
+import com.api.taskmanager.model.Task;
+import com.api.taskmanager.repository.TaskRepository;
+import com.api.taskmanager.tenant.TenantResolver;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ChangeSequenceBackfill.class, TenantResolver.class, InMemorySweepLease.class})
+@TestPropertySource(properties = "taskmanager.sync.backfill-batch-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChangeSequenceBackfillTest {
+
+    @Autowired
+    private ChangeSequenceBackfill backfill;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldAssignChangeSeqToTasksWrittenBeforeDeltaSync() {
+        for (int i = 0; i < 5; i++) {
+            repository.save(pendingTask());
+        }
+        clearChangeSeqs();
+
+        backfill.backfill();
+
+        assertThat(repository.findAll()).extracting(Task::getChangeSeq).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldLeaveTasksToTheLeaseHolder() {
+        repository.save(pendingTask());
+        clearChangeSeqs();
+        ChangeSequenceBackfill follower = new ChangeSequenceBackfill(repository, new SweepLease() {
+            @Override
+            public boolean tryAcquire() {
+                return false;
+            }
+
+            @Override
+            public void release() {
+            }
+        }, transactionManager, 2);
+
+        follower.backfill();
+
+        assertThat(repository.findAll()).extracting(Task::getChangeSeq).containsOnlyNulls();
+    }
+
+    private void clearChangeSeqs() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.createNativeQuery("update tasks set change_seq = null").executeUpdate());
+    }
+
+    @Test
+    void shouldDrawIncreasingValuesForTheWatermark() {
+        long first = repository.nextChangeSeq();
+
+        assertThat(repository.nextChangeSeq()).isGreaterThan(first);
+    }
+
+    private Task pendingTask() {
+        Task task = new Task();
+        task.setTitle("Legacy");
+        task.setDueDate(LocalDate.now());
+        task.setStatus(Status.PENDING);
+        return task;
+    }
+}
@@ -0,0 +1,81 @@
+package com.api.taskmanager.sync;
+
+import com.api.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeSequenceWatermarkTest {
+
+    private static final Instant START = Instant.parse("2030-03-01T09:00:00Z");
+
+    @Mock
+    private TaskRepository repository;
+
+    private final MutableClock clock = new MutableClock();
+
+    private ChangeSequenceWatermark watermark;
+
+    @BeforeEach
+    void setup() {
+        watermark = new ChangeSequenceWatermark(repository, Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    void shouldHoldAtZeroUntilASampleIsOldEnough() {
+        when(repository.nextChangeSeq()).thenReturn(100L);
+        clock.now = START;
+        watermark.sample();
+
+        clock.now = START.plusSeconds(9);
+        assertThat(watermark.horizon()).isZero();
+
+        clock.now = START.plusSeconds(10);
+        assertThat(watermark.horizon()).isEqualTo(99);
+    }
+
+    @Test
+    void shouldFollowTheNewestSampleOlderThanTheLag() {
+        when(repository.nextChangeSeq()).thenReturn(100L, 200L, 300L);
+        for (int i = 0; i < 3; i++) {
+            clock.now = START.plusSeconds(i * 5L);
+            watermark.sample();
+        }
+
+        clock.now = START.plusSeconds(16);
+
+        assertThat(watermark.horizon()).isEqualTo(199);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = START;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}